@@ -89,6 +89,7 @@ CREATE TABLE IF NOT EXISTS volunteer_opportunities (
     urgency ENUM('LOW', 'MEDIUM', 'HIGH') DEFAULT 'MEDIUM',
     image_url VARCHAR(500),
     is_active BOOLEAN DEFAULT TRUE,
+    status ENUM('PENDING_APPROVAL', 'ACTIVE', 'REJECTED') NOT NULL DEFAULT 'PENDING_APPROVAL',
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
     FOREIGN KEY (ngo_id) REFERENCES ngos(id) ON DELETE CASCADE
@@ -127,7 +128,8 @@ CREATE TABLE IF NOT EXISTS volunteer_applications (
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
     FOREIGN KEY (volunteer_id) REFERENCES users(id) ON DELETE CASCADE,
-    FOREIGN KEY (opportunity_id) REFERENCES volunteer_opportunities(id) ON DELETE CASCADE
+    FOREIGN KEY (opportunity_id) REFERENCES volunteer_opportunities(id) ON DELETE CASCADE,
+    CONSTRAINT uk_volunteer_applications_volunteer_opportunity UNIQUE (volunteer_id, opportunity_id)
 );
 
 -- Volunteer skills table
@@ -141,17 +143,28 @@ CREATE TABLE IF NOT EXISTS volunteer_skills (
 -- Indexes for better performance
 CREATE INDEX idx_users_email ON users(email);
 CREATE INDEX idx_users_user_type ON users(user_type);
+CREATE INDEX idx_users_type_status_id ON users(user_type, is_blocked, email_verified, id);
+CREATE INDEX idx_users_full_name ON users(full_name);
 CREATE INDEX idx_ngos_cause ON ngos(cause);
 CREATE INDEX idx_ngos_location ON ngos(location);
 CREATE INDEX idx_ngos_urgency ON ngos(urgency);
+CREATE INDEX idx_ngos_status_id ON ngos(status, id);
 CREATE INDEX idx_donations_donor_id ON donations(donor_id);
 CREATE INDEX idx_donations_ngo_id ON donations(ngo_id);
 CREATE INDEX idx_donations_status ON donations(status);
+CREATE INDEX idx_donations_ngo_donation_date ON donations(ngo_id, donation_date);
+CREATE INDEX idx_donations_donor_donation_date ON donations(donor_id, donation_date);
+CREATE INDEX idx_donations_donation_date ON donations(donation_date, id);
+CREATE INDEX idx_donations_donor_created_at ON donations(donor_id, created_at);
 CREATE INDEX idx_volunteer_opportunities_cause ON volunteer_opportunities(cause);
 CREATE INDEX idx_volunteer_opportunities_location ON volunteer_opportunities(location);
 CREATE INDEX idx_volunteer_opportunities_urgency ON volunteer_opportunities(urgency);
+CREATE INDEX idx_volunteer_opportunities_status_id ON volunteer_opportunities(status, id);
+CREATE INDEX idx_volunteer_opportunities_status_cause ON volunteer_opportunities(status, cause);
 CREATE INDEX idx_volunteer_applications_volunteer_id ON volunteer_applications(volunteer_id);
+CREATE INDEX idx_volunteer_applications_volunteer_applied ON volunteer_applications(volunteer_id, applied_date);
 CREATE INDEX idx_volunteer_applications_opportunity_id ON volunteer_applications(opportunity_id);
+CREATE INDEX idx_volunteer_applications_opportunity_applied ON volunteer_applications(opportunity_id, applied_date);
 CREATE INDEX idx_volunteer_applications_status ON volunteer_applications(status);
 
 -- Insert sample data
@@ -270,10 +283,46 @@ CREATE TABLE IF NOT EXISTS ngo_management_actions (
     FOREIGN KEY (admin_id) REFERENCES users(id) ON DELETE CASCADE
 );
 
+-- User management actions table
+CREATE TABLE IF NOT EXISTS user_management_actions (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    admin_id BIGINT,
+    action_type VARCHAR(30) NOT NULL, -- 'BLOCK', 'UNBLOCK', 'PASSWORD_RESET', etc.
+    reason TEXT,
+    previous_status VARCHAR(50),
+    new_status VARCHAR(50),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Daily donation rollup per NGO and status
+CREATE TABLE IF NOT EXISTS donation_daily_rollups (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    ngo_id BIGINT NOT NULL,
+    rollup_date DATE NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    donation_count BIGINT NOT NULL,
+    total_amount DOUBLE NOT NULL,
+    updated_at DATETIME NOT NULL,
+    UNIQUE KEY uk_donation_rollups_ngo_date_status (ngo_id, rollup_date, status)
+);
+
+-- Striped running donation totals per NGO and donor (see DonationTotalsService)
+CREATE TABLE IF NOT EXISTS donation_total_shards (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    owner_type VARCHAR(10) NOT NULL,
+    owner_id BIGINT NOT NULL,
+    shard INT NOT NULL,
+    total_amount DOUBLE NOT NULL,
+    updated_at DATETIME NOT NULL,
+    UNIQUE KEY uk_donation_total_shards_owner_shard (owner_type, owner_id, shard)
+);
+
 -- Platform statistics table for caching dashboard data
 CREATE TABLE IF NOT EXISTS platform_statistics (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
     stat_date DATE NOT NULL,
+    granularity VARCHAR(10) NOT NULL DEFAULT 'DAILY',
     total_ngos_registered INT DEFAULT 0,
     total_ngos_verified INT DEFAULT 0,
     total_ngos_pending INT DEFAULT 0,
@@ -286,7 +335,7 @@ CREATE TABLE IF NOT EXISTS platform_statistics (
     suspicious_activities INT DEFAULT 0,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
-    UNIQUE KEY unique_stat_date (stat_date)
+    UNIQUE KEY uk_platform_stats_date_granularity (stat_date, granularity)
 );
 
 -- Add indexes for admin tables
@@ -294,12 +343,19 @@ CREATE INDEX idx_ngo_verification_status ON ngo_verification_requests(status);
 CREATE INDEX idx_ngo_verification_submitted ON ngo_verification_requests(submitted_date);
 CREATE INDEX idx_admin_activity_admin_id ON admin_activity_logs(admin_id);
 CREATE INDEX idx_admin_activity_type ON admin_activity_logs(activity_type);
+CREATE INDEX idx_ngo_management_actions_ngo_id_id ON ngo_management_actions(ngo_id, id);
+CREATE INDEX idx_ngo_management_actions_admin_id ON ngo_management_actions(admin_id);
+CREATE INDEX idx_user_management_actions_user_id_id ON user_management_actions(user_id, id);
+CREATE INDEX idx_user_management_actions_admin_id ON user_management_actions(admin_id);
 CREATE INDEX idx_system_alerts_type ON system_alerts(alert_type);
 CREATE INDEX idx_system_alerts_priority ON system_alerts(priority);
 CREATE INDEX idx_system_alerts_resolved ON system_alerts(is_resolved);
+CREATE INDEX idx_system_alerts_type_resolved_created ON system_alerts(alert_type, is_resolved, created_at);
 CREATE INDEX idx_fund_reports_ngo_id ON fund_utilization_reports(ngo_id);
 CREATE INDEX idx_fund_reports_status ON fund_utilization_reports(status);
-CREATE INDEX idx_platform_stats_date ON platform_statistics(stat_date);
+CREATE INDEX idx_fund_util_reports_ngo_date ON fund_utilization_reports(ngo_id, report_date);
+CREATE INDEX idx_platform_stats_granularity_date ON platform_statistics(granularity, stat_date);
+CREATE INDEX idx_donation_rollups_date ON donation_daily_rollups(rollup_date);
 
 -- Insert sample verification requests and alerts
 INSERT INTO ngo_verification_requests (ngo_id, status, submitted_date) VALUES
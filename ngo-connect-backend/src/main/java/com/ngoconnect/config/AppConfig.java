@@ -3,8 +3,10 @@ package com.ngoconnect.config;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @Configuration
+@EnableScheduling
 public class AppConfig {
     
     @Bean
@@ -12,6 +14,4 @@ public class AppConfig {
     public Boolean disableEmailVerification() {
         return true;
     }
-    
-    // ModelMapper configuration moved to ModelMapperConfig
 }
@@ -6,6 +6,8 @@ import org.springframework.boot.ApplicationRunner;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 public class DatabaseInitializer implements ApplicationRunner {
 
@@ -47,5 +49,35 @@ public class DatabaseInitializer implements ApplicationRunner {
             // Don't fail the application startup, just log the error
             e.printStackTrace();
         }
+
+        fixPlatformStatisticsGranularity();
+    }
+
+    /**
+     * platform_statistics used to hold one row per date; rollups add weekly and
+     * monthly rows, so legacy rows become DAILY and the single-column unique
+     * key on stat_date (superseded by stat_date + granularity) is dropped.
+     */
+    private void fixPlatformStatisticsGranularity() {
+        try {
+            int updatedRows = jdbcTemplate.update(
+                    "UPDATE platform_statistics SET granularity = 'DAILY' WHERE granularity IS NULL");
+            if (updatedRows > 0) {
+                System.out.println("Marked " + updatedRows + " platform statistics rows as DAILY.");
+            }
+
+            List<String> legacyKeys = jdbcTemplate.queryForList(
+                    "SELECT index_name FROM information_schema.statistics " +
+                            "WHERE table_schema = DATABASE() AND table_name = 'platform_statistics' " +
+                            "AND non_unique = 0 AND index_name <> 'PRIMARY' " +
+                            "GROUP BY index_name HAVING COUNT(*) = 1 AND MAX(column_name) = 'stat_date'",
+                    String.class);
+            for (String key : legacyKeys) {
+                jdbcTemplate.execute("ALTER TABLE platform_statistics DROP INDEX `" + key + "`");
+                System.out.println("Dropped legacy unique key " + key + " on platform_statistics.stat_date");
+            }
+        } catch (Exception e) {
+            System.err.println("Error fixing platform statistics granularity: " + e.getMessage());
+        }
     }
 }
\ No newline at end of file
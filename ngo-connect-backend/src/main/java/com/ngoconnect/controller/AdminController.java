@@ -1,13 +1,24 @@
 package com.ngoconnect.controller;
 
 import com.ngoconnect.dto.AdminDashboardDTO;
-import com.ngoconnect.dto.DonationDTO;
+import com.ngoconnect.dto.CursorPage;
+import com.ngoconnect.dto.NGOManagementDTO;
+import com.ngoconnect.entity.DonationStatus;
+import com.ngoconnect.entity.PaymentMethod;
+import com.ngoconnect.entity.StatisticsGranularity;
 import com.ngoconnect.entity.SystemAlert;
 import com.ngoconnect.service.AdminService;
+import com.ngoconnect.service.DonationExportService;
+import com.ngoconnect.service.DonationRollupService;
+import com.ngoconnect.service.FundComplianceService;
+import com.ngoconnect.service.PlatformStatisticsService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Map;
@@ -21,6 +32,18 @@ public class AdminController {
     @Autowired
     private AdminService adminService;
 
+    @Autowired
+    private PlatformStatisticsService platformStatisticsService;
+
+    @Autowired
+    private FundComplianceService fundComplianceService;
+
+    @Autowired
+    private DonationRollupService donationRollupService;
+
+    @Autowired
+    private DonationExportService donationExportService;
+
     /**
      * Get admin dashboard data with overview, alerts, and pending verifications
      */
@@ -161,23 +184,72 @@ public class AdminController {
     }
 
     /**
-     * Get all donations (admin-only)
+     * Admin donation grid, newest first, one page at a time. Optional filters:
+     * status, payment method, amount range and date range (inclusive).
      */
     @GetMapping("/donations")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<DonationDTO>> getAllDonations() {
+    public ResponseEntity<Map<String, Object>> getDonations(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String paymentMethod,
+            @RequestParam(required = false) Double minAmount,
+            @RequestParam(required = false) Double maxAmount,
+            @RequestParam(required = false) String startDate,
+            @RequestParam(required = false) String endDate,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
         try {
-            System.out.println("Admin donations endpoint called");
-            List<DonationDTO> allDonations = adminService.getAllDonations();
-            System.out.println("Returning " + allDonations.size() + " donations to frontend");
-            return ResponseEntity.ok(allDonations);
+            DonationStatus donationStatus = status != null ? DonationStatus.valueOf(status.toUpperCase()) : null;
+            PaymentMethod method = paymentMethod != null ? PaymentMethod.valueOf(paymentMethod.toUpperCase()) : null;
+            java.time.LocalDate start = startDate != null ? java.time.LocalDate.parse(startDate) : null;
+            java.time.LocalDate end = endDate != null ? java.time.LocalDate.parse(endDate) : null;
+            return ResponseEntity.ok(adminService.getDonations(donationStatus, method, minAmount, maxAmount, start,
+                    end, page, size));
+        } catch (IllegalArgumentException | java.time.format.DateTimeParseException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
             System.err.println("Error fetching donations: " + e.getMessage());
-            e.printStackTrace();
             return ResponseEntity.internalServerError().build();
         }
     }
 
+    /**
+     * Stream donations as CSV or NDJSON for auditors. Optional filters: date
+     * range (inclusive, by donation date), NGO and status.
+     */
+    @GetMapping("/donations/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> exportDonations(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) String startDate,
+            @RequestParam(required = false) String endDate,
+            @RequestParam(required = false) Long ngoId,
+            @RequestParam(required = false) String status) {
+        DonationExportService.Format exportFormat;
+        java.time.LocalDate start;
+        java.time.LocalDate end;
+        DonationStatus donationStatus;
+        try {
+            exportFormat = DonationExportService.Format.fromString(format);
+            start = startDate != null ? java.time.LocalDate.parse(startDate) : null;
+            end = endDate != null ? java.time.LocalDate.parse(endDate) : null;
+            if (start != null && end != null && end.isBefore(start)) {
+                throw new IllegalArgumentException("endDate must not be before startDate");
+            }
+            donationStatus = status != null ? DonationStatus.valueOf(status.toUpperCase()) : null;
+        } catch (IllegalArgumentException | java.time.format.DateTimeParseException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+
+        StreamingResponseBody body = out -> donationExportService.export(exportFormat, start, end, ngoId,
+                donationStatus, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"donations." + exportFormat.getExtension() + "\"")
+                .body(body);
+    }
+
     /**
      * Volunteer opportunity admin endpoints
      */
@@ -285,6 +357,8 @@ public class AdminController {
             java.time.LocalDate end = java.time.LocalDate.parse(endDate);
             Map<String, Object> report = adminService.getDonationReportByNGO(ngoId, start, end);
             return ResponseEntity.ok(report);
+        } catch (IllegalArgumentException | java.time.format.DateTimeParseException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
             System.err.println("Error generating NGO donation report: " + e.getMessage());
             return ResponseEntity.internalServerError().build();
@@ -302,12 +376,100 @@ public class AdminController {
             java.time.LocalDate end = java.time.LocalDate.parse(endDate);
             Map<String, Object> report = adminService.getDonationReportByCause(cause, start, end);
             return ResponseEntity.ok(report);
+        } catch (IllegalArgumentException | java.time.format.DateTimeParseException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
             System.err.println("Error generating cause donation report: " + e.getMessage());
             return ResponseEntity.internalServerError().build();
         }
     }
 
+    /**
+     * Recompute the daily donation rollup from the donations table (backfill)
+     */
+    @PostMapping("/donations/rollups/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> rebuildDonationRollups() {
+        try {
+            int rows = donationRollupService.rebuild();
+            return ResponseEntity.ok(Map.of(
+                    "success", true,
+                    "rollupRows", rows));
+        } catch (Exception e) {
+            System.err.println("Error rebuilding donation rollups: " + e.getMessage());
+            return ResponseEntity.badRequest().body(Map.of(
+                    "success", false,
+                    "message", "Failed to rebuild donation rollups: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Donations behind an NGO report, newest first, one page at a time
+     */
+    @GetMapping("/donations/report/ngo/{ngoId}/donations")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> getDonationReportDonationsByNGO(
+            @PathVariable Long ngoId,
+            @RequestParam String startDate,
+            @RequestParam String endDate,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
+        try {
+            java.time.LocalDate start = java.time.LocalDate.parse(startDate);
+            java.time.LocalDate end = java.time.LocalDate.parse(endDate);
+            return ResponseEntity.ok(adminService.getDonationReportDonationsByNGO(ngoId, start, end, page, size));
+        } catch (IllegalArgumentException | java.time.format.DateTimeParseException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            System.err.println("Error fetching NGO report donations: " + e.getMessage());
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * Donations behind a cause report, newest first, one page at a time
+     */
+    @GetMapping("/donations/report/cause/{cause}/donations")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> getDonationReportDonationsByCause(
+            @PathVariable String cause,
+            @RequestParam String startDate,
+            @RequestParam String endDate,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
+        try {
+            java.time.LocalDate start = java.time.LocalDate.parse(startDate);
+            java.time.LocalDate end = java.time.LocalDate.parse(endDate);
+            return ResponseEntity.ok(adminService.getDonationReportDonationsByCause(cause, start, end, page, size));
+        } catch (IllegalArgumentException | java.time.format.DateTimeParseException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            System.err.println("Error fetching cause report donations: " + e.getMessage());
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * NGOs with donations but no fund report in the window (default: last 3 months)
+     */
+    @GetMapping("/compliance/missing-fund-reports")
+    public ResponseEntity<Map<String, Object>> getMissingFundReports(
+            @RequestParam(required = false) String startDate,
+            @RequestParam(required = false) String endDate,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            java.time.LocalDate start = startDate != null ? java.time.LocalDate.parse(startDate) : null;
+            java.time.LocalDate end = endDate != null ? java.time.LocalDate.parse(endDate) : null;
+            return ResponseEntity.ok(fundComplianceService.getMissingFundReports(start, end, page, size));
+        } catch (IllegalArgumentException | java.time.format.DateTimeParseException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            System.err.println("Error detecting missing fund reports: " + e.getMessage());
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
     @GetMapping("/donations/suspicious-patterns")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<List<Map<String, Object>>> flagUnusualDonationPatterns() {
@@ -325,10 +487,18 @@ public class AdminController {
      */
     @GetMapping("/volunteer-opportunities/participation-report")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Map<String, Object>> getVolunteerParticipationReport() {
+    public ResponseEntity<Map<String, Object>> getVolunteerParticipationReport(
+            @RequestParam(required = false) String startDate,
+            @RequestParam(required = false) String endDate,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
         try {
-            Map<String, Object> report = adminService.getVolunteerParticipationReport();
+            java.time.LocalDate start = startDate != null ? java.time.LocalDate.parse(startDate) : null;
+            java.time.LocalDate end = endDate != null ? java.time.LocalDate.parse(endDate) : null;
+            Map<String, Object> report = adminService.getVolunteerParticipationReport(start, end, page, size);
             return ResponseEntity.ok(report);
+        } catch (IllegalArgumentException | java.time.format.DateTimeParseException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
             System.err.println("Error generating volunteer participation report: " + e.getMessage());
             return ResponseEntity.internalServerError().build();
@@ -367,6 +537,49 @@ public class AdminController {
         }
     }
 
+    /**
+     * Platform statistics trend, downsampled to at most maxPoints points.
+     * granularity (DAILY, WEEKLY, MONTHLY) is picked from the range when omitted.
+     */
+    @GetMapping("/statistics/trend")
+    public ResponseEntity<Map<String, Object>> getStatisticsTrend(
+            @RequestParam String startDate,
+            @RequestParam String endDate,
+            @RequestParam(required = false) String granularity,
+            @RequestParam(required = false) Integer maxPoints) {
+        try {
+            java.time.LocalDate start = java.time.LocalDate.parse(startDate);
+            java.time.LocalDate end = java.time.LocalDate.parse(endDate);
+            StatisticsGranularity resolution = granularity != null
+                    ? StatisticsGranularity.valueOf(granularity.toUpperCase())
+                    : null;
+            return ResponseEntity.ok(platformStatisticsService.getTrend(start, end, resolution, maxPoints));
+        } catch (IllegalArgumentException | java.time.format.DateTimeParseException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            System.err.println("Error fetching statistics trend: " + e.getMessage());
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * Recompute weekly and monthly statistics rollups from the daily snapshots
+     */
+    @PostMapping("/statistics/rollups/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuildStatisticsRollups() {
+        try {
+            int rows = platformStatisticsService.rebuildRollups();
+            return ResponseEntity.ok(Map.of(
+                    "success", true,
+                    "rollupRows", rows));
+        } catch (Exception e) {
+            System.err.println("Error rebuilding statistics rollups: " + e.getMessage());
+            return ResponseEntity.badRequest().body(Map.of(
+                    "success", false,
+                    "message", "Failed to rebuild statistics rollups: " + e.getMessage()));
+        }
+    }
+
     /**
      * Migrate existing NGOs to have proper status values
      */
@@ -390,16 +603,19 @@ public class AdminController {
     // NGO Management Endpoints
 
     /**
-     * Get all NGOs for management (with status filtering)
+     * Get NGOs for management (with status filtering), keyset paginated.
+     * Pass the returned nextCursor as cursor to fetch the next page.
      */
     @GetMapping("/ngos")
-    public ResponseEntity<List<Map<String, Object>>> getAllNGOs(
+    public ResponseEntity<?> getAllNGOs(
             @RequestParam(required = false) String status,
-            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "20") int size) {
         try {
-            List<Map<String, Object>> ngos = adminService.getAllNGOsForManagement(status, page, size);
+            CursorPage<NGOManagementDTO> ngos = adminService.getNGOsForManagement(status, cursor, size);
             return ResponseEntity.ok(ngos);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
             System.err.println("Error fetching NGOs: " + e.getMessage());
             return ResponseEntity.internalServerError().build();
@@ -548,39 +764,118 @@ public class AdminController {
     }
 
     /**
-     * Get NGO management action history
+     * Get NGO management action history, newest first (keyset paginated)
      */
     @GetMapping("/ngos/{ngoId}/actions")
-    public ResponseEntity<List<Map<String, Object>>> getNGOActionHistory(@PathVariable Long ngoId) {
+    public ResponseEntity<?> getNGOActionHistory(
+            @PathVariable Long ngoId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
         try {
-            List<Map<String, Object>> actions = adminService.getNGOActionHistory(ngoId);
-            return ResponseEntity.ok(actions);
+            return ResponseEntity.ok(adminService.getNGOActionHistory(ngoId, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
             System.err.println("Error fetching NGO action history: " + e.getMessage());
             return ResponseEntity.internalServerError().build();
         }
     }
 
+    /**
+     * Apply one action to many NGOs. Body: action (APPROVE, REJECT, SUSPEND,
+     * DEACTIVATE, REACTIVATE), adminId, notes, and either ngoIds or status to
+     * act on every NGO currently in that status. Returns a per-id outcome.
+     */
+    @PostMapping("/ngos/bulk-actions")
+    public ResponseEntity<Map<String, Object>> bulkModerateNGOs(@RequestBody Map<String, Object> request) {
+        try {
+            Long adminId = ((Number) request.get("adminId")).longValue();
+            Map<String, Object> result = adminService.bulkModerateNGOs((String) request.get("action"),
+                    toIdList(request.get("ngoIds")), (String) request.get("status"), adminId,
+                    (String) request.get("notes"));
+            return ResponseEntity.ok(result);
+        } catch (Exception e) {
+            System.err.println("Error in bulk NGO action: " + e.getMessage());
+            return ResponseEntity.badRequest().body(Map.of(
+                    "success", false,
+                    "message", "Failed to apply bulk NGO action: " + e.getMessage()));
+        }
+    }
+
     // User Management Endpoints
 
     /**
-     * Get all users for management (with filtering)
+     * Search users for management by type, status and name/email prefix, keyset
+     * paginated. Pass includeTotal=true to also count all matches.
      */
     @GetMapping("/users")
-    public ResponseEntity<List<Map<String, Object>>> getAllUsers(
+    public ResponseEntity<?> getAllUsers(
             @RequestParam(required = false) String userType,
             @RequestParam(required = false) String status,
-            @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
         try {
-            List<Map<String, Object>> users = adminService.getAllUsersForManagement(userType, status, page, size);
+            CursorPage<Map<String, Object>> users = adminService.searchUsersForManagement(userType, status, search,
+                    cursor, size, includeTotal);
             return ResponseEntity.ok(users);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
             System.err.println("Error fetching users: " + e.getMessage());
             return ResponseEntity.internalServerError().build();
         }
     }
 
+    /**
+     * Get user management action history, newest first (keyset paginated)
+     */
+    @GetMapping("/users/{userId}/actions")
+    public ResponseEntity<?> getUserActionHistory(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(adminService.getUserActionHistory(userId, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            System.err.println("Error fetching user action history: " + e.getMessage());
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * Block or unblock many users. Body: action (BLOCK or UNBLOCK), adminId,
+     * userIds and reason. Returns a per-id outcome.
+     */
+    @PostMapping("/users/bulk-actions")
+    public ResponseEntity<Map<String, Object>> bulkModerateUsers(@RequestBody Map<String, Object> request) {
+        try {
+            Long adminId = ((Number) request.get("adminId")).longValue();
+            Map<String, Object> result = adminService.bulkModerateUsers((String) request.get("action"),
+                    toIdList(request.get("userIds")), adminId, (String) request.get("reason"));
+            return ResponseEntity.ok(result);
+        } catch (Exception e) {
+            System.err.println("Error in bulk user action: " + e.getMessage());
+            return ResponseEntity.badRequest().body(Map.of(
+                    "success", false,
+                    "message", "Failed to apply bulk user action: " + e.getMessage()));
+        }
+    }
+
+    private List<Long> toIdList(Object ids) {
+        if (ids == null) {
+            return null;
+        }
+        List<Long> result = new java.util.ArrayList<>();
+        for (Object id : (List<?>) ids) {
+            result.add(((Number) id).longValue());
+        }
+        return result;
+    }
+
     /**
      * Get specific user details for review
      */
@@ -1,7 +1,9 @@
 package com.ngoconnect.controller;
 
+import com.ngoconnect.dto.CursorPage;
 import com.ngoconnect.dto.DonationDTO;
 import com.ngoconnect.dto.NGODonationResponse;
+import com.ngoconnect.service.DonationIngestionService;
 import com.ngoconnect.service.DonationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -10,9 +12,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
+import com.ngoconnect.entity.DonationStatus;
 import com.ngoconnect.entity.User;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/donations")
@@ -21,6 +25,7 @@ public class DonationController {
     private static final Logger logger = LoggerFactory.getLogger(DonationController.class);
 
     private final DonationService donationService;
+    private final DonationIngestionService donationIngestionService;
 
     @PostMapping
     public ResponseEntity<DonationDTO> createDonation(@RequestBody DonationDTO donationDTO) {
@@ -28,10 +33,28 @@ public class DonationController {
         return ResponseEntity.ok(createdDonation);
     }
 
+    /**
+     * Bulk import of offline and partner donations (admin-only). Invalid rows
+     * are reported by index and skipped.
+     */
+    @PostMapping("/bulk")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> ingestDonations(@RequestBody List<DonationDTO> donations) {
+        try {
+            return ResponseEntity.ok(donationIngestionService.ingest(donations));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
     @GetMapping("/user/{userId}")
-    public ResponseEntity<List<DonationDTO>> getDonationsByUser(@PathVariable Long userId) {
-        List<DonationDTO> donations = donationService.getDonationsByUserId(userId);
-        return ResponseEntity.ok(donations);
+    public ResponseEntity<Map<String, Object>> getDonationsByUser(@PathVariable Long userId,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String startDate,
+            @RequestParam(required = false) String endDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        return donationHistory(userId, status, startDate, endDate, cursor, size);
     }
 
     @GetMapping("/{id}")
@@ -41,27 +64,40 @@ public class DonationController {
     }
 
     @GetMapping("/ngo/{ngoId}")
-    public ResponseEntity<List<NGODonationResponse>> getDonationsByNgoId(@PathVariable Long ngoId) {
-        System.out.println("Received request for donations with NGO ID: " + ngoId);
+    public ResponseEntity<?> getDonationsByNgoId(@PathVariable Long ngoId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
         try {
-            List<NGODonationResponse> donations = donationService.getDonationsByNgoId(ngoId);
-            System.out.println("Successfully retrieved " + donations.size() + " donations for NGO ID: " + ngoId);
+            CursorPage<NGODonationResponse> donations = donationService.getDonationsByNgoId(ngoId, cursor, size);
             return ResponseEntity.ok(donations);
-        } catch (Exception e) {
-            System.err.println("Error fetching donations for NGO ID " + ngoId + ": " + e.getMessage());
-            e.printStackTrace();
-            throw e;
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
     }
 
     @GetMapping("/my-history")
     @PreAuthorize("hasRole('DONOR') or hasRole('VOLUNTEER') or hasRole('NGO') or hasRole('ADMIN')")
-    public ResponseEntity<List<DonationDTO>> getMyDonationHistory(Authentication authentication) {
+    public ResponseEntity<Map<String, Object>> getMyDonationHistory(Authentication authentication,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String startDate,
+            @RequestParam(required = false) String endDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
         User user = (User) authentication.getPrincipal();
-        Long userId = user.getId();
+        return donationHistory(user.getId(), status, startDate, endDate, cursor, size);
+    }
 
-        List<DonationDTO> history = donationService.getDonationsByUserId(userId);
-        return ResponseEntity.ok(history);
+    private ResponseEntity<Map<String, Object>> donationHistory(Long userId, String status, String startDate,
+            String endDate, String cursor, int size) {
+        try {
+            DonationStatus donationStatus = status != null ? DonationStatus.valueOf(status.toUpperCase()) : null;
+            java.time.LocalDate start = startDate != null ? java.time.LocalDate.parse(startDate) : null;
+            java.time.LocalDate end = endDate != null ? java.time.LocalDate.parse(endDate) : null;
+            return ResponseEntity.ok(donationService.getDonationHistory(userId, donationStatus, start, end, cursor,
+                    size));
+        } catch (IllegalArgumentException | java.time.format.DateTimeParseException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
     }
 
     @PostMapping("/process-dummy")
@@ -1,6 +1,7 @@
 package com.ngoconnect.controller;
 
 import com.ngoconnect.dto.NGODTO;
+import com.ngoconnect.entity.DonationTotalShard;
 import com.ngoconnect.entity.NGO;
 import com.ngoconnect.entity.UrgencyLevel;
 import com.ngoconnect.repository.NGORepository;
@@ -9,7 +10,13 @@ import com.ngoconnect.repository.FundReportRepository;
 import com.ngoconnect.entity.FundReport;
 import com.ngoconnect.repository.VolunteerOpportunityRepository;
 import com.ngoconnect.entity.VolunteerOpportunity;
+import com.ngoconnect.event.NgoChangedEvent;
+import com.ngoconnect.event.OpportunityChangedEvent;
+import com.ngoconnect.service.DonationRollupService;
+import com.ngoconnect.service.DonationTotalsService;
+import com.ngoconnect.service.SearchIndexService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -21,6 +28,8 @@ import java.util.stream.Collectors;
 @RequestMapping("/api/ngos")
 @CrossOrigin(origins = "*")
 public class NGOController {
+
+    private static final int MAX_SEARCH_RESULTS = 200;
     
     @Autowired
     private NGORepository ngoRepository;
@@ -33,6 +42,18 @@ public class NGOController {
 
     @Autowired
     private VolunteerOpportunityRepository volunteerOpportunityRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private DonationRollupService donationRollupService;
+
+    @Autowired
+    private DonationTotalsService donationTotalsService;
+
+    @Autowired
+    private SearchIndexService searchIndexService;
     
     @GetMapping
     public ResponseEntity<List<Map<String, Object>>> getAllNGOs(
@@ -111,7 +132,9 @@ public class NGOController {
             if (ngoOpt.isPresent()) {
                 NGO ngo = ngoOpt.get();
                 System.out.println("Found NGO: " + ngo.getOrganizationName() + " (ID: " + ngo.getId() + ")");
-                return ResponseEntity.ok(NGODTO.fromEntity(ngo));
+                NGODTO dto = NGODTO.fromEntity(ngo);
+                dto.setTotalDonations(donationTotalsService.getTotal(DonationTotalShard.OwnerType.NGO, ngo.getId()));
+                return ResponseEntity.ok(dto);
             } else {
                 System.out.println("No NGO found with email: " + email);
                 return ResponseEntity.status(404).body(Map.of(
@@ -176,6 +199,7 @@ public class NGOController {
         // registrationNumber optional; no validation required
 
         NGO saved = ngoRepository.save(ngo);
+        eventPublisher.publishEvent(new NgoChangedEvent(saved.getId(), null, Boolean.TRUE.equals(saved.getIsVerified())));
         return ResponseEntity.ok(saved);
     }
 
@@ -222,6 +246,8 @@ public class NGOController {
                     // registrationNumber optional; no validation required
 
                     NGO saved = ngoRepository.save(existing);
+                    boolean verified = Boolean.TRUE.equals(saved.getIsVerified());
+                    eventPublisher.publishEvent(new NgoChangedEvent(saved.getId(), verified, verified));
                     return ResponseEntity.ok(NGODTO.fromEntity(saved));
                 })
                 .orElseGet(() -> ResponseEntity.notFound().build());
@@ -235,6 +261,26 @@ public class NGOController {
         return ResponseEntity.ok(donationRepository.findByNgoIdOrderByDonationDateDesc(id));
     }
 
+    /**
+     * Daily donation counts and amounts by status, from the donation rollup.
+     * Defaults to the last 30 days.
+     */
+    @GetMapping("/{id}/donation-stats")
+    public ResponseEntity<?> getDonationStats(@PathVariable Long id,
+            @RequestParam(required = false) String startDate,
+            @RequestParam(required = false) String endDate) {
+        if (!ngoRepository.existsById(id)) {
+            return ResponseEntity.notFound().build();
+        }
+        try {
+            java.time.LocalDate end = endDate != null ? java.time.LocalDate.parse(endDate) : java.time.LocalDate.now();
+            java.time.LocalDate start = startDate != null ? java.time.LocalDate.parse(startDate) : end.minusDays(29);
+            return ResponseEntity.ok(donationRollupService.getNgoDailySeries(id, start, end));
+        } catch (IllegalArgumentException | java.time.format.DateTimeParseException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
     @GetMapping("/{id}/fund-reports")
     public ResponseEntity<?> getFundReports(@PathVariable Long id) {
         if (!ngoRepository.existsById(id)) {
@@ -268,6 +314,7 @@ public class NGOController {
                 .map(ngo -> {
                     opp.setNgo(ngo);
                     VolunteerOpportunity saved = volunteerOpportunityRepository.save(opp);
+                    eventPublisher.publishEvent(OpportunityChangedEvent.created(saved));
                     return ResponseEntity.ok(saved);
                 })
                 .orElseGet(() -> ResponseEntity.notFound().build());
@@ -280,6 +327,7 @@ public class NGOController {
                     if (!existing.getNgo().getId().equals(ngoId)) {
                         return ResponseEntity.status(403).body(Map.of("error", "Not your opportunity"));
                     }
+                    Boolean previouslyActive = existing.getIsActive();
                     existing.setTitle(update.getTitle());
                     existing.setDescription(update.getDescription());
                     existing.setCause(update.getCause());
@@ -293,6 +341,7 @@ public class NGOController {
                     existing.setImageUrl(update.getImageUrl());
                     existing.setIsActive(update.getIsActive());
                     VolunteerOpportunity saved = volunteerOpportunityRepository.save(existing);
+                    eventPublisher.publishEvent(OpportunityChangedEvent.updated(saved, previouslyActive));
                     return ResponseEntity.ok(saved);
                 })
                 .orElseGet(() -> ResponseEntity.notFound().build());
@@ -306,6 +355,7 @@ public class NGOController {
                         return ResponseEntity.status(403).body(Map.of("error", "Not your opportunity"));
                     }
                     volunteerOpportunityRepository.delete(existing);
+                    eventPublisher.publishEvent(OpportunityChangedEvent.deleted(existing));
                     return ResponseEntity.noContent().build();
                 })
                 .orElseGet(() -> ResponseEntity.notFound().build());
@@ -332,7 +382,13 @@ public class NGOController {
         
         List<NGO> ngos;
         
-        if (searchTerm != null && !searchTerm.isEmpty()) {
+        if (searchTerm != null && !searchTerm.isEmpty() && searchIndexService.isReady()) {
+            // Ranked matches from the in-memory index, loaded in rank order
+            List<Long> ids = searchIndexService.searchNgos(searchTerm, MAX_SEARCH_RESULTS);
+            Map<Long, NGO> byId = ngoRepository.findAllById(ids).stream()
+                    .collect(Collectors.toMap(NGO::getId, ngo -> ngo));
+            ngos = ids.stream().map(byId::get).filter(Objects::nonNull).collect(Collectors.toList());
+        } else if (searchTerm != null && !searchTerm.isEmpty()) {
             ngos = ngoRepository.findBySearchTerm(searchTerm);
         } else if (cause != null && location != null && urgency != null) {
             UrgencyLevel urgencyLevel = UrgencyLevel.valueOf(urgency.toUpperCase());
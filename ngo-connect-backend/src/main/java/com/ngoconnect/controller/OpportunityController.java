@@ -1,15 +1,18 @@
 package com.ngoconnect.controller;
 
 import com.ngoconnect.entity.VolunteerOpportunity;
-import com.ngoconnect.dto.VolunteerOpportunityDTO;
 import com.ngoconnect.entity.VolunteerApplication;
+import com.ngoconnect.service.OpportunityFacetService;
 import com.ngoconnect.service.VolunteerService;
 import com.ngoconnect.service.ApplicationService;
 import com.ngoconnect.dto.ApplicationRequest;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 
@@ -25,41 +28,26 @@ public class OpportunityController {
     private ApplicationService applicationService;
 
     /**
-     * Get all active volunteer opportunities
+     * Get one page of active volunteer opportunities, newest first. Answers
+     * 304 Not Modified without running the page query when the client's
+     * If-None-Match still matches the listing's ETag.
      */
     @GetMapping
-    public ResponseEntity<List<VolunteerOpportunityDTO>> getAllOpportunities() {
+    public ResponseEntity<Map<String, Object>> getAllOpportunities(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size,
+            WebRequest webRequest) {
+        // Taken before the query, so a change racing it yields a newer tag next time
+        String eTag = volunteerService.getListingETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
         try {
-            System.out.println("API call received for all opportunities");
-            List<VolunteerOpportunity> opportunities = volunteerService.getAllActiveOpportunities();
-
-            // Map to DTO to avoid lazy-loading/serialization issues
-            List<VolunteerOpportunityDTO> dtoList = opportunities.stream().map(opp -> {
-                String ngoName = opp.getNgo() != null ? opp.getNgo().getOrganizationName() : null;
-                String ngoImg = opp.getNgo() != null ? opp.getNgo().getImageUrl() : null;
-
-                VolunteerOpportunityDTO dto = new VolunteerOpportunityDTO(
-                        opp.getId(),
-                        opp.getTitle(),
-                        opp.getDescription(),
-                        opp.getCause(),
-                        opp.getLocation(),
-                        opp.getTimeCommitment(),
-                        opp.getWorkType(),
-                        opp.getRequirements(),
-                        opp.getStartDate() != null ? opp.getStartDate().toString() : null,
-                        opp.getEndDate() != null ? opp.getEndDate().toString() : null,
-                        opp.getVolunteersNeeded(),
-                        opp.getVolunteersApplied(),
-                        opp.getUrgency() != null ? opp.getUrgency().name() : null,
-                        opp.getImageUrl(),
-                        ngoName,
-                        ngoImg);
-                return dto;
-            }).collect(java.util.stream.Collectors.toList());
-
-            System.out.println("Returning " + dtoList.size() + " opportunities (DTO)");
-            return ResponseEntity.ok(dtoList);
+            Map<String, Object> listing = volunteerService.getOpportunityListing(page, size);
+            return ResponseEntity.ok()
+                    .eTag(eTag)
+                    .cacheControl(CacheControl.noCache())
+                    .body(listing);
         } catch (Exception e) {
             System.err.println("Error in getAllOpportunities: " + e.getMessage());
             e.printStackTrace();
@@ -80,16 +68,18 @@ public class OpportunityController {
      * Search volunteer opportunities with filters
      */
     @GetMapping("/search")
-    public ResponseEntity<List<VolunteerOpportunity>> searchOpportunities(
+    public ResponseEntity<Map<String, Object>> searchOpportunities(
             @RequestParam(required = false) String cause,
             @RequestParam(required = false) String location,
             @RequestParam(required = false) String workType,
             @RequestParam(required = false) String timeCommitment,
             @RequestParam(required = false) String urgency,
-            @RequestParam(required = false) String searchTerm) {
+            @RequestParam(required = false) String searchTerm,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
 
-        List<VolunteerOpportunity> opportunities = volunteerService.searchOpportunities(
-                cause, location, workType, timeCommitment, urgency, searchTerm);
+        Map<String, Object> opportunities = volunteerService.searchOpportunities(
+                cause, location, workType, timeCommitment, urgency, searchTerm, page, size);
         return ResponseEntity.ok(opportunities);
     }
 
@@ -132,11 +122,24 @@ public class OpportunityController {
     }
 
     /**
-     * Get filter options for frontend dropdowns
+     * Get filter options for frontend dropdowns, with per-option counts for
+     * the filters currently selected
      */
     @GetMapping("/filter-options")
-    public ResponseEntity<Map<String, List<String>>> getFilterOptions() {
-        Map<String, List<String>> filterOptions = volunteerService.getFilterOptions();
+    public ResponseEntity<Map<String, Object>> getFilterOptions(
+            @RequestParam(required = false) String cause,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) String workType,
+            @RequestParam(required = false) String timeCommitment,
+            @RequestParam(required = false) String urgency) {
+
+        Map<OpportunityFacetService.Facet, String> selected = new EnumMap<>(OpportunityFacetService.Facet.class);
+        selected.put(OpportunityFacetService.Facet.CAUSE, cause);
+        selected.put(OpportunityFacetService.Facet.LOCATION, location);
+        selected.put(OpportunityFacetService.Facet.WORK_TYPE, workType);
+        selected.put(OpportunityFacetService.Facet.TIME_COMMITMENT, timeCommitment);
+        selected.put(OpportunityFacetService.Facet.URGENCY, urgency);
+        Map<String, Object> filterOptions = volunteerService.getFilterOptions(selected);
         return ResponseEntity.ok(filterOptions);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,32 @@
+package com.ngoconnect.dto;
+
+import com.ngoconnect.entity.Donation;
+import com.ngoconnect.entity.DonationStatus;
+import com.ngoconnect.entity.PaymentMethod;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Flat donation row for the admin donation grid, filled by a constructor
+ * expression so donor and NGO proxies are never loaded
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdminDonationDTO {
+    private Long id;
+    private Double amount;
+    private DonationStatus status;
+    private PaymentMethod paymentMethod;
+    private Donation.PledgeType pledgeType;
+    private String transactionId;
+    private LocalDateTime donationDate;
+    private Long donorId;
+    private String donorName;
+    private String donorEmail;
+    private Long ngoId;
+    private String ngoName;
+}
@@ -1,6 +1,8 @@
 package com.ngoconnect.dto;
 
 import com.ngoconnect.entity.ApplicationStatus;
+import com.ngoconnect.entity.VolunteerApplication;
+import com.ngoconnect.entity.VolunteerOpportunity;
 import lombok.Data;
 
 import java.time.LocalDateTime;
@@ -35,4 +37,39 @@ public class ApplicationResponse {
     private LocalDateTime endDate;
     private Integer hoursCompleted;
     private Integer totalHours;
-}
\ No newline at end of file
+
+    public static ApplicationResponse fromEntity(VolunteerApplication application) {
+        if (application == null) return null;
+
+        VolunteerOpportunity opportunity = application.getOpportunity();
+        ApplicationResponse response = new ApplicationResponse();
+        response.setId(application.getId());
+        response.setOpportunityId(opportunity.getId());
+        response.setOpportunityTitle(opportunity.getTitle());
+        response.setNgoName(opportunity.getNgo().getOrganizationName());
+        response.setCause(opportunity.getCause());
+        response.setVolunteerId(application.getVolunteer().getId());
+        response.setVolunteerName(application.getFullName());
+        response.setVolunteerEmail(application.getEmail());
+        response.setPhone(application.getPhone());
+        response.setAddress(application.getAddress());
+        response.setExperience(application.getExperience());
+        response.setMotivation(application.getMotivation());
+        response.setAvailability(application.getAvailability());
+        response.setEmergencyContact(application.getEmergencyContact());
+        response.setEmergencyPhone(application.getEmergencyPhone());
+        response.setSkills(application.getSkills());
+        response.setAdditionalInfo(application.getAdditionalInfo());
+        response.setStatus(application.getStatus());
+        response.setAppliedDate(application.getAppliedDate());
+        response.setStatusUpdatedDate(application.getStatusUpdatedDate());
+        response.setFeedback(application.getFeedback());
+        response.setRating(application.getRating());
+        response.setStartDate(opportunity.getStartDate());
+        response.setEndDate(opportunity.getEndDate());
+        response.setHoursCompleted(application.getHoursCompleted());
+        response.setTotalHours(application.getTotalHours());
+
+        return response;
+    }
+}
@@ -0,0 +1,22 @@
+package com.ngoconnect.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of a keyset (seek) paginated listing. Pass nextCursor back as the
+ * cursor parameter to fetch the following page; it is null on the last page.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+    private List<T> content;
+    private Long totalElements;
+    private String nextCursor;
+    private int size;
+    private boolean hasNext;
+}
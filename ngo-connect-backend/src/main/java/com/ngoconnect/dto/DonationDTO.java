@@ -1,8 +1,11 @@
 package com.ngoconnect.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.ngoconnect.entity.Donation;
 import com.ngoconnect.entity.DonationStatus;
+import com.ngoconnect.entity.NGO;
 import com.ngoconnect.entity.PaymentMethod;
+import com.ngoconnect.entity.User;
 import lombok.Data;
 
 import java.time.LocalDateTime;
@@ -33,4 +36,44 @@ public class DonationDTO {
     // Additional fields for display
     private String donorName;
     private String donorEmail;
+
+    /**
+     * Plain getter/setter mapping, used on every donation list endpoint in
+     * place of a reflective mapper. The NGO is reduced to its id and name.
+     */
+    public static DonationDTO fromEntity(Donation donation) {
+        if (donation == null) return null;
+
+        DonationDTO dto = new DonationDTO();
+        dto.setId(donation.getId());
+        dto.setAmount(donation.getAmount());
+        dto.setPaymentMethod(donation.getPaymentMethod());
+        dto.setPledgeType(donation.getPledgeType() != null ? donation.getPledgeType().name() : null);
+        dto.setStatus(donation.getStatus());
+        dto.setTransactionId(donation.getTransactionId());
+        dto.setDonorMessage(donation.getDonorMessage());
+        dto.setDonationDate(donation.getDonationDate());
+        dto.setCreatedAt(donation.getCreatedAt());
+        dto.setUpdatedAt(donation.getUpdatedAt());
+
+        User donor = donation.getDonor();
+        if (donor != null) {
+            dto.setUserId(donor.getId());
+            // Prefer the organization name for organizational donors
+            String organizationName = donor.getOrganizationName();
+            dto.setDonorName(organizationName != null && !organizationName.isEmpty()
+                    ? organizationName : donor.getFullName());
+            dto.setDonorEmail(donor.getEmail());
+        }
+
+        NGO ngo = donation.getNgo();
+        if (ngo != null) {
+            dto.setNgoId(ngo.getId());
+            NGODTO ngoDTO = new NGODTO();
+            ngoDTO.setId(ngo.getId());
+            ngoDTO.setOrganizationName(ngo.getOrganizationName());
+            dto.setNgo(ngoDTO);
+        }
+        return dto;
+    }
 }
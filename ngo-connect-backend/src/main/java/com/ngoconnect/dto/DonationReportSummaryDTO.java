@@ -0,0 +1,31 @@
+package com.ngoconnect.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Aggregate figures of a donation report over a date range.
+ * Built directly by a JPQL constructor expression; SUM and AVG are null when
+ * the range holds no donations.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DonationReportSummaryDTO {
+    private Long totalDonations;
+    private Double totalAmount;
+    private Double averageAmount;
+    private Long uniqueNgos;
+
+    /**
+     * From pre-aggregated rows, where the average has to be derived
+     */
+    public DonationReportSummaryDTO(Long totalDonations, Double totalAmount, Long uniqueNgos) {
+        this.totalDonations = totalDonations;
+        this.totalAmount = totalAmount;
+        this.averageAmount = totalDonations != null && totalDonations > 0 && totalAmount != null
+                ? totalAmount / totalDonations : null;
+        this.uniqueNgos = uniqueNgos;
+    }
+}
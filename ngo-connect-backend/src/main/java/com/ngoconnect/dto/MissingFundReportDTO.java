@@ -0,0 +1,22 @@
+package com.ngoconnect.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * NGO that received donations in a reporting window without filing a fund report.
+ * Built directly by a JPQL constructor expression.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MissingFundReportDTO {
+    private Long ngoId;
+    private String organizationName;
+    private Long donationCount;
+    private Double totalAmount;
+    private LocalDateTime lastDonationDate;
+}
@@ -1,10 +1,14 @@
 package com.ngoconnect.dto;
 
+import com.ngoconnect.entity.DonationStatus;
+import com.ngoconnect.entity.PaymentMethod;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 
 @Data
+@NoArgsConstructor
 public class NGODonationResponse {
     private Long id;
     private Double amount;
@@ -15,6 +19,28 @@ public class NGODonationResponse {
     private LocalDateTime createdAt;
     private DonorInfo donor;
 
+    /**
+     * Constructor expression target for the NGO donation listing; the donor
+     * columns come from the same query's join
+     */
+    public NGODonationResponse(Long id, Double amount, PaymentMethod paymentMethod, DonationStatus status,
+            String transactionId, LocalDateTime donationDate, LocalDateTime createdAt, Long donorId,
+            String donorName, String donorEmail) {
+        this.id = id;
+        this.amount = amount;
+        this.paymentMethod = paymentMethod != null ? paymentMethod.name() : null;
+        this.status = status != null ? status.name() : null;
+        this.transactionId = transactionId;
+        this.donationDate = donationDate;
+        this.createdAt = createdAt;
+        if (donorId != null) {
+            this.donor = new DonorInfo();
+            this.donor.setId(donorId);
+            this.donor.setName(donorName);
+            this.donor.setEmail(donorEmail);
+        }
+    }
+
     @Data
     public static class DonorInfo {
         private Long id;
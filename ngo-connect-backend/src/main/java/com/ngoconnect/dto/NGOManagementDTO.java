@@ -0,0 +1,44 @@
+package com.ngoconnect.dto;
+
+import com.ngoconnect.entity.NGOStatus;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Row of the admin NGO management listing, selected column-by-column so the
+ * NGO entity (and its eagerly fetched causes) is never loaded.
+ */
+@Data
+@NoArgsConstructor
+public class NGOManagementDTO {
+    private Long id;
+    private String organizationName;
+    private String cause;
+    private String location;
+    private String email;
+    private Double totalDonations;
+    private Double rating;
+    private Boolean isVerified;
+    private String status;
+    private LocalDateTime createdAt;
+    private String registrationNumber;
+
+    public NGOManagementDTO(Long id, String organizationName, String cause, String location, String email,
+            Double totalDonations, Double rating, Boolean isVerified, NGOStatus status, LocalDateTime createdAt,
+            String registrationNumber) {
+        this.id = id;
+        this.organizationName = organizationName;
+        this.cause = cause;
+        this.location = location;
+        this.email = email;
+        this.totalDonations = totalDonations;
+        this.rating = rating;
+        this.isVerified = isVerified;
+        // Legacy rows without a status fall back to the verification flag
+        this.status = status != null ? status.name() : (Boolean.TRUE.equals(isVerified) ? "ACTIVE" : "PENDING");
+        this.createdAt = createdAt;
+        this.registrationNumber = registrationNumber;
+    }
+}
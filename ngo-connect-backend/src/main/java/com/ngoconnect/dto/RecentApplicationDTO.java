@@ -0,0 +1,23 @@
+package com.ngoconnect.dto;
+
+import com.ngoconnect.entity.ApplicationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Volunteer application line in a user's activity summary
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecentApplicationDTO {
+    private Long id;
+    private String opportunityTitle;
+    private String ngoName;
+    private ApplicationStatus status;
+    private LocalDateTime appliedDate;
+    private Integer hoursCompleted;
+}
@@ -0,0 +1,22 @@
+package com.ngoconnect.dto;
+
+import com.ngoconnect.entity.DonationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Donation line in a user's activity summary
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecentDonationDTO {
+    private Long id;
+    private Double amount;
+    private String ngoName;
+    private LocalDateTime donatedAt;
+    private DonationStatus status;
+}
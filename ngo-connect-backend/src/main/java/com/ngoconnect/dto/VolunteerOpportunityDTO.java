@@ -1,5 +1,10 @@
 package com.ngoconnect.dto;
 
+import com.ngoconnect.entity.NGO;
+import com.ngoconnect.entity.UrgencyLevel;
+import com.ngoconnect.entity.VolunteerOpportunity;
+
+import java.time.LocalDateTime;
 import java.util.List;
 
 public class VolunteerOpportunityDTO {
@@ -46,6 +51,45 @@ public class VolunteerOpportunityDTO {
         this.ngoImage = ngoImage;
     }
 
+    /**
+     * Listing projection, selected straight from the opportunity and NGO
+     * columns. Requirements are a collection and are attached afterwards.
+     */
+    public VolunteerOpportunityDTO(Long id, String title, String description, String cause, String location,
+            String timeCommitment, String workType, LocalDateTime startDate, LocalDateTime endDate,
+            Integer volunteersNeeded, Integer volunteersApplied, UrgencyLevel urgency, String image,
+            String ngo, String ngoImage) {
+        this(id, title, description, cause, location, timeCommitment, workType, null,
+                startDate != null ? startDate.toString() : null,
+                endDate != null ? endDate.toString() : null,
+                volunteersNeeded, volunteersApplied,
+                urgency != null ? urgency.name() : null,
+                image, ngo, ngoImage);
+    }
+
+    public static VolunteerOpportunityDTO fromEntity(VolunteerOpportunity opp) {
+        if (opp == null) return null;
+
+        NGO ngo = opp.getNgo();
+        return new VolunteerOpportunityDTO(
+                opp.getId(),
+                opp.getTitle(),
+                opp.getDescription(),
+                opp.getCause(),
+                opp.getLocation(),
+                opp.getTimeCommitment(),
+                opp.getWorkType(),
+                opp.getRequirements(),
+                opp.getStartDate() != null ? opp.getStartDate().toString() : null,
+                opp.getEndDate() != null ? opp.getEndDate().toString() : null,
+                opp.getVolunteersNeeded(),
+                opp.getVolunteersApplied(),
+                opp.getUrgency() != null ? opp.getUrgency().name() : null,
+                opp.getImageUrl(),
+                ngo != null ? ngo.getOrganizationName() : null,
+                ngo != null ? ngo.getImageUrl() : null);
+    }
+
     // Getters and setters
     public Long getId() {
         return id;
@@ -7,7 +7,12 @@ import javax.validation.constraints.NotNull;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "donations")
+@Table(name = "donations", indexes = {
+        @Index(name = "idx_donations_ngo_donation_date", columnList = "ngo_id, donation_date"),
+        @Index(name = "idx_donations_donor_donation_date", columnList = "donor_id, donation_date"),
+        @Index(name = "idx_donations_donor_created_at", columnList = "donor_id, created_at"),
+        @Index(name = "idx_donations_donation_date", columnList = "donation_date, id")
+})
 public class Donation {
     
     @Id
@@ -0,0 +1,75 @@
+package com.ngoconnect.entity;
+
+import javax.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Donation count and amount per NGO, day and status. Rows are incremented
+ * by DonationRollupService in the transaction that records the donation, and
+ * can be rebuilt from the donations table at any time.
+ *
+ * There is no cause column: cause summaries join ngos and so use each NGO's
+ * current cause.
+ */
+@Entity
+@Table(name = "donation_daily_rollups", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_donation_rollups_ngo_date_status",
+                columnNames = { "ngo_id", "rollup_date", "status" })
+}, indexes = {
+        @Index(name = "idx_donation_rollups_date", columnList = "rollup_date")
+})
+public class DonationDailyRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "ngo_id", nullable = false, updatable = false)
+    private Long ngoId;
+
+    @Column(name = "rollup_date", nullable = false, updatable = false)
+    private LocalDate rollupDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20, updatable = false)
+    private DonationStatus status;
+
+    @Column(name = "donation_count", nullable = false)
+    private Long donationCount;
+
+    @Column(name = "total_amount", nullable = false)
+    private Double totalAmount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public Long getNgoId() {
+        return ngoId;
+    }
+
+    public LocalDate getRollupDate() {
+        return rollupDate;
+    }
+
+    public DonationStatus getStatus() {
+        return status;
+    }
+
+    public Long getDonationCount() {
+        return donationCount;
+    }
+
+    public Double getTotalAmount() {
+        return totalAmount;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
@@ -0,0 +1,67 @@
+package com.ngoconnect.entity;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * One stripe of an NGO's or donor's running donation total. Each donation
+ * adds to one randomly chosen stripe, so concurrent donations to the same
+ * NGO lock different rows; the total is the sum of the owner's stripes.
+ * Maintained by DonationTotalsService.
+ */
+@Entity
+@Table(name = "donation_total_shards", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_donation_total_shards_owner_shard",
+                columnNames = { "owner_type", "owner_id", "shard" })
+})
+public class DonationTotalShard {
+
+    public enum OwnerType {
+        NGO, DONOR
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "owner_type", nullable = false, length = 10, updatable = false)
+    private OwnerType ownerType;
+
+    @Column(name = "owner_id", nullable = false, updatable = false)
+    private Long ownerId;
+
+    @Column(nullable = false, updatable = false)
+    private Integer shard;
+
+    @Column(name = "total_amount", nullable = false)
+    private Double totalAmount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public OwnerType getOwnerType() {
+        return ownerType;
+    }
+
+    public Long getOwnerId() {
+        return ownerId;
+    }
+
+    public Integer getShard() {
+        return shard;
+    }
+
+    public Double getTotalAmount() {
+        return totalAmount;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
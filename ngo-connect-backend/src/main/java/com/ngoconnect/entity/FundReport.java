@@ -4,7 +4,9 @@ import javax.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "fund_reports")
+@Table(name = "fund_reports", indexes = {
+        @Index(name = "idx_fund_reports_ngo_reported_at", columnList = "ngo_id, reported_at")
+})
 public class FundReport {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -22,6 +24,7 @@ public class FundReport {
 
     private Double amountUtilized;
 
+    @Column(name = "reported_at")
     private LocalDateTime reportedAt;
 
     @PrePersist
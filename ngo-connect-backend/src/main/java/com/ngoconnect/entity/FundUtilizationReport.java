@@ -10,7 +10,9 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "fund_utilization_reports")
+@Table(name = "fund_utilization_reports", indexes = {
+        @Index(name = "idx_fund_util_reports_ngo_date", columnList = "ngo_id, report_date")
+})
 @Data
 public class FundUtilizationReport {
 
@@ -0,0 +1,14 @@
+package com.ngoconnect.entity;
+
+public enum ManagementActionType {
+    APPROVE,
+    REJECT,
+    SUSPEND,
+    DEACTIVATE,
+    REACTIVATE,
+    PROFILE_UPDATE,
+    DOCUMENT_REVIEW,
+    BLOCK,
+    UNBLOCK,
+    PASSWORD_RESET
+}
@@ -11,7 +11,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "ngos")
+@Table(name = "ngos", indexes = {
+        @Index(name = "idx_ngos_status_id", columnList = "status, id"),
+        @Index(name = "idx_ngos_cause", columnList = "cause")
+})
 @JsonIgnoreProperties({ "hibernateLazyInitializer", "handler" })
 public class NGO {
 
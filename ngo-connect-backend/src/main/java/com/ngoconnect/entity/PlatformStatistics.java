@@ -4,16 +4,23 @@ import javax.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "platform_statistics")
+@Table(name = "platform_statistics", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_platform_stats_date_granularity", columnNames = { "stat_date", "granularity" })
+})
 public class PlatformStatistics {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(name = "stat_date", nullable = false, unique = true)
+    @Column(name = "stat_date", nullable = false)
     private java.time.LocalDate statDate;
 
+    // Weekly rows are keyed on the Monday, monthly rows on the 1st
+    @Enumerated(EnumType.STRING)
+    @Column(name = "granularity", length = 10)
+    private StatisticsGranularity granularity = StatisticsGranularity.DAILY;
+
     @Column(name = "total_ngos_registered")
     private Integer totalNgosRegistered = 0;
 
@@ -69,6 +76,11 @@ public class PlatformStatistics {
         this.statDate = statDate;
     }
 
+    public PlatformStatistics(java.time.LocalDate statDate, StatisticsGranularity granularity) {
+        this.statDate = statDate;
+        this.granularity = granularity;
+    }
+
     // Getters and Setters
     public Long getId() {
         return id;
@@ -86,6 +98,15 @@ public class PlatformStatistics {
         this.statDate = statDate;
     }
 
+    public StatisticsGranularity getGranularity() {
+        // Rows written before rollups existed have no granularity and are daily
+        return granularity != null ? granularity : StatisticsGranularity.DAILY;
+    }
+
+    public void setGranularity(StatisticsGranularity granularity) {
+        this.granularity = granularity;
+    }
+
     public Integer getTotalNgosRegistered() {
         return totalNgosRegistered;
     }
@@ -0,0 +1,7 @@
+package com.ngoconnect.entity;
+
+public enum StatisticsGranularity {
+    DAILY,
+    WEEKLY,
+    MONTHLY
+}
@@ -4,7 +4,9 @@ import javax.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "system_alerts")
+@Table(name = "system_alerts", indexes = {
+        @Index(name = "idx_system_alerts_type_resolved_created", columnList = "alert_type, is_resolved, created_at")
+})
 public class SystemAlert {
 
     @Id
@@ -13,7 +13,10 @@ import java.util.Collection;
 import java.util.List;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        @Index(name = "idx_users_type_status_id", columnList = "user_type, is_blocked, email_verified, id"),
+        @Index(name = "idx_users_full_name", columnList = "full_name")
+})
 public class User implements UserDetails {
 
     @Id
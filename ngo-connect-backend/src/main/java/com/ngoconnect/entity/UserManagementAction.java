@@ -0,0 +1,75 @@
+package com.ngoconnect.entity;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Append-only audit record of an admin action on a user account. Rows are inserted in
+ * JDBC batches by AuditLogService and never updated.
+ */
+@Entity
+@Table(name = "user_management_actions", indexes = {
+        @Index(name = "idx_user_management_actions_user_id_id", columnList = "user_id, id"),
+        @Index(name = "idx_user_management_actions_admin_id", columnList = "admin_id")
+})
+public class UserManagementAction {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private Long userId;
+
+    @Column(name = "admin_id", updatable = false)
+    private Long adminId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "action_type", nullable = false, length = 30, updatable = false)
+    private ManagementActionType actionType;
+
+    @Column(columnDefinition = "TEXT", updatable = false)
+    private String reason;
+
+    @Column(name = "previous_status", length = 50, updatable = false)
+    private String previousStatus;
+
+    @Column(name = "new_status", length = 50, updatable = false)
+    private String newStatus;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Long getAdminId() {
+        return adminId;
+    }
+
+    public ManagementActionType getActionType() {
+        return actionType;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    public String getPreviousStatus() {
+        return previousStatus;
+    }
+
+    public String getNewStatus() {
+        return newStatus;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -9,7 +9,13 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "volunteer_applications")
+@Table(name = "volunteer_applications", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_volunteer_applications_volunteer_opportunity",
+                columnNames = { "volunteer_id", "opportunity_id" })
+}, indexes = {
+        @Index(name = "idx_volunteer_applications_volunteer_applied", columnList = "volunteer_id, applied_date"),
+        @Index(name = "idx_volunteer_applications_opportunity_applied", columnList = "opportunity_id, applied_date")
+})
 public class VolunteerApplication {
 
     @Id
@@ -11,7 +11,10 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "volunteer_opportunities")
+@Table(name = "volunteer_opportunities", indexes = {
+        @Index(name = "idx_volunteer_opportunities_status_id", columnList = "status, id"),
+        @Index(name = "idx_volunteer_opportunities_status_cause", columnList = "status, cause")
+})
 @JsonIgnoreProperties({ "hibernateLazyInitializer", "handler" })
 public class VolunteerOpportunity {
 
@@ -0,0 +1,76 @@
+package com.ngoconnect.event;
+
+import com.ngoconnect.entity.Donation;
+import com.ngoconnect.entity.DonationStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published after a donation row has been written. Rows from a bulk import
+ * are flagged as imported: they carry historical dates and are not live
+ * activity.
+ */
+public class DonationRecordedEvent {
+
+    private final Long donationId;
+    private final Long donorId;
+    private final Long ngoId;
+    private final Double amount;
+    private final DonationStatus status;
+    private final LocalDateTime donationDate;
+    private final boolean imported;
+
+    public DonationRecordedEvent(Long donationId, Long donorId, Long ngoId, Double amount,
+            DonationStatus status, LocalDateTime donationDate) {
+        this(donationId, donorId, ngoId, amount, status, donationDate, false);
+    }
+
+    public DonationRecordedEvent(Long donationId, Long donorId, Long ngoId, Double amount,
+            DonationStatus status, LocalDateTime donationDate, boolean imported) {
+        this.donationId = donationId;
+        this.donorId = donorId;
+        this.ngoId = ngoId;
+        this.amount = amount;
+        this.status = status;
+        this.donationDate = donationDate;
+        this.imported = imported;
+    }
+
+    public static DonationRecordedEvent of(Donation donation) {
+        return new DonationRecordedEvent(
+                donation.getId(),
+                donation.getDonor() != null ? donation.getDonor().getId() : null,
+                donation.getNgo() != null ? donation.getNgo().getId() : null,
+                donation.getAmount(),
+                donation.getStatus(),
+                donation.getDonationDate());
+    }
+
+    public Long getDonationId() {
+        return donationId;
+    }
+
+    public Long getDonorId() {
+        return donorId;
+    }
+
+    public Long getNgoId() {
+        return ngoId;
+    }
+
+    public Double getAmount() {
+        return amount;
+    }
+
+    public DonationStatus getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getDonationDate() {
+        return donationDate;
+    }
+
+    public boolean isImported() {
+        return imported;
+    }
+}
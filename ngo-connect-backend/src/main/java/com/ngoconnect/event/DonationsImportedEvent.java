@@ -0,0 +1,19 @@
+package com.ngoconnect.event;
+
+/**
+ * Published once per bulk donation import, after the per-row
+ * DonationRecordedEvents, for listeners that rebuild from the table rather
+ * than follow each imported row.
+ */
+public class DonationsImportedEvent {
+
+    private final int count;
+
+    public DonationsImportedEvent(int count) {
+        this.count = count;
+    }
+
+    public int getCount() {
+        return count;
+    }
+}
@@ -0,0 +1,37 @@
+package com.ngoconnect.event;
+
+/**
+ * Published when an NGO is registered or its verification flag changes.
+ */
+public class NgoChangedEvent {
+
+    private final Long ngoId;
+    private final Boolean previouslyVerified;
+    private final Boolean verified;
+
+    /**
+     * @param previouslyVerified verification flag before the change, null for a new NGO
+     * @param verified           verification flag after the change
+     */
+    public NgoChangedEvent(Long ngoId, Boolean previouslyVerified, Boolean verified) {
+        this.ngoId = ngoId;
+        this.previouslyVerified = previouslyVerified;
+        this.verified = verified;
+    }
+
+    public Long getNgoId() {
+        return ngoId;
+    }
+
+    public Boolean getPreviouslyVerified() {
+        return previouslyVerified;
+    }
+
+    public Boolean getVerified() {
+        return verified;
+    }
+
+    public boolean isCreated() {
+        return previouslyVerified == null;
+    }
+}
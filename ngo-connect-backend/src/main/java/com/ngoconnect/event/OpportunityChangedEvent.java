@@ -0,0 +1,77 @@
+package com.ngoconnect.event;
+
+import com.ngoconnect.entity.VolunteerOpportunity;
+
+/**
+ * Published when a volunteer opportunity is created, edited, moderated or
+ * deleted, or when its applicant count changes. Listeners that keep derived
+ * views of the catalogue subscribe to it.
+ */
+public class OpportunityChangedEvent {
+
+    public enum ChangeType {
+        CREATED, UPDATED, STATUS_CHANGED, DELETED, APPLICANTS_CHANGED
+    }
+
+    private final ChangeType changeType;
+    private final Long opportunityId;
+    private final VolunteerOpportunity opportunity;
+    private final Boolean previouslyActive;
+
+    /**
+     * @param opportunity      state after the change, null when deleted
+     * @param previouslyActive isActive flag before the change, null when created
+     */
+    public OpportunityChangedEvent(ChangeType changeType, Long opportunityId, VolunteerOpportunity opportunity,
+            Boolean previouslyActive) {
+        this.changeType = changeType;
+        this.opportunityId = opportunityId;
+        this.opportunity = opportunity;
+        this.previouslyActive = previouslyActive;
+    }
+
+    public static OpportunityChangedEvent created(VolunteerOpportunity opportunity) {
+        return new OpportunityChangedEvent(ChangeType.CREATED, opportunity.getId(), opportunity, null);
+    }
+
+    public static OpportunityChangedEvent updated(VolunteerOpportunity opportunity, Boolean previouslyActive) {
+        return new OpportunityChangedEvent(ChangeType.UPDATED, opportunity.getId(), opportunity, previouslyActive);
+    }
+
+    public static OpportunityChangedEvent statusChanged(VolunteerOpportunity opportunity, Boolean previouslyActive) {
+        return new OpportunityChangedEvent(ChangeType.STATUS_CHANGED, opportunity.getId(), opportunity,
+                previouslyActive);
+    }
+
+    /**
+     * Only volunteersApplied changed; text, facets and status are as before
+     */
+    public static OpportunityChangedEvent applicantsChanged(VolunteerOpportunity opportunity) {
+        return new OpportunityChangedEvent(ChangeType.APPLICANTS_CHANGED, opportunity.getId(), opportunity,
+                opportunity.getIsActive());
+    }
+
+    public static OpportunityChangedEvent deleted(VolunteerOpportunity opportunity) {
+        return new OpportunityChangedEvent(ChangeType.DELETED, opportunity.getId(), null, opportunity.getIsActive());
+    }
+
+    public ChangeType getChangeType() {
+        return changeType;
+    }
+
+    public Long getOpportunityId() {
+        return opportunityId;
+    }
+
+    public VolunteerOpportunity getOpportunity() {
+        return opportunity;
+    }
+
+    public Boolean getPreviouslyActive() {
+        return previouslyActive;
+    }
+
+    public boolean isActive() {
+        return opportunity != null && Boolean.TRUE.equals(opportunity.getIsActive());
+    }
+}
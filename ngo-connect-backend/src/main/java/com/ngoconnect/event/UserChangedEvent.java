@@ -0,0 +1,85 @@
+package com.ngoconnect.event;
+
+import com.ngoconnect.entity.User;
+import com.ngoconnect.entity.UserType;
+
+/**
+ * Published whenever a user account is created, changed or removed.
+ * Carries the account state before and after the change so listeners can
+ * apply deltas without re-reading the users table.
+ */
+public class UserChangedEvent {
+
+    private final Long userId;
+    private final UserState previous;
+    private final UserState current;
+
+    public UserChangedEvent(Long userId, UserState previous, UserState current) {
+        this.userId = userId;
+        this.previous = previous;
+        this.current = current;
+    }
+
+    public static UserChangedEvent registered(User user) {
+        return new UserChangedEvent(user.getId(), null, UserState.of(user));
+    }
+
+    public static UserChangedEvent updated(UserState previous, User user) {
+        return new UserChangedEvent(user.getId(), previous, UserState.of(user));
+    }
+
+    public static UserChangedEvent deleted(User user) {
+        return new UserChangedEvent(user.getId(), UserState.of(user), null);
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    /**
+     * State before the change, or null for a new registration
+     */
+    public UserState getPrevious() {
+        return previous;
+    }
+
+    /**
+     * State after the change, or null when the user was deleted
+     */
+    public UserState getCurrent() {
+        return current;
+    }
+
+    /**
+     * The subset of user fields that dashboard figures depend on
+     */
+    public static class UserState {
+        private final UserType userType;
+        private final boolean blocked;
+        private final boolean emailVerified;
+
+        public UserState(UserType userType, boolean blocked, boolean emailVerified) {
+            this.userType = userType;
+            this.blocked = blocked;
+            this.emailVerified = emailVerified;
+        }
+
+        public static UserState of(User user) {
+            return new UserState(user.getUserType(),
+                    Boolean.TRUE.equals(user.getIsBlocked()),
+                    Boolean.TRUE.equals(user.getEmailVerified()));
+        }
+
+        public UserType getUserType() {
+            return userType;
+        }
+
+        public boolean isBlocked() {
+            return blocked;
+        }
+
+        public boolean isEmailVerified() {
+            return emailVerified;
+        }
+    }
+}
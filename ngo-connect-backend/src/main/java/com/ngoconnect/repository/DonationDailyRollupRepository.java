@@ -0,0 +1,69 @@
+package com.ngoconnect.repository;
+
+import com.ngoconnect.dto.DonationReportSummaryDTO;
+import com.ngoconnect.entity.DonationDailyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface DonationDailyRollupRepository extends JpaRepository<DonationDailyRollup, Long> {
+
+    /**
+     * Add to the (ngo, day, status) row, creating it on first use. A
+     * single upsert, so concurrent donations for the same key cannot race.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO donation_daily_rollups "
+            + "(ngo_id, rollup_date, status, donation_count, total_amount, updated_at) "
+            + "VALUES (:ngoId, :day, :status, :count, :amount, :now) "
+            + "ON DUPLICATE KEY UPDATE donation_count = donation_count + VALUES(donation_count), "
+            + "total_amount = total_amount + VALUES(total_amount), updated_at = VALUES(updated_at)",
+            nativeQuery = true)
+    int increment(@Param("ngoId") Long ngoId, @Param("day") LocalDate day, @Param("status") String status,
+            @Param("count") long count, @Param("amount") double amount, @Param("now") LocalDateTime now);
+
+    @Query("SELECT new com.ngoconnect.dto.DonationReportSummaryDTO(SUM(r.donationCount), SUM(r.totalAmount), "
+            + "COUNT(DISTINCT r.ngoId)) "
+            + "FROM DonationDailyRollup r WHERE r.ngoId = :ngoId AND r.rollupDate BETWEEN :fromDate AND :toDate")
+    DonationReportSummaryDTO summarizeByNgo(@Param("ngoId") Long ngoId, @Param("fromDate") LocalDate fromDate,
+            @Param("toDate") LocalDate toDate);
+
+    /**
+     * Summary over the NGOs whose current cause is the given one, matching
+     * the rows DonationRepository.findReportDonationsByCause returns
+     */
+    @Query("SELECT new com.ngoconnect.dto.DonationReportSummaryDTO(SUM(r.donationCount), SUM(r.totalAmount), "
+            + "COUNT(DISTINCT r.ngoId)) "
+            + "FROM DonationDailyRollup r, NGO n WHERE n.id = r.ngoId AND n.cause = :cause "
+            + "AND r.rollupDate BETWEEN :fromDate AND :toDate")
+    DonationReportSummaryDTO summarizeByCause(@Param("cause") String cause, @Param("fromDate") LocalDate fromDate,
+            @Param("toDate") LocalDate toDate);
+
+    /**
+     * Rows of [day, status, count, amount] for one NGO, oldest day first
+     */
+    @Query("SELECT r.rollupDate, r.status, SUM(r.donationCount), SUM(r.totalAmount) "
+            + "FROM DonationDailyRollup r WHERE r.ngoId = :ngoId AND r.rollupDate BETWEEN :fromDate AND :toDate "
+            + "GROUP BY r.rollupDate, r.status ORDER BY r.rollupDate ASC")
+    List<Object[]> findDailySeriesByNgo(@Param("ngoId") Long ngoId, @Param("fromDate") LocalDate fromDate,
+            @Param("toDate") LocalDate toDate);
+
+    /**
+     * Verified NGOs with completed donations in the window and no fund
+     * report of either kind in it; the count behind the dashboard figure
+     */
+    @Query("SELECT COUNT(DISTINCT r.ngoId) FROM DonationDailyRollup r, NGO n "
+            + "WHERE n.id = r.ngoId AND r.status = com.ngoconnect.entity.DonationStatus.COMPLETED "
+            + "AND r.rollupDate BETWEEN :fromDate AND :toDate AND n.isVerified = true "
+            + "AND NOT EXISTS (SELECT fu.id FROM FundUtilizationReport fu WHERE fu.ngo = n AND fu.reportDate BETWEEN :fromDate AND :toDate) "
+            + "AND NOT EXISTS (SELECT f.id FROM FundReport f WHERE f.ngo = n AND f.reportedAt BETWEEN :from AND :to)")
+    Long countNgosMissingFundReports(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+            @Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate);
+}
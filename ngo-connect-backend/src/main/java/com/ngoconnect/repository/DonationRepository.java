@@ -1,13 +1,22 @@
 package com.ngoconnect.repository;
 
+import com.ngoconnect.dto.AdminDonationDTO;
+import com.ngoconnect.dto.MissingFundReportDTO;
+import com.ngoconnect.dto.NGODonationResponse;
+import com.ngoconnect.dto.RecentDonationDTO;
 import com.ngoconnect.entity.Donation;
 import com.ngoconnect.entity.DonationStatus;
+import com.ngoconnect.entity.PaymentMethod;
 import com.ngoconnect.entity.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -20,8 +29,20 @@ public interface DonationRepository extends JpaRepository<Donation, Long> {
 
     List<Donation> findByNgoIdOrderByDonationDateDesc(Long ngoId);
 
-    @Query("SELECT d FROM Donation d WHERE d.donor.id = :userId ORDER BY d.createdAt DESC")
-    List<Donation> findByDonorIdOrderByCreatedAtDesc(@Param("userId") Long userId);
+    /**
+     * One page of a donor's history, newest first, seeking past (beforeCreatedAt,
+     * beforeId) within [from, to). Served by idx_donations_donor_created_at.
+     */
+    @Query("SELECT d FROM Donation d JOIN FETCH d.donor LEFT JOIN FETCH d.ngo "
+            + "WHERE d.donor.id = :donorId "
+            + "AND (:status IS NULL OR d.status = :status) "
+            + "AND d.createdAt >= :from AND d.createdAt < :to "
+            + "AND (d.createdAt < :beforeCreatedAt OR (d.createdAt = :beforeCreatedAt AND d.id < :beforeId)) "
+            + "ORDER BY d.createdAt DESC, d.id DESC")
+    List<Donation> findDonorHistoryPage(@Param("donorId") Long donorId, @Param("status") DonationStatus status,
+            @Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+            @Param("beforeCreatedAt") LocalDateTime beforeCreatedAt, @Param("beforeId") Long beforeId,
+            Pageable pageable);
 
     @Query("SELECT d FROM Donation d WHERE d.donor.id = :donorId ORDER BY d.donationDate DESC")
     List<Donation> findByDonorIdOrderByDonationDateDesc(@Param("donorId") Long donorId);
@@ -32,18 +53,83 @@ public interface DonationRepository extends JpaRepository<Donation, Long> {
     @Query("SELECT COUNT(d) FROM Donation d WHERE d.donor.id = :donorId AND d.status = 'COMPLETED'")
     Long getCountOfDonationsByDonor(@Param("donorId") Long donorId);
 
+    @Query("SELECT new com.ngoconnect.dto.RecentDonationDTO(d.id, d.amount, n.organizationName, d.donationDate, d.status) "
+            + "FROM Donation d LEFT JOIN d.ngo n WHERE d.donor.id = :donorId ORDER BY d.donationDate DESC")
+    List<RecentDonationDTO> findRecentByDonorId(@Param("donorId") Long donorId, Pageable pageable);
+
     @Query("SELECT d FROM Donation d WHERE d.donor.id = :donorId AND d.donationDate BETWEEN :startDate AND :endDate ORDER BY d.donationDate DESC")
     List<Donation> findByDonorIdAndDateRange(@Param("donorId") Long donorId,
             @Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
 
     List<Donation> findByStatus(DonationStatus status);
 
-    @Query("SELECT d FROM Donation d WHERE d.ngo.id = :ngoId ORDER BY d.donationDate DESC")
-    List<Donation> findByNgoId(@Param("ngoId") Long ngoId);
+    /**
+     * One page of an NGO's donations with donor details, newest first, seeking
+     * past (beforeDate, beforeId). Served by idx_donations_ngo_donation_date.
+     */
+    @Query("SELECT new com.ngoconnect.dto.NGODonationResponse(d.id, d.amount, d.paymentMethod, d.status, "
+            + "d.transactionId, d.donationDate, d.createdAt, u.id, u.fullName, u.email) "
+            + "FROM Donation d LEFT JOIN d.donor u "
+            + "WHERE d.ngo.id = :ngoId "
+            + "AND (d.donationDate < :beforeDate OR (d.donationDate = :beforeDate AND d.id < :beforeId)) "
+            + "ORDER BY d.donationDate DESC, d.id DESC")
+    List<NGODonationResponse> findNgoDonationPage(@Param("ngoId") Long ngoId,
+            @Param("beforeDate") LocalDateTime beforeDate, @Param("beforeId") Long beforeId, Pageable pageable);
 
     @Query("SELECT SUM(d.amount) FROM Donation d WHERE d.ngo.id = :ngoId AND d.status = 'COMPLETED'")
     Double getTotalDonationsByNgo(@Param("ngoId") Long ngoId);
 
     @Query("SELECT SUM(d.amount) FROM Donation d WHERE d.status = 'COMPLETED'")
     Double getTotalDonationAmount();
+
+    /**
+     * Verified NGOs with completed donations in [from, to] and neither a
+     * FundUtilizationReport nor a FundReport in the same window (anti-join).
+     */
+    @Query(value = "SELECT new com.ngoconnect.dto.MissingFundReportDTO(n.id, n.organizationName, COUNT(d), SUM(d.amount), MAX(d.donationDate)) "
+            + "FROM Donation d JOIN d.ngo n "
+            + "WHERE d.status = 'COMPLETED' AND d.donationDate BETWEEN :from AND :to AND n.isVerified = true "
+            + "AND NOT EXISTS (SELECT r.id FROM FundUtilizationReport r WHERE r.ngo = n AND r.reportDate BETWEEN :fromDate AND :toDate) "
+            + "AND NOT EXISTS (SELECT f.id FROM FundReport f WHERE f.ngo = n AND f.reportedAt BETWEEN :from AND :to) "
+            + "GROUP BY n.id, n.organizationName "
+            + "ORDER BY SUM(d.amount) DESC",
+            countQuery = "SELECT COUNT(DISTINCT d.ngo.id) FROM Donation d "
+            + "WHERE d.status = 'COMPLETED' AND d.donationDate BETWEEN :from AND :to AND d.ngo.isVerified = true "
+            + "AND NOT EXISTS (SELECT r.id FROM FundUtilizationReport r WHERE r.ngo = d.ngo AND r.reportDate BETWEEN :fromDate AND :toDate) "
+            + "AND NOT EXISTS (SELECT f.id FROM FundReport f WHERE f.ngo = d.ngo AND f.reportedAt BETWEEN :from AND :to)")
+    Page<MissingFundReportDTO> findNgosMissingFundReports(@Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to, @Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate,
+            Pageable pageable);
+
+    // Donation report detail rows over [from, to), one page at a time
+
+    @Query("SELECT d FROM Donation d JOIN FETCH d.ngo LEFT JOIN FETCH d.donor "
+            + "WHERE d.ngo.id = :ngoId AND d.donationDate >= :from AND d.donationDate < :to "
+            + "ORDER BY d.donationDate DESC, d.id DESC")
+    Slice<Donation> findReportDonationsByNgo(@Param("ngoId") Long ngoId, @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to, Pageable pageable);
+
+    @Query("SELECT d FROM Donation d JOIN FETCH d.ngo n LEFT JOIN FETCH d.donor "
+            + "WHERE n.cause = :cause AND d.donationDate >= :from AND d.donationDate < :to "
+            + "ORDER BY d.donationDate DESC, d.id DESC")
+    Slice<Donation> findReportDonationsByCause(@Param("cause") String cause, @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to, Pageable pageable);
+
+    /**
+     * Admin donation grid: one row per donation with donor and NGO names.
+     * Null filters are ignored; the caller supplies the date bounds.
+     */
+    @Query("SELECT new com.ngoconnect.dto.AdminDonationDTO(d.id, d.amount, d.status, d.paymentMethod, "
+            + "d.pledgeType, d.transactionId, d.donationDate, u.id, u.fullName, u.email, n.id, n.organizationName) "
+            + "FROM Donation d LEFT JOIN d.donor u LEFT JOIN d.ngo n "
+            + "WHERE d.donationDate >= :from AND d.donationDate < :to "
+            + "AND (:status IS NULL OR d.status = :status) "
+            + "AND (:paymentMethod IS NULL OR d.paymentMethod = :paymentMethod) "
+            + "AND (:minAmount IS NULL OR d.amount >= :minAmount) "
+            + "AND (:maxAmount IS NULL OR d.amount <= :maxAmount) "
+            + "ORDER BY d.donationDate DESC, d.id DESC")
+    Slice<AdminDonationDTO> findAdminDonations(@Param("status") DonationStatus status,
+            @Param("paymentMethod") PaymentMethod paymentMethod, @Param("minAmount") Double minAmount,
+            @Param("maxAmount") Double maxAmount, @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to, Pageable pageable);
 }
@@ -0,0 +1,22 @@
+package com.ngoconnect.repository;
+
+import com.ngoconnect.entity.DonationTotalShard;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface DonationTotalShardRepository extends JpaRepository<DonationTotalShard, Long> {
+
+    /**
+     * Rows of [ownerId, totalAmount] summed over each owner's stripes
+     */
+    @Query("SELECT s.ownerId, SUM(s.totalAmount) FROM DonationTotalShard s "
+            + "WHERE s.ownerType = :ownerType AND s.ownerId IN :ownerIds GROUP BY s.ownerId")
+    List<Object[]> sumByOwners(@Param("ownerType") DonationTotalShard.OwnerType ownerType,
+            @Param("ownerIds") Collection<Long> ownerIds);
+}
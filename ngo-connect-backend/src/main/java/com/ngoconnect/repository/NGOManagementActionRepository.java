@@ -0,0 +1,20 @@
+package com.ngoconnect.repository;
+
+import com.ngoconnect.entity.NGOManagementAction;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface NGOManagementActionRepository extends JpaRepository<NGOManagementAction, Long> {
+
+    // Newest first, keyset paginated on id
+    @Query("SELECT a FROM NGOManagementAction a WHERE a.ngoId = :ngoId AND a.id < :cursor ORDER BY a.id DESC")
+    List<NGOManagementAction> findHistory(@Param("ngoId") Long ngoId, @Param("cursor") Long cursor, Pageable pageable);
+
+    Long countByNgoId(Long ngoId);
+}
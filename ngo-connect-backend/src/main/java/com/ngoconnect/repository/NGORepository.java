@@ -1,12 +1,18 @@
 package com.ngoconnect.repository;
 
+import com.ngoconnect.dto.NGOManagementDTO;
 import com.ngoconnect.entity.NGO;
+import com.ngoconnect.entity.NGOStatus;
 import com.ngoconnect.entity.UrgencyLevel;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -43,4 +49,63 @@ public interface NGORepository extends JpaRepository<NGO, Long> {
 
     // Count NGOs by verification status
     Long countByIsVerified(Boolean isVerified);
+
+    // Admin management listing: keyset pagination on id (newest first)
+
+    @Query("SELECT new com.ngoconnect.dto.NGOManagementDTO(n.id, n.organizationName, n.cause, n.location, n.email, "
+            + "n.totalDonations, n.rating, n.isVerified, n.status, n.createdAt, n.registrationNumber) "
+            + "FROM NGO n WHERE n.id < :cursor ORDER BY n.id DESC")
+    List<NGOManagementDTO> findManagementPage(@Param("cursor") Long cursor, Pageable pageable);
+
+    /**
+     * Rows without a status are legacy rows whose status is derived from
+     * isVerified; pass legacyVerified = null to exclude them.
+     */
+    @Query("SELECT new com.ngoconnect.dto.NGOManagementDTO(n.id, n.organizationName, n.cause, n.location, n.email, "
+            + "n.totalDonations, n.rating, n.isVerified, n.status, n.createdAt, n.registrationNumber) "
+            + "FROM NGO n WHERE n.id < :cursor "
+            + "AND (n.status = :status OR (n.status IS NULL AND n.isVerified = :legacyVerified)) "
+            + "ORDER BY n.id DESC")
+    List<NGOManagementDTO> findManagementPageByStatus(@Param("status") NGOStatus status,
+            @Param("legacyVerified") Boolean legacyVerified, @Param("cursor") Long cursor, Pageable pageable);
+
+    @Query("SELECT COUNT(n) FROM NGO n "
+            + "WHERE n.status = :status OR (n.status IS NULL AND n.isVerified = :legacyVerified)")
+    Long countForManagementByStatus(@Param("status") NGOStatus status,
+            @Param("legacyVerified") Boolean legacyVerified);
+
+    // Bulk moderation: read a chunk's prior state, then move it in one statement
+
+    /**
+     * Rows of [id, status, isVerified] for the given ids
+     */
+    @Query("SELECT n.id, n.status, n.isVerified FROM NGO n WHERE n.id IN :ids")
+    List<Object[]> findModerationStates(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT n.id FROM NGO n WHERE n.id < :cursor "
+            + "AND (n.status = :status OR (n.status IS NULL AND n.isVerified = :legacyVerified)) "
+            + "ORDER BY n.id DESC")
+    List<Long> findIdsByStatus(@Param("status") NGOStatus status, @Param("legacyVerified") Boolean legacyVerified,
+            @Param("cursor") Long cursor, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE NGO n SET n.status = :status, n.isVerified = :verified, n.updatedAt = :now WHERE n.id IN :ids")
+    int updateModerationStatus(@Param("ids") Collection<Long> ids, @Param("status") NGOStatus status,
+            @Param("verified") Boolean verified, @Param("now") LocalDateTime now);
+
+    // Bulk donation ingestion: resolve a batch's NGOs in one query
+    @Query("SELECT n.id FROM NGO n WHERE n.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Rows of [id, organizationName, description, cause] for the search index
+     */
+    @Query("SELECT n.id, n.organizationName, n.description, n.cause FROM NGO n")
+    List<Object[]> findSearchRows();
+
+    /**
+     * Rows of [id, cause] for every tagged cause, for the search index
+     */
+    @Query("SELECT n.id, c FROM NGO n JOIN n.causes c")
+    List<Object[]> findCauseTags();
 }
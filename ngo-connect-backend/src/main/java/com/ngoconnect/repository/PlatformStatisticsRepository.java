@@ -1,6 +1,7 @@
 package com.ngoconnect.repository;
 
 import com.ngoconnect.entity.PlatformStatistics;
+import com.ngoconnect.entity.StatisticsGranularity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -12,17 +13,26 @@ import java.util.Optional;
 @Repository
 public interface PlatformStatisticsRepository extends JpaRepository<PlatformStatistics, Long> {
 
-    Optional<PlatformStatistics> findByStatDate(LocalDate statDate);
+    Optional<PlatformStatistics> findByStatDateAndGranularity(LocalDate statDate, StatisticsGranularity granularity);
 
-    @Query("SELECT p FROM PlatformStatistics p WHERE p.statDate >= ?1 ORDER BY p.statDate DESC")
+    default Optional<PlatformStatistics> findByStatDate(LocalDate statDate) {
+        return findByStatDateAndGranularity(statDate, StatisticsGranularity.DAILY);
+    }
+
+    @Query("SELECT p FROM PlatformStatistics p WHERE p.statDate >= ?1 AND p.granularity = com.ngoconnect.entity.StatisticsGranularity.DAILY ORDER BY p.statDate DESC")
     List<PlatformStatistics> findByStatDateAfterOrderByStatDateDesc(LocalDate fromDate);
 
-    @Query("SELECT p FROM PlatformStatistics p ORDER BY p.statDate DESC")
+    @Query("SELECT p FROM PlatformStatistics p WHERE p.granularity = com.ngoconnect.entity.StatisticsGranularity.DAILY ORDER BY p.statDate DESC")
     List<PlatformStatistics> findAllOrderByStatDateDesc();
 
-    @Query("SELECT p FROM PlatformStatistics p WHERE p.statDate = (SELECT MAX(ps.statDate) FROM PlatformStatistics ps)")
+    @Query("SELECT p FROM PlatformStatistics p WHERE p.granularity = com.ngoconnect.entity.StatisticsGranularity.DAILY AND p.statDate = (SELECT MAX(ps.statDate) FROM PlatformStatistics ps WHERE ps.granularity = com.ngoconnect.entity.StatisticsGranularity.DAILY)")
     Optional<PlatformStatistics> findLatestStatistics();
 
-    @Query("SELECT p FROM PlatformStatistics p WHERE p.statDate BETWEEN ?1 AND ?2 ORDER BY p.statDate ASC")
-    List<PlatformStatistics> findByStatDateBetweenOrderByStatDateAsc(LocalDate startDate, LocalDate endDate);
-}
\ No newline at end of file
+    @Query("SELECT p FROM PlatformStatistics p WHERE p.statDate BETWEEN ?1 AND ?2 AND p.granularity = ?3 ORDER BY p.statDate ASC")
+    List<PlatformStatistics> findByStatDateBetweenOrderByStatDateAsc(LocalDate startDate, LocalDate endDate,
+            StatisticsGranularity granularity);
+
+    default List<PlatformStatistics> findByStatDateBetweenOrderByStatDateAsc(LocalDate startDate, LocalDate endDate) {
+        return findByStatDateBetweenOrderByStatDateAsc(startDate, endDate, StatisticsGranularity.DAILY);
+    }
+}
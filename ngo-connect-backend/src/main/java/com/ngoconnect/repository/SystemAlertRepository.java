@@ -3,8 +3,10 @@ package com.ngoconnect.repository;
 import com.ngoconnect.entity.SystemAlert;
 import com.ngoconnect.entity.SystemAlert.AlertType;
 import com.ngoconnect.entity.SystemAlert.Priority;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -29,4 +31,8 @@ public interface SystemAlertRepository extends JpaRepository<SystemAlert, Long>
 
     @Query("SELECT s FROM SystemAlert s WHERE s.isResolved = false AND s.priority IN ('HIGH', 'CRITICAL') ORDER BY s.priority DESC, s.createdAt ASC")
     List<SystemAlert> findHighPriorityUnresolvedAlerts();
-}
\ No newline at end of file
+
+    @Query("SELECT s FROM SystemAlert s WHERE s.alertType = :alertType AND s.isResolved = false "
+            + "ORDER BY s.createdAt DESC, s.id DESC")
+    List<SystemAlert> findRecentUnresolvedByAlertType(@Param("alertType") AlertType alertType, Pageable pageable);
+}
@@ -0,0 +1,20 @@
+package com.ngoconnect.repository;
+
+import com.ngoconnect.entity.UserManagementAction;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface UserManagementActionRepository extends JpaRepository<UserManagementAction, Long> {
+
+    // Newest first, keyset paginated on id
+    @Query("SELECT a FROM UserManagementAction a WHERE a.userId = :userId AND a.id < :cursor ORDER BY a.id DESC")
+    List<UserManagementAction> findHistory(@Param("userId") Long userId, @Param("cursor") Long cursor, Pageable pageable);
+
+    Long countByUserId(Long userId);
+}
@@ -3,13 +3,20 @@ package com.ngoconnect.repository;
 import com.ngoconnect.entity.User;
 import com.ngoconnect.entity.UserType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificationExecutor<User>,
+        UserRepositoryCustom {
     
     Optional<User> findByEmail(String email);
     
@@ -20,4 +27,36 @@ public interface UserRepository extends JpaRepository<User, Long> {
     List<User> findByEmailVerified(Boolean emailVerified);
     
     List<User> findByUserTypeAndEmailVerified(UserType userType, Boolean emailVerified);
+
+    @Query("SELECT COUNT(u) FROM User u WHERE u.isBlocked = true")
+    Long countBlockedUsers();
+
+    @Query("SELECT COUNT(u) FROM User u WHERE (u.isBlocked IS NULL OR u.isBlocked = false) AND u.emailVerified = true")
+    Long countActiveUsers();
+
+    @Query("SELECT COUNT(u) FROM User u WHERE u.userType = :userType AND (u.isBlocked IS NULL OR u.isBlocked = false)")
+    Long countUnblockedByUserType(@Param("userType") UserType userType);
+
+    // Bulk moderation: read a chunk's prior state, then move it in one statement
+
+    /**
+     * Rows of [id, userType, isBlocked, emailVerified] for the given ids
+     */
+    @Query("SELECT u.id, u.userType, u.isBlocked, u.emailVerified FROM User u WHERE u.id IN :ids")
+    List<Object[]> findModerationStates(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("UPDATE User u SET u.isBlocked = true, u.blockReason = :reason, u.blockedBy = :adminId, "
+            + "u.blockedAt = :now, u.updatedAt = :now WHERE u.id IN :ids")
+    int blockAll(@Param("ids") Collection<Long> ids, @Param("adminId") Long adminId,
+            @Param("reason") String reason, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE User u SET u.isBlocked = false, u.blockReason = NULL, u.blockedBy = NULL, "
+            + "u.blockedAt = NULL, u.updatedAt = :now WHERE u.id IN :ids")
+    int unblockAll(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    // Bulk donation ingestion: resolve a batch's donors in one query
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
 }
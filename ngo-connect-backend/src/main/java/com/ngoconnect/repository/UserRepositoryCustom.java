@@ -0,0 +1,15 @@
+package com.ngoconnect.repository;
+
+import com.ngoconnect.entity.User;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface UserRepositoryCustom {
+
+    /**
+     * First limit users matching spec, newest id first. Unlike
+     * findAll(spec, pageable) this issues no count query.
+     */
+    List<User> findNewestFirst(Specification<User> spec, int limit);
+}
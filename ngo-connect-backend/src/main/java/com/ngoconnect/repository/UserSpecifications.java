@@ -0,0 +1,66 @@
+package com.ngoconnect.repository;
+
+import com.ngoconnect.entity.User;
+import com.ngoconnect.entity.UserType;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Composable filters for admin user search. Each one maps to a sargable
+ * predicate so the combined query can use the users indexes.
+ */
+public final class UserSpecifications {
+
+    private UserSpecifications() {
+    }
+
+    public static Specification<User> hasUserType(UserType userType) {
+        return (root, query, cb) -> cb.equal(root.get("userType"), userType);
+    }
+
+    /**
+     * ACTIVE = not blocked and email verified, BLOCKED, UNVERIFIED = not blocked
+     * and email not verified. Anything else matches no user.
+     */
+    public static Specification<User> hasStatus(String status) {
+        return (root, query, cb) -> {
+            javax.persistence.criteria.Predicate notBlocked = cb.or(
+                    cb.isNull(root.get("isBlocked")), cb.isFalse(root.get("isBlocked")));
+            switch (status.toUpperCase()) {
+                case "ACTIVE":
+                    return cb.and(notBlocked, cb.isTrue(root.get("emailVerified")));
+                case "BLOCKED":
+                    return cb.isTrue(root.get("isBlocked"));
+                case "UNVERIFIED":
+                    return cb.and(notBlocked, cb.or(
+                            cb.isNull(root.get("emailVerified")), cb.isFalse(root.get("emailVerified"))));
+                default:
+                    return cb.disjunction();
+            }
+        };
+    }
+
+    /**
+     * Prefix match on full name or email. A leading wildcard would defeat the
+     * indexes, so only prefixes are supported; the column collation makes the
+     * match case-insensitive.
+     */
+    public static Specification<User> nameOrEmailStartsWith(String text) {
+        String pattern = escapeLike(text.trim()) + "%";
+        return (root, query, cb) -> {
+            if (text.contains("@")) {
+                return cb.like(root.get("email"), pattern, '\\');
+            }
+            return cb.or(
+                    cb.like(root.get("fullName"), pattern, '\\'),
+                    cb.like(root.get("email"), pattern, '\\'));
+        };
+    }
+
+    public static Specification<User> idBefore(Long id) {
+        return (root, query, cb) -> cb.lessThan(root.get("id"), id);
+    }
+
+    private static String escapeLike(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -1,14 +1,18 @@
 package com.ngoconnect.repository;
 
+import com.ngoconnect.dto.RecentApplicationDTO;
 import com.ngoconnect.entity.ApplicationStatus;
 import com.ngoconnect.entity.VolunteerApplication;
 import com.ngoconnect.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -30,6 +34,13 @@ public interface VolunteerApplicationRepository extends JpaRepository<VolunteerA
     @Query("SELECT SUM(va.hoursCompleted) FROM VolunteerApplication va WHERE va.volunteer.id = :volunteerId AND va.status = 'COMPLETED'")
     Integer getTotalHoursByVolunteer(@Param("volunteerId") Long volunteerId);
     
+    Long countByVolunteerId(Long volunteerId);
+
+    @Query("SELECT new com.ngoconnect.dto.RecentApplicationDTO(va.id, o.title, n.organizationName, va.status, va.appliedDate, va.hoursCompleted) "
+            + "FROM VolunteerApplication va LEFT JOIN va.opportunity o LEFT JOIN o.ngo n "
+            + "WHERE va.volunteer.id = :volunteerId ORDER BY va.appliedDate DESC")
+    List<RecentApplicationDTO> findRecentByVolunteerId(@Param("volunteerId") Long volunteerId, Pageable pageable);
+    
     @Query("SELECT va FROM VolunteerApplication va WHERE va.volunteer.id = :volunteerId AND va.appliedDate BETWEEN :startDate AND :endDate ORDER BY va.appliedDate DESC")
     List<VolunteerApplication> findByVolunteerIdAndDateRange(@Param("volunteerId") Long volunteerId, @Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
     
@@ -43,4 +54,43 @@ public interface VolunteerApplicationRepository extends JpaRepository<VolunteerA
     
     @Query("SELECT va FROM VolunteerApplication va WHERE va.volunteer.id = :volunteerId AND va.opportunity.id = :opportunityId")
     VolunteerApplication findByVolunteerIdAndOpportunityId(@Param("volunteerId") Long volunteerId, @Param("opportunityId") Long opportunityId);
+
+    /**
+     * Change the status only if it is still the expected one
+     *
+     * @return 1 if this call changed it, 0 if another request got there first
+     */
+    @Modifying
+    @Query("UPDATE VolunteerApplication va SET va.status = :to, va.statusUpdatedDate = :now "
+            + "WHERE va.id = :id AND va.status = :from")
+    int updateStatusIfCurrent(@Param("id") Long id, @Param("from") ApplicationStatus from,
+            @Param("to") ApplicationStatus to, @Param("now") LocalDateTime now);
+
+    // Participation report: application counts and completed hours applied for in [from, to)
+
+    /**
+     * Rows of [ngoId, applied, approved, completed, hoursCompleted]
+     */
+    @Query("SELECT o.ngo.id, COUNT(va), "
+            + "SUM(CASE WHEN va.status = com.ngoconnect.entity.ApplicationStatus.APPROVED THEN 1 ELSE 0 END), "
+            + "SUM(CASE WHEN va.status = com.ngoconnect.entity.ApplicationStatus.COMPLETED THEN 1 ELSE 0 END), "
+            + "SUM(CASE WHEN va.status = com.ngoconnect.entity.ApplicationStatus.COMPLETED THEN va.hoursCompleted ELSE 0 END) "
+            + "FROM VolunteerApplication va JOIN va.opportunity o "
+            + "WHERE o.ngo.id IN :ngoIds AND va.appliedDate >= :from AND va.appliedDate < :to "
+            + "GROUP BY o.ngo.id")
+    List<Object[]> summarizeParticipationByNgo(@Param("ngoIds") Collection<Long> ngoIds,
+            @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    /**
+     * Rows of [cause, applied, approved, completed, hoursCompleted]
+     */
+    @Query("SELECT o.cause, COUNT(va), "
+            + "SUM(CASE WHEN va.status = com.ngoconnect.entity.ApplicationStatus.APPROVED THEN 1 ELSE 0 END), "
+            + "SUM(CASE WHEN va.status = com.ngoconnect.entity.ApplicationStatus.COMPLETED THEN 1 ELSE 0 END), "
+            + "SUM(CASE WHEN va.status = com.ngoconnect.entity.ApplicationStatus.COMPLETED THEN va.hoursCompleted ELSE 0 END) "
+            + "FROM VolunteerApplication va JOIN va.opportunity o "
+            + "WHERE va.appliedDate >= :from AND va.appliedDate < :to "
+            + "GROUP BY o.cause")
+    List<Object[]> summarizeParticipationByCause(@Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
 }
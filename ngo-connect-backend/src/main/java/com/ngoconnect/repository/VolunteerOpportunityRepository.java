@@ -1,17 +1,25 @@
 package com.ngoconnect.repository;
 
+import com.ngoconnect.dto.VolunteerOpportunityDTO;
 import com.ngoconnect.entity.VolunteerOpportunity;
 import com.ngoconnect.entity.UrgencyLevel;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface VolunteerOpportunityRepository extends JpaRepository<VolunteerOpportunity, Long> {
+public interface VolunteerOpportunityRepository extends JpaRepository<VolunteerOpportunity, Long>,
+                JpaSpecificationExecutor<VolunteerOpportunity> {
 
         List<VolunteerOpportunity> findByCause(String cause);
 
@@ -52,4 +60,136 @@ public interface VolunteerOpportunityRepository extends JpaRepository<VolunteerO
         Long countByIsActive(Boolean isActive);
 
         List<VolunteerOpportunity> findByStatus(com.ngoconnect.entity.OpportunityStatus status);
+
+        /**
+         * Take one seat if the opportunity is active and not full. The check
+         * and the increment are one statement, so concurrent applications
+         * can neither oversubscribe nor lose increments.
+         *
+         * @return 1 if a seat was taken, 0 if there was none
+         */
+        @Modifying
+        @Query("UPDATE VolunteerOpportunity v SET v.volunteersApplied = v.volunteersApplied + 1, "
+                        + "v.updatedAt = CURRENT_TIMESTAMP "
+                        + "WHERE v.id = :id AND v.volunteersApplied < v.volunteersNeeded "
+                        + "AND (v.isActive IS NULL OR v.isActive = true)")
+        int reserveSeat(@Param("id") Long id);
+
+        /**
+         * Give back one seat, never going below zero
+         */
+        @Modifying
+        @Query("UPDATE VolunteerOpportunity v SET v.volunteersApplied = v.volunteersApplied - 1, "
+                        + "v.updatedAt = CURRENT_TIMESTAMP "
+                        + "WHERE v.id = :id AND v.volunteersApplied > 0")
+        int releaseSeat(@Param("id") Long id);
+
+        /**
+         * One page of the public listing as DTOs, newest first, without
+         * requirements. A Slice reads one extra row to tell whether a next
+         * page exists, so no count query runs.
+         */
+        @Query("SELECT new com.ngoconnect.dto.VolunteerOpportunityDTO(v.id, v.title, v.description, v.cause, "
+                        + "v.location, v.timeCommitment, v.workType, v.startDate, v.endDate, v.volunteersNeeded, "
+                        + "v.volunteersApplied, v.urgency, v.imageUrl, n.organizationName, n.imageUrl) "
+                        + "FROM VolunteerOpportunity v LEFT JOIN v.ngo n WHERE v.status = :status "
+                        + "AND (v.isActive IS NULL OR v.isActive = true) ORDER BY v.id DESC")
+        Slice<VolunteerOpportunityDTO> findListing(@Param("status") com.ngoconnect.entity.OpportunityStatus status,
+                        Pageable pageable);
+
+        /**
+         * Single row of [count, maxId, maxUpdatedAt, maxNgoUpdatedAt,
+         * volunteersApplied] over the rows findListing pages through, for the
+         * listing's ETag
+         */
+        @Query("SELECT COUNT(v), MAX(v.id), MAX(v.updatedAt), MAX(n.updatedAt), SUM(v.volunteersApplied) "
+                        + "FROM VolunteerOpportunity v LEFT JOIN v.ngo n WHERE v.status = :status "
+                        + "AND (v.isActive IS NULL OR v.isActive = true)")
+        List<Object[]> findListingFingerprint(
+                        @Param("status") com.ngoconnect.entity.OpportunityStatus status);
+
+        /**
+         * Rows of [opportunityId, requirement] for a page of opportunities, so
+         * their requirements load in one query instead of one per row
+         */
+        @Query("SELECT v.id, r FROM VolunteerOpportunity v JOIN v.requirements r WHERE v.id IN :ids")
+        List<Object[]> findRequirementsByOpportunityIds(@Param("ids") Collection<Long> ids);
+
+        /**
+         * Rows of [id, cause, workType, timeCommitment, location, urgency] of
+         * opportunities in the given status that their NGO has not deactivated
+         */
+        @Query("SELECT v.id, v.cause, v.workType, v.timeCommitment, v.location, v.urgency "
+                        + "FROM VolunteerOpportunity v WHERE v.status = :status "
+                        + "AND (v.isActive IS NULL OR v.isActive = true)")
+        List<Object[]> findFacetRows(@Param("status") com.ngoconnect.entity.OpportunityStatus status);
+
+        /**
+         * Rows of [id, title, description, ngoName] for the search index
+         */
+        @Query("SELECT v.id, v.title, v.description, n.organizationName FROM VolunteerOpportunity v "
+                        + "LEFT JOIN v.ngo n WHERE v.status = :status")
+        List<Object[]> findSearchRows(@Param("status") com.ngoconnect.entity.OpportunityStatus status);
+
+        /**
+         * Search index rows of one NGO's opportunities, for when its name changes
+         */
+        @Query("SELECT v.id, v.title, v.description, n.organizationName FROM VolunteerOpportunity v "
+                        + "JOIN v.ngo n WHERE v.status = :status AND n.id = :ngoId")
+        List<Object[]> findSearchRowsByNgoId(@Param("status") com.ngoconnect.entity.OpportunityStatus status,
+                        @Param("ngoId") Long ngoId);
+
+        /**
+         * Rows of [id, ngoId, title, description] for the similarity index
+         */
+        @Query("SELECT v.id, v.ngo.id, v.title, v.description FROM VolunteerOpportunity v")
+        List<Object[]> findSimilarityRows();
+
+        /**
+         * Rows of [id, title, ngoName, volunteersNeeded, descriptionLength] for
+         * opportunities tripping a per-row check or listed in ids
+         */
+        @Query("SELECT v.id, v.title, n.organizationName, v.volunteersNeeded, LENGTH(v.description) "
+                        + "FROM VolunteerOpportunity v LEFT JOIN v.ngo n "
+                        + "WHERE v.volunteersNeeded > :maxVolunteers "
+                        + "OR LENGTH(v.description) < :minDescriptionLength OR v.id IN :ids")
+        List<Object[]> findSuspiciousCandidates(@Param("maxVolunteers") Integer maxVolunteers,
+                        @Param("minDescriptionLength") Integer minDescriptionLength, @Param("ids") Collection<Long> ids);
+
+        /**
+         * findSuspiciousCandidates without the ids clause, for when there are
+         * no duplicates to include
+         */
+        @Query("SELECT v.id, v.title, n.organizationName, v.volunteersNeeded, LENGTH(v.description) "
+                        + "FROM VolunteerOpportunity v LEFT JOIN v.ngo n "
+                        + "WHERE v.volunteersNeeded > :maxVolunteers "
+                        + "OR LENGTH(v.description) < :minDescriptionLength")
+        List<Object[]> findSuspiciousCandidatesByChecks(@Param("maxVolunteers") Integer maxVolunteers,
+                        @Param("minDescriptionLength") Integer minDescriptionLength);
+
+        // Participation report: catalogue side, grouped in SQL
+
+        /**
+         * Single row of [activeOpportunities, volunteersNeeded, volunteersApplied]
+         */
+        @Query("SELECT COUNT(v), SUM(v.volunteersNeeded), SUM(v.volunteersApplied) "
+                        + "FROM VolunteerOpportunity v WHERE v.isActive = true")
+        List<Object[]> summarizeActiveOpportunities();
+
+        /**
+         * Rows of [ngoId, ngoName, opportunities, activeOpportunities, volunteersNeeded]
+         */
+        @Query(value = "SELECT n.id, n.organizationName, COUNT(v), "
+                        + "SUM(CASE WHEN v.isActive = true THEN 1 ELSE 0 END), SUM(v.volunteersNeeded) "
+                        + "FROM VolunteerOpportunity v JOIN v.ngo n "
+                        + "GROUP BY n.id, n.organizationName ORDER BY n.id",
+                        countQuery = "SELECT COUNT(DISTINCT v.ngo.id) FROM VolunteerOpportunity v")
+        Page<Object[]> findParticipationByNgo(Pageable pageable);
+
+        /**
+         * Rows of [cause, opportunities, activeOpportunities, volunteersNeeded]
+         */
+        @Query("SELECT v.cause, COUNT(v), SUM(CASE WHEN v.isActive = true THEN 1 ELSE 0 END), "
+                        + "SUM(v.volunteersNeeded) FROM VolunteerOpportunity v GROUP BY v.cause ORDER BY v.cause")
+        List<Object[]> findParticipationByCause();
 }
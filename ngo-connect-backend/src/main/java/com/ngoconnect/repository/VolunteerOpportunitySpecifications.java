@@ -0,0 +1,109 @@
+package com.ngoconnect.repository;
+
+import com.ngoconnect.entity.NGO;
+import com.ngoconnect.entity.OpportunityStatus;
+import com.ngoconnect.entity.UrgencyLevel;
+import com.ngoconnect.entity.VolunteerOpportunity;
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.persistence.criteria.Fetch;
+import javax.persistence.criteria.From;
+import javax.persistence.criteria.Join;
+import javax.persistence.criteria.JoinType;
+import javax.persistence.criteria.Root;
+import java.util.Collection;
+
+/**
+ * Composable filters for the public opportunity search. Equality filters rely
+ * on the column collation for case-insensitive matching so they stay
+ * sargable; location and free-text filters keep the substring semantics of
+ * the old in-memory search.
+ */
+public final class VolunteerOpportunitySpecifications {
+
+    private VolunteerOpportunitySpecifications() {
+    }
+
+    public static Specification<VolunteerOpportunity> hasStatus(OpportunityStatus status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    /**
+     * Excludes opportunities their NGO has switched off
+     */
+    public static Specification<VolunteerOpportunity> notDeactivated() {
+        return (root, query, cb) -> cb.or(cb.isNull(root.get("isActive")), cb.isTrue(root.get("isActive")));
+    }
+
+    /**
+     * Loads the NGO in the same query instead of one select per row. Count
+     * queries get no fetch, since Hibernate rejects fetches without the owner.
+     */
+    public static Specification<VolunteerOpportunity> fetchNgo() {
+        return (root, query, cb) -> {
+            if (!Long.class.equals(query.getResultType()) && !long.class.equals(query.getResultType())) {
+                root.fetch("ngo", JoinType.LEFT);
+            }
+            return null;
+        };
+    }
+
+    public static Specification<VolunteerOpportunity> idIn(Collection<Long> ids) {
+        return (root, query, cb) -> root.get("id").in(ids);
+    }
+
+    public static Specification<VolunteerOpportunity> hasCause(String cause) {
+        return (root, query, cb) -> cb.equal(root.get("cause"), cause.trim());
+    }
+
+    public static Specification<VolunteerOpportunity> hasWorkType(String workType) {
+        return (root, query, cb) -> cb.equal(root.get("workType"), workType.trim());
+    }
+
+    public static Specification<VolunteerOpportunity> hasTimeCommitment(String timeCommitment) {
+        return (root, query, cb) -> cb.equal(root.get("timeCommitment"), timeCommitment.trim());
+    }
+
+    public static Specification<VolunteerOpportunity> hasUrgency(UrgencyLevel urgency) {
+        return (root, query, cb) -> cb.equal(root.get("urgency"), urgency);
+    }
+
+    public static Specification<VolunteerOpportunity> locationContains(String location) {
+        String pattern = "%" + escapeLike(location.trim()) + "%";
+        return (root, query, cb) -> cb.like(root.get("location"), pattern, '\\');
+    }
+
+    /**
+     * Substring match on title, description or NGO name. Only used while the
+     * in-memory search index is still being built.
+     */
+    public static Specification<VolunteerOpportunity> matchesSearchTerm(String searchTerm) {
+        String pattern = "%" + escapeLike(searchTerm.trim()) + "%";
+        return (root, query, cb) -> cb.or(
+                cb.like(root.get("title"), pattern, '\\'),
+                cb.like(root.get("description"), pattern, '\\'),
+                cb.like(ngo(root).get("organizationName"), pattern, '\\'));
+    }
+
+    /**
+     * The NGO join already added by fetchNgo, or a new left join
+     */
+    @SuppressWarnings("unchecked")
+    private static From<VolunteerOpportunity, NGO> ngo(Root<VolunteerOpportunity> root) {
+        for (Fetch<VolunteerOpportunity, ?> fetch : root.getFetches()) {
+            if ("ngo".equals(fetch.getAttribute().getName()) && fetch instanceof Join) {
+                return (From<VolunteerOpportunity, NGO>) fetch;
+            }
+        }
+        for (Join<VolunteerOpportunity, ?> join : root.getJoins()) {
+            if ("ngo".equals(join.getAttribute().getName())) {
+                return (From<VolunteerOpportunity, NGO>) join;
+            }
+        }
+        return root.join("ngo", JoinType.LEFT);
+    }
+
+    private static String escapeLike(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
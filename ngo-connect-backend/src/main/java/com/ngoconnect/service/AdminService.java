@@ -1,21 +1,28 @@
 package com.ngoconnect.service;
 
 import com.ngoconnect.dto.AdminDashboardDTO;
-import com.ngoconnect.dto.DonationDTO;
+import com.ngoconnect.dto.CursorPage;
+import com.ngoconnect.dto.NGOManagementDTO;
+import com.ngoconnect.dto.AdminDonationDTO;
 import com.ngoconnect.entity.*;
 import com.ngoconnect.entity.Donation;
 import com.ngoconnect.repository.*;
 import com.ngoconnect.repository.DonationRepository;
+import com.ngoconnect.event.NgoChangedEvent;
+import com.ngoconnect.event.OpportunityChangedEvent;
+import com.ngoconnect.event.UserChangedEvent;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import javax.persistence.EntityManager;
-import javax.persistence.PersistenceContext;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
 import java.util.*;
 import java.util.stream.Collectors;
 import javax.annotation.PostConstruct;
@@ -23,6 +30,23 @@ import javax.annotation.PostConstruct;
 @Service
 public class AdminService {
 
+    // Bulk moderation commits this many rows per transaction
+    private static final int BULK_CHUNK_SIZE = 500;
+    private static final int MAX_DONATION_PAGE_SIZE = 200;
+    private static final int BULK_MAX_IDS = 50_000;
+
+    // Thresholds of the per-row suspicious opportunity checks
+    private static final int MAX_REALISTIC_VOLUNTEERS = 1000;
+    private static final int MIN_DESCRIPTION_LENGTH = 50;
+
+    // Bulk NGO action -> status it leaves the NGO in, as in the single-NGO methods
+    private static final Map<String, String> BULK_NGO_TARGET_STATUS = Map.of(
+            "APPROVE", "ACTIVE",
+            "REJECT", "REJECTED",
+            "SUSPEND", "SUSPENDED",
+            "DEACTIVATE", "DEACTIVATED",
+            "REACTIVATE", "ACTIVE");
+
     @PostConstruct
     public void init() {
         System.out.println("=== AdminService initialized successfully ===");
@@ -53,9 +77,6 @@ public class AdminService {
     @Autowired
     private SystemAlertRepository systemAlertRepository;
 
-    @Autowired
-    private PlatformStatisticsRepository platformStatisticsRepository;
-
     @Autowired
     private NGORepository ngoRepository;
 
@@ -66,16 +87,40 @@ public class AdminService {
     private DonationRepository donationRepository;
 
     @Autowired
-    private DonationService donationService;
+    private VolunteerOpportunityRepository volunteerOpportunityRepository;
+
+    @Autowired
+    private DashboardCounterService dashboardCounterService;
 
     @Autowired
-    private VolunteerOpportunityRepository volunteerOpportunityRepository;
+    private PlatformStatisticsService platformStatisticsService;
+
+    @Autowired
+    private UserActivityService userActivityService;
+
+    @Autowired
+    private AuditLogService auditLogService;
+
+    @Autowired
+    private DonationReportService donationReportService;
+
+    @Autowired
+    private DonationAnomalyService donationAnomalyService;
+
+    @Autowired
+    private OpportunitySimilarityService opportunitySimilarityService;
+
+    @Autowired
+    private VolunteerParticipationService volunteerParticipationService;
 
     @Autowired
-    private JdbcTemplate jdbcTemplate;
+    private DonationTotalsService donationTotalsService;
 
-    @PersistenceContext
-    private EntityManager entityManager;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
 
     /**
      * Get comprehensive admin dashboard data
@@ -101,97 +146,8 @@ public class AdminService {
     }
 
     private AdminDashboardDTO.DashboardOverview getCurrentStatistics() {
-        // Try to get today's cached statistics
-        Optional<PlatformStatistics> todayStats = platformStatisticsRepository.findByStatDate(LocalDate.now());
-
-        AdminDashboardDTO.DashboardOverview overview = new AdminDashboardDTO.DashboardOverview();
-
-        if (todayStats.isPresent()) {
-            PlatformStatistics stats = todayStats.get();
-            overview.setTotalNgosRegistered(stats.getTotalNgosRegistered());
-            overview.setTotalNgosVerified(stats.getTotalNgosVerified());
-            overview.setTotalNgosPending(stats.getTotalNgosPending());
-            overview.setTotalUsersRegistered(stats.getTotalUsersRegistered());
-            overview.setTotalDonationsAmount(stats.getTotalDonationsAmount());
-            overview.setTotalDonationsCount(stats.getTotalDonationsCount());
-            overview.setActiveVolunteerOpportunities(stats.getActiveVolunteerOpportunities());
-            overview.setPendingVerifications(stats.getPendingVerifications());
-            overview.setMissingFundReports(stats.getMissingFundReports());
-            overview.setSuspiciousActivities(stats.getSuspiciousActivities());
-        } else {
-            // Calculate real-time statistics if no cached data
-            overview = calculateRealTimeStatistics();
-        }
-
-        return overview;
-    }
-
-    private AdminDashboardDTO.DashboardOverview calculateRealTimeStatistics() {
-        AdminDashboardDTO.DashboardOverview overview = new AdminDashboardDTO.DashboardOverview();
-
-        // Initialize variables with defaults
-        Long totalNgos = 0L;
-        Long verifiedNgos = 0L;
-        Long pendingNgos = 0L;
-
-        try {
-            // NGO statistics using native SQL to avoid enum mapping issues
-            totalNgos = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM ngos", Long.class);
-            verifiedNgos = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM ngos WHERE is_verified = true",
-                    Long.class);
-            pendingNgos = verificationRequestRepository
-                    .countByStatus(NGOVerificationRequest.VerificationStatus.PENDING);
-
-            overview.setTotalNgosRegistered(totalNgos.intValue());
-            overview.setTotalNgosVerified(verifiedNgos.intValue());
-            overview.setTotalNgosPending(pendingNgos.intValue());
-        } catch (Exception e) {
-            System.err.println("Error calculating NGO statistics: " + e.getMessage());
-            // Set default values if there's an error
-            overview.setTotalNgosRegistered(0);
-            overview.setTotalNgosVerified(0);
-            overview.setTotalNgosPending(0);
-        }
-
-        // User statistics
-        Long totalUsers = userRepository.count();
-        Long activeUsers = userRepository.findAll().stream()
-                .filter(user -> !Boolean.TRUE.equals(user.getIsBlocked())
-                        && Boolean.TRUE.equals(user.getEmailVerified()))
-                .count();
-        Long blockedUsers = userRepository.findAll().stream()
-                .filter(user -> Boolean.TRUE.equals(user.getIsBlocked()))
-                .count();
-        Long totalDonors = userRepository.findByUserType(UserType.DONOR).stream()
-                .filter(user -> !Boolean.TRUE.equals(user.getIsBlocked()))
-                .count();
-        Long totalVolunteers = userRepository.findByUserType(UserType.VOLUNTEER).stream()
-                .filter(user -> !Boolean.TRUE.equals(user.getIsBlocked()))
-                .count();
-
-        overview.setTotalUsersRegistered(totalUsers.intValue());
-        overview.setTotalUsersActive(activeUsers.intValue());
-        overview.setTotalUsersBlocked(blockedUsers.intValue());
-        overview.setTotalDonors(totalDonors.intValue());
-        overview.setTotalVolunteers(totalVolunteers.intValue());
-
-        // Donation statistics
-        Long totalDonationCount = donationRepository.count();
-        Double totalDonationAmount = donationRepository.getTotalDonationAmount();
-        overview.setTotalDonationsCount(totalDonationCount.intValue());
-        overview.setTotalDonationsAmount(totalDonationAmount != null ? totalDonationAmount : 0.0);
-
-        // Volunteer opportunities
-        Long activeOpportunities = volunteerOpportunityRepository.countByIsActive(true);
-        overview.setActiveVolunteerOpportunities(activeOpportunities.intValue());
-
-        // Alert statistics
-        overview.setPendingVerifications(pendingNgos.intValue());
-        overview.setMissingFundReports(getMissingFundReportsCount()); // Calculate from fund reports
-        overview.setSuspiciousActivities(
-                systemAlertRepository.countUnresolvedAlertsByPriority(SystemAlert.Priority.HIGH).intValue());
-
-        return overview;
+        // Served from event-maintained counters; no table scans on the dashboard path
+        return dashboardCounterService.getOverview();
     }
 
     private List<AdminDashboardDTO.AlertDTO> getHighPriorityAlerts() {
@@ -317,8 +273,10 @@ public class AdminService {
     public void approveOpportunity(Long opportunityId) {
         VolunteerOpportunity opportunity = volunteerOpportunityRepository.findById(opportunityId)
                 .orElseThrow(() -> new RuntimeException("Opportunity not found"));
+        Boolean previouslyActive = opportunity.getIsActive();
         opportunity.setStatus(OpportunityStatus.ACTIVE);
         volunteerOpportunityRepository.save(opportunity);
+        eventPublisher.publishEvent(OpportunityChangedEvent.statusChanged(opportunity, previouslyActive));
     }
 
     /**
@@ -328,8 +286,10 @@ public class AdminService {
     public void rejectOpportunity(Long opportunityId) {
         VolunteerOpportunity opportunity = volunteerOpportunityRepository.findById(opportunityId)
                 .orElseThrow(() -> new RuntimeException("Opportunity not found"));
+        Boolean previouslyActive = opportunity.getIsActive();
         opportunity.setStatus(OpportunityStatus.REJECTED);
         volunteerOpportunityRepository.save(opportunity);
+        eventPublisher.publishEvent(OpportunityChangedEvent.statusChanged(opportunity, previouslyActive));
     }
 
     /**
@@ -350,8 +310,10 @@ public class AdminService {
 
         // Update NGO verification status
         NGO ngo = request.getNgo();
+        Boolean previouslyVerified = Boolean.TRUE.equals(ngo.getIsVerified());
         ngo.setIsVerified(true);
         ngoRepository.save(ngo);
+        eventPublisher.publishEvent(new NgoChangedEvent(ngo.getId(), previouslyVerified, true));
 
         verificationRequestRepository.save(request);
 
@@ -441,74 +403,71 @@ public class AdminService {
     }
 
     /**
-     * Update platform statistics (should be run daily)
+     * Update today's platform statistics snapshot and its weekly/monthly rollups
+     * (also run daily by PlatformStatisticsService)
      */
     @Transactional
     public void updatePlatformStatistics() {
-        LocalDate today = LocalDate.now();
-
-        PlatformStatistics stats = platformStatisticsRepository.findByStatDate(today)
-                .orElse(new PlatformStatistics(today));
-
-        AdminDashboardDTO.DashboardOverview overview = calculateRealTimeStatistics();
-
-        stats.setTotalNgosRegistered(overview.getTotalNgosRegistered());
-        stats.setTotalNgosVerified(overview.getTotalNgosVerified());
-        stats.setTotalNgosPending(overview.getTotalNgosPending());
-        stats.setTotalUsersRegistered(overview.getTotalUsersRegistered());
-        // Note: PlatformStatistics entity may need to be updated with new user fields
-        // if needed
-        stats.setTotalDonationsAmount(overview.getTotalDonationsAmount());
-        stats.setTotalDonationsCount(overview.getTotalDonationsCount());
-        stats.setActiveVolunteerOpportunities(overview.getActiveVolunteerOpportunities());
-        stats.setPendingVerifications(overview.getPendingVerifications());
-        stats.setMissingFundReports(overview.getMissingFundReports());
-        stats.setSuspiciousActivities(overview.getSuspiciousActivities());
-
-        platformStatisticsRepository.save(stats);
+        platformStatisticsService.snapshot(LocalDate.now());
     }
 
     // NGO Management Methods
 
     /**
-     * Get all NGOs for admin management with filtering
+     * Get NGOs for admin management, newest first. Filtering, ordering and
+     * keyset pagination all run in SQL, so every page costs the same.
+     *
+     * @param status effective status (a NGOStatus name, or ACTIVE for legacy
+     *               verified rows); null or empty for all
+     * @param cursor nextCursor of the previous page, null for the first page
      */
     @Transactional(readOnly = true)
-    public List<java.util.Map<String, Object>> getAllNGOsForManagement(String status, int page, int size) {
-        System.out.println(
-                "getAllNGOsForManagement called with status: " + status + ", page: " + page + ", size: " + size);
-
-        List<NGO> ngos;
-
-        Sort sortByCreatedDesc = Sort.by(Sort.Direction.DESC, "createdAt");
-        if (status != null && !status.isEmpty()) {
-            // Filter by status if provided
-            ngos = ngoRepository.findAll(sortByCreatedDesc).stream()
-                    .filter(ngo -> {
-                        String ngoStatus = getNGOStatus(ngo);
-                        System.out.println("NGO " + ngo.getId() + " (" + ngo.getOrganizationName() + ") has status: "
-                                + ngoStatus + " (DB status: " + ngo.getStatus() + ", isVerified: " + ngo.getIsVerified()
-                                + ")");
-                        return status.equalsIgnoreCase(ngoStatus);
-                    })
-                    .skip(page * size)
-                    .limit(size)
-                    .collect(Collectors.toList());
+    public CursorPage<NGOManagementDTO> getNGOsForManagement(String status, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), 100);
+        long after = parseIdCursor(cursor);
+        // Fetch one extra row to learn whether another page exists
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<NGOManagementDTO> rows;
+        Long total;
+        if (status == null || status.isEmpty()) {
+            rows = ngoRepository.findManagementPage(after, limit);
+            total = ngoRepository.count();
         } else {
-            ngos = ngoRepository.findAll(sortByCreatedDesc).stream()
-                    .peek(ngo -> {
-                        String ngoStatus = getNGOStatus(ngo);
-                        System.out.println("NGO " + ngo.getId() + " (" + ngo.getOrganizationName() + ") has status: "
-                                + ngoStatus + " (DB status: " + ngo.getStatus() + ", isVerified: " + ngo.getIsVerified()
-                                + ")");
-                    })
-                    .skip(page * size)
-                    .limit(size)
-                    .collect(Collectors.toList());
+            String requested = status.toUpperCase();
+            NGOStatus statusValue = null;
+            if (!"ACTIVE".equals(requested)) {
+                try {
+                    statusValue = NGOStatus.valueOf(requested);
+                } catch (IllegalArgumentException e) {
+                    return new CursorPage<>(Collections.emptyList(), 0L, null, pageSize, false);
+                }
+            }
+            // Legacy rows without a status read as ACTIVE when verified, PENDING otherwise
+            Boolean legacyVerified = "ACTIVE".equals(requested) ? Boolean.TRUE
+                    : statusValue == NGOStatus.PENDING ? Boolean.FALSE : null;
+            rows = ngoRepository.findManagementPageByStatus(statusValue, legacyVerified, after, limit);
+            total = ngoRepository.countForManagementByStatus(statusValue, legacyVerified);
         }
 
-        System.out.println("Returning " + ngos.size() + " NGOs for status filter: " + status);
-        return ngos.stream().map(this::mapNGOForManagement).collect(Collectors.toList());
+        boolean hasNext = rows.size() > pageSize;
+        List<NGOManagementDTO> content = hasNext ? rows.subList(0, pageSize) : rows;
+        Map<Long, Double> totals = donationTotalsService.getTotals(DonationTotalShard.OwnerType.NGO,
+                content.stream().map(NGOManagementDTO::getId).collect(Collectors.toList()));
+        content.forEach(dto -> dto.setTotalDonations(totals.get(dto.getId())));
+        String nextCursor = hasNext ? String.valueOf(content.get(content.size() - 1).getId()) : null;
+        return new CursorPage<>(content, total, nextCursor, pageSize, hasNext);
+    }
+
+    private long parseIdCursor(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return Long.MAX_VALUE;
+        }
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
     }
 
     /**
@@ -559,7 +518,8 @@ public class AdminService {
         details.put("email", ngo.getEmail());
         details.put("registrationNumber", ngo.getRegistrationNumber());
         details.put("foundedYear", ngo.getFoundedYear());
-        details.put("totalDonations", ngo.getTotalDonations());
+        details.put("totalDonations",
+                donationTotalsService.getTotal(DonationTotalShard.OwnerType.NGO, ngo.getId()));
         details.put("rating", ngo.getRating());
         details.put("isVerified", ngo.getIsVerified());
         details.put("status", getNGOStatus(ngo));
@@ -593,6 +553,7 @@ public class AdminService {
 
         NGO ngo = ngoOpt.get();
         String previousStatus = getNGOStatus(ngo);
+        Boolean previouslyVerified = Boolean.TRUE.equals(ngo.getIsVerified());
 
         ngo.setIsVerified(true);
         setNGOStatus(ngo, "ACTIVE");
@@ -600,6 +561,7 @@ public class AdminService {
         setVerifiedAt(ngo, LocalDateTime.now());
 
         ngoRepository.save(ngo);
+        eventPublisher.publishEvent(new NgoChangedEvent(ngoId, previouslyVerified, ngo.getIsVerified()));
 
         // Log the action
         logNGOManagementAction(ngoId, adminId, "APPROVE", notes, previousStatus, "ACTIVE");
@@ -625,11 +587,13 @@ public class AdminService {
 
         NGO ngo = ngoOpt.get();
         String previousStatus = getNGOStatus(ngo);
+        Boolean previouslyVerified = Boolean.TRUE.equals(ngo.getIsVerified());
 
         ngo.setIsVerified(false);
         setNGOStatus(ngo, "REJECTED");
 
         ngoRepository.save(ngo);
+        eventPublisher.publishEvent(new NgoChangedEvent(ngoId, previouslyVerified, ngo.getIsVerified()));
 
         // Log the action
         logNGOManagementAction(ngoId, adminId, "REJECT", reason, previousStatus, "REJECTED");
@@ -655,6 +619,7 @@ public class AdminService {
 
         NGO ngo = ngoOpt.get();
         String previousStatus = getNGOStatus(ngo);
+        Boolean previouslyVerified = Boolean.TRUE.equals(ngo.getIsVerified());
 
         setNGOStatus(ngo, "SUSPENDED");
         setSuspensionReason(ngo, reason);
@@ -662,6 +627,7 @@ public class AdminService {
         setSuspendedAt(ngo, LocalDateTime.now());
 
         ngoRepository.save(ngo);
+        eventPublisher.publishEvent(new NgoChangedEvent(ngoId, previouslyVerified, ngo.getIsVerified()));
 
         // Log the action
         logNGOManagementAction(ngoId, adminId, "SUSPEND", reason, previousStatus, "SUSPENDED");
@@ -687,10 +653,12 @@ public class AdminService {
 
         NGO ngo = ngoOpt.get();
         String previousStatus = getNGOStatus(ngo);
+        Boolean previouslyVerified = Boolean.TRUE.equals(ngo.getIsVerified());
 
         setNGOStatus(ngo, "DEACTIVATED");
 
         ngoRepository.save(ngo);
+        eventPublisher.publishEvent(new NgoChangedEvent(ngoId, previouslyVerified, ngo.getIsVerified()));
 
         // Log the action
         logNGOManagementAction(ngoId, adminId, "DEACTIVATE", reason, previousStatus, "DEACTIVATED");
@@ -716,6 +684,7 @@ public class AdminService {
 
         NGO ngo = ngoOpt.get();
         String previousStatus = getNGOStatus(ngo);
+        Boolean previouslyVerified = Boolean.TRUE.equals(ngo.getIsVerified());
 
         setNGOStatus(ngo, "ACTIVE");
         ngo.setIsVerified(true);
@@ -726,6 +695,7 @@ public class AdminService {
         setSuspendedAt(ngo, null);
 
         ngoRepository.save(ngo);
+        eventPublisher.publishEvent(new NgoChangedEvent(ngoId, previouslyVerified, ngo.getIsVerified()));
 
         // Log the action
         logNGOManagementAction(ngoId, adminId, "REACTIVATE", notes, previousStatus, "ACTIVE");
@@ -752,6 +722,7 @@ public class AdminService {
 
         NGO ngo = ngoOpt.get();
         String previousStatus = getNGOStatus(ngo);
+        Boolean wasVerified = Boolean.TRUE.equals(ngo.getIsVerified());
 
         // Update allowed fields
         if (profileData.containsKey("organizationName")) {
@@ -771,6 +742,8 @@ public class AdminService {
         }
 
         ngoRepository.save(ngo);
+        // Lets the search index pick up a new name or description
+        eventPublisher.publishEvent(new NgoChangedEvent(ngoId, wasVerified, ngo.getIsVerified()));
 
         // Log the action
         logNGOManagementAction(ngoId, adminId, "PROFILE_UPDATE", notes, previousStatus, getNGOStatus(ngo));
@@ -784,66 +757,68 @@ public class AdminService {
     }
 
     /**
-     * Get NGO action history
+     * Get NGO action history, newest first
      */
-    @Transactional(readOnly = true)
-    public List<java.util.Map<String, Object>> getNGOActionHistory(Long ngoId) {
-        // This would require creating a repository method for NGOManagementActions
-        // For now, return empty list - implement when NGOManagementActionRepository is
-        // created
-        return new java.util.ArrayList<>();
+    public CursorPage<NGOManagementAction> getNGOActionHistory(Long ngoId, String cursor, int size) {
+        return auditLogService.getNgoHistory(ngoId, cursor != null && !cursor.isEmpty() ? parseIdCursor(cursor) : null,
+                size);
+    }
+
+    /**
+     * Get user action history, newest first
+     */
+    public CursorPage<UserManagementAction> getUserActionHistory(Long userId, String cursor, int size) {
+        return auditLogService.getUserHistory(userId,
+                cursor != null && !cursor.isEmpty() ? parseIdCursor(cursor) : null, size);
     }
 
     // User Management Methods
 
     /**
-     * Get all users for admin management with filtering
+     * Search users for admin management, newest first. userType, status and a
+     * name/email prefix are combined into one query with keyset pagination on
+     * id; the total is only counted when asked for.
      */
     @Transactional(readOnly = true)
-    public List<java.util.Map<String, Object>> getAllUsersForManagement(String userType, String status, int page,
-            int size) {
-        System.out.println("getAllUsersForManagement called with userType: " + userType + ", status: " + status
-                + ", page: " + page + ", size: " + size);
-
-        Sort sortByCreatedDesc = Sort.by(Sort.Direction.DESC, "createdAt");
-        List<User> users = userRepository.findAll(sortByCreatedDesc).stream()
-                .filter(user -> {
-                    // Filter by user type if provided
-                    if (userType != null && !userType.isEmpty() && !userType.equalsIgnoreCase("ALL")) {
-                        if (!userType.equalsIgnoreCase(user.getUserType().name())) {
-                            return false;
-                        }
-                    }
-
-                    // Filter by status if provided
-                    if (status != null && !status.isEmpty() && !status.equalsIgnoreCase("ALL")) {
-                        boolean isBlocked = Boolean.TRUE.equals(user.getIsBlocked());
-                        boolean matchesStatus = false;
-
-                        switch (status.toUpperCase()) {
-                            case "ACTIVE":
-                                matchesStatus = !isBlocked && Boolean.TRUE.equals(user.getEmailVerified());
-                                break;
-                            case "BLOCKED":
-                                matchesStatus = isBlocked;
-                                break;
-                            case "UNVERIFIED":
-                                matchesStatus = !isBlocked && !Boolean.TRUE.equals(user.getEmailVerified());
-                                break;
-                        }
-
-                        if (!matchesStatus) {
-                            return false;
-                        }
-                    }
+    public CursorPage<java.util.Map<String, Object>> searchUsersForManagement(String userType, String status,
+            String search, String cursor, int size, boolean includeTotal) {
+        int pageSize = Math.min(Math.max(size, 1), 100);
+
+        Specification<User> filter = Specification.where(null);
+        if (userType != null && !userType.isEmpty() && !userType.equalsIgnoreCase("ALL")) {
+            UserType type;
+            try {
+                type = UserType.valueOf(userType.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                return new CursorPage<>(Collections.emptyList(), includeTotal ? 0L : null, null, pageSize, false);
+            }
+            filter = filter.and(UserSpecifications.hasUserType(type));
+        }
+        if (status != null && !status.isEmpty() && !status.equalsIgnoreCase("ALL")) {
+            filter = filter.and(UserSpecifications.hasStatus(status));
+        }
+        if (search != null && !search.isBlank()) {
+            filter = filter.and(UserSpecifications.nameOrEmailStartsWith(search));
+        }
 
-                    return true;
-                })
-                .skip(page * size)
-                .limit(size)
+        Specification<User> page = filter;
+        if (cursor != null && !cursor.isEmpty()) {
+            page = page.and(UserSpecifications.idBefore(parseIdCursor(cursor)));
+        }
+        // Fetch one extra row to learn whether another page exists
+        List<User> rows = userRepository.findNewestFirst(page, pageSize + 1);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<User> users = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? String.valueOf(users.get(users.size() - 1).getId()) : null;
+        Long total = includeTotal ? userRepository.count(filter) : null;
+
+        Map<Long, Double> totals = donationTotalsService.getTotals(DonationTotalShard.OwnerType.DONOR,
+                users.stream().map(User::getId).collect(Collectors.toList()));
+        List<java.util.Map<String, Object>> content = users.stream()
+                .map(user -> mapUserForManagement(user, totals.get(user.getId())))
                 .collect(Collectors.toList());
-
-        return users.stream().map(this::mapUserForManagement).collect(Collectors.toList());
+        return new CursorPage<>(content, total, nextCursor, pageSize, hasNext);
     }
 
     /**
@@ -871,7 +846,7 @@ public class AdminService {
         details.put("blockReason", user.getBlockReason());
         details.put("blockedBy", user.getBlockedBy());
         details.put("blockedAt", user.getBlockedAt());
-        details.put("totalDonations", user.getTotalDonations());
+        details.put("totalDonations", donationTotalsService.getTotal(DonationTotalShard.OwnerType.DONOR, userId));
         details.put("createdAt", user.getCreatedAt());
         details.put("updatedAt", user.getUpdatedAt());
 
@@ -886,27 +861,7 @@ public class AdminService {
      */
     @Transactional(readOnly = true)
     public java.util.Map<String, Object> getUserActivity(Long userId) {
-        java.util.Map<String, Object> activity = new java.util.HashMap<>();
-
-        // Donation activity
-        List<Donation> donations = donationRepository.findAll().stream()
-                .filter(d -> d.getDonor() != null && d.getDonor().getId().equals(userId))
-                .collect(Collectors.toList());
-
-        activity.put("totalDonations", donations.size());
-        activity.put("totalDonationAmount", donations.stream().mapToDouble(Donation::getAmount).sum());
-        activity.put("recentDonations", donations.stream()
-                .sorted((d1, d2) -> d2.getDonationDate().compareTo(d1.getDonationDate()))
-                .limit(5)
-                .map(this::mapDonationForActivity)
-                .collect(Collectors.toList()));
-
-        // Volunteer activity (if applicable) - simplified for now since we don't have
-        // volunteer applications tracking
-        // This would require a separate VolunteerApplication entity
-        activity.put("totalVolunteerApplications", 0);
-        activity.put("recentVolunteerApplications", new java.util.ArrayList<>());
-        return activity;
+        return userActivityService.getActivity(userId);
     }
 
     /**
@@ -926,7 +881,8 @@ public class AdminService {
         userRepository.save(user);
 
         // Log the action
-        logUserManagementAction(userId, adminId, "PASSWORD_RESET", "Password reset by admin");
+        String status = getUserStatus(user);
+        logUserManagementAction(userId, adminId, "PASSWORD_RESET", "Password reset by admin", status, status);
 
         java.util.Map<String, Object> response = new java.util.HashMap<>();
         response.put("success", true);
@@ -947,15 +903,18 @@ public class AdminService {
         }
 
         User user = userOpt.get();
+        UserChangedEvent.UserState previousState = UserChangedEvent.UserState.of(user);
+        String previousStatus = getUserStatus(user);
         user.setIsBlocked(true);
         user.setBlockReason(reason);
         user.setBlockedBy(adminId);
         user.setBlockedAt(LocalDateTime.now());
 
         userRepository.save(user);
+        eventPublisher.publishEvent(UserChangedEvent.updated(previousState, user));
 
         // Log the action
-        logUserManagementAction(userId, adminId, "BLOCK", reason);
+        logUserManagementAction(userId, adminId, "BLOCK", reason, previousStatus, "BLOCKED");
 
         java.util.Map<String, Object> response = new java.util.HashMap<>();
         response.put("success", true);
@@ -976,15 +935,18 @@ public class AdminService {
         }
 
         User user = userOpt.get();
+        UserChangedEvent.UserState previousState = UserChangedEvent.UserState.of(user);
+        String previousStatus = getUserStatus(user);
         user.setIsBlocked(false);
         user.setBlockReason(null);
         user.setBlockedBy(null);
         user.setBlockedAt(null);
 
         userRepository.save(user);
+        eventPublisher.publishEvent(UserChangedEvent.updated(previousState, user));
 
         // Log the action
-        logUserManagementAction(userId, adminId, "UNBLOCK", notes);
+        logUserManagementAction(userId, adminId, "UNBLOCK", notes, previousStatus, getUserStatus(user));
 
         java.util.Map<String, Object> response = new java.util.HashMap<>();
         response.put("success", true);
@@ -994,30 +956,235 @@ public class AdminService {
         return response;
     }
 
-    // Helper methods for NGO management
+    /**
+     * Apply one moderation action to many NGOs, chosen either by id or by
+     * their current status. Rows are moved with one UPDATE per chunk of
+     * BULK_CHUNK_SIZE ids, each chunk in its own transaction, so a failing
+     * chunk does not roll back the ones before it.
+     *
+     * @param action       APPROVE, REJECT, SUSPEND, DEACTIVATE or REACTIVATE
+     * @param ngoIds       ids to moderate; may be null when statusFilter is set
+     * @param statusFilter moderate every NGO currently in this status instead
+     * @return counts per outcome plus one result entry per id
+     */
+    public java.util.Map<String, Object> bulkModerateNGOs(String action, List<Long> ngoIds, String statusFilter,
+            Long adminId, String notes) {
+        String actionName = action == null ? "" : action.toUpperCase();
+        String targetLabel = BULK_NGO_TARGET_STATUS.get(actionName);
+        if (targetLabel == null) {
+            throw new IllegalArgumentException("Unsupported bulk NGO action: " + action);
+        }
+        // Resolve the target through setNGOStatus so bulk and single actions agree
+        NGO target = new NGO();
+        setNGOStatus(target, targetLabel);
+
+        List<java.util.Map<String, Object>> results = new ArrayList<>();
+        if (ngoIds != null && !ngoIds.isEmpty()) {
+            List<Long> ids = distinctIds(ngoIds);
+            for (int from = 0; from < ids.size(); from += BULK_CHUNK_SIZE) {
+                List<Long> chunk = ids.subList(from, Math.min(from + BULK_CHUNK_SIZE, ids.size()));
+                results.addAll(moderateNGOChunk(chunk, actionName, targetLabel, target.getStatus(),
+                        target.getIsVerified(), adminId, notes));
+            }
+        } else if (statusFilter != null && !statusFilter.isEmpty()) {
+            String requested = statusFilter.toUpperCase();
+            NGOStatus statusValue = null;
+            if (!"ACTIVE".equals(requested)) {
+                try {
+                    statusValue = NGOStatus.valueOf(requested);
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("Invalid status filter: " + statusFilter);
+                }
+            }
+            Boolean legacyVerified = "ACTIVE".equals(requested) ? Boolean.TRUE
+                    : statusValue == NGOStatus.PENDING ? Boolean.FALSE : null;
+            // Walk the matching ids newest first; the cursor keeps moving even
+            // when a chunk's rows stop matching the filter after the update
+            long cursor = Long.MAX_VALUE;
+            while (results.size() < BULK_MAX_IDS) {
+                List<Long> chunk = ngoRepository.findIdsByStatus(statusValue, legacyVerified, cursor,
+                        PageRequest.of(0, Math.min(BULK_CHUNK_SIZE, BULK_MAX_IDS - results.size())));
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                results.addAll(moderateNGOChunk(chunk, actionName, targetLabel, target.getStatus(),
+                        target.getIsVerified(), adminId, notes));
+                cursor = chunk.get(chunk.size() - 1);
+            }
+        } else {
+            throw new IllegalArgumentException("Either ngoIds or status must be provided");
+        }
+        return bulkResponse(actionName, results);
+    }
 
-    private java.util.Map<String, Object> mapNGOForManagement(NGO ngo) {
-        java.util.Map<String, Object> map = new java.util.HashMap<>();
-        map.put("id", ngo.getId());
-        map.put("organizationName", ngo.getOrganizationName());
-        map.put("cause", ngo.getCause());
-        map.put("location", ngo.getLocation());
-        map.put("email", ngo.getEmail());
-        map.put("totalDonations", ngo.getTotalDonations());
-        map.put("rating", ngo.getRating());
-        map.put("isVerified", ngo.getIsVerified());
-        map.put("status", getNGOStatus(ngo));
-        map.put("createdAt", ngo.getCreatedAt());
-        map.put("registrationNumber", ngo.getRegistrationNumber());
-        return map;
+    private List<java.util.Map<String, Object>> moderateNGOChunk(List<Long> chunk, String action,
+            String targetLabel, NGOStatus targetStatus, Boolean targetVerified, Long adminId, String notes) {
+        try {
+            return transactionTemplate.execute(tx -> {
+                java.util.Map<Long, Object[]> states = new HashMap<>();
+                for (Object[] row : ngoRepository.findModerationStates(chunk)) {
+                    states.put((Long) row[0], row);
+                }
+
+                List<java.util.Map<String, Object>> outcomes = new ArrayList<>(chunk.size());
+                List<Long> toUpdate = new ArrayList<>();
+                for (Long id : chunk) {
+                    Object[] state = states.get(id);
+                    if (state == null) {
+                        outcomes.add(bulkOutcome(id, "NOT_FOUND", null, null));
+                        continue;
+                    }
+                    NGOStatus status = (NGOStatus) state[1];
+                    boolean verified = Boolean.TRUE.equals(state[2]);
+                    String previousStatus = status != null ? status.name() : verified ? "ACTIVE" : "PENDING";
+                    if (status == targetStatus && verified == Boolean.TRUE.equals(targetVerified)) {
+                        outcomes.add(bulkOutcome(id, "UNCHANGED", previousStatus, targetLabel));
+                        continue;
+                    }
+                    toUpdate.add(id);
+                    outcomes.add(bulkOutcome(id, "UPDATED", previousStatus, targetLabel));
+                    eventPublisher.publishEvent(new NgoChangedEvent(id, verified, targetVerified));
+                    logNGOManagementAction(id, adminId, action, notes, previousStatus, targetLabel);
+                }
+                if (!toUpdate.isEmpty()) {
+                    ngoRepository.updateModerationStatus(toUpdate, targetStatus, targetVerified,
+                            LocalDateTime.now());
+                }
+                return outcomes;
+            });
+        } catch (Exception e) {
+            System.err.println("Bulk NGO " + action + " failed for chunk starting at " + chunk.get(0) + ": "
+                    + e.getMessage());
+            return failedOutcomes(chunk, e);
+        }
     }
 
+    /**
+     * Block or unblock many users at once, BULK_CHUNK_SIZE ids per transaction
+     *
+     * @param action BLOCK or UNBLOCK
+     * @return counts per outcome plus one result entry per id
+     */
+    public java.util.Map<String, Object> bulkModerateUsers(String action, List<Long> userIds, Long adminId,
+            String reason) {
+        String actionName = action == null ? "" : action.toUpperCase();
+        if (!"BLOCK".equals(actionName) && !"UNBLOCK".equals(actionName)) {
+            throw new IllegalArgumentException("Unsupported bulk user action: " + action);
+        }
+        if (userIds == null || userIds.isEmpty()) {
+            throw new IllegalArgumentException("userIds must not be empty");
+        }
+
+        List<Long> ids = distinctIds(userIds);
+        List<java.util.Map<String, Object>> results = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += BULK_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + BULK_CHUNK_SIZE, ids.size()));
+            results.addAll(moderateUserChunk(chunk, "BLOCK".equals(actionName), adminId, reason));
+        }
+        return bulkResponse(actionName, results);
+    }
+
+    private List<java.util.Map<String, Object>> moderateUserChunk(List<Long> chunk, boolean block, Long adminId,
+            String reason) {
+        String action = block ? "BLOCK" : "UNBLOCK";
+        try {
+            return transactionTemplate.execute(tx -> {
+                java.util.Map<Long, Object[]> states = new HashMap<>();
+                for (Object[] row : userRepository.findModerationStates(chunk)) {
+                    states.put((Long) row[0], row);
+                }
+
+                List<java.util.Map<String, Object>> outcomes = new ArrayList<>(chunk.size());
+                List<Long> toUpdate = new ArrayList<>();
+                for (Long id : chunk) {
+                    Object[] state = states.get(id);
+                    if (state == null) {
+                        outcomes.add(bulkOutcome(id, "NOT_FOUND", null, null));
+                        continue;
+                    }
+                    UserChangedEvent.UserState previousState = new UserChangedEvent.UserState((UserType) state[1],
+                            Boolean.TRUE.equals(state[2]), Boolean.TRUE.equals(state[3]));
+                    UserChangedEvent.UserState newState = new UserChangedEvent.UserState(
+                            previousState.getUserType(), block, previousState.isEmailVerified());
+                    String previousStatus = getUserStatus(previousState);
+                    String newStatus = getUserStatus(newState);
+                    if (previousState.isBlocked() == block) {
+                        outcomes.add(bulkOutcome(id, "UNCHANGED", previousStatus, newStatus));
+                        continue;
+                    }
+                    toUpdate.add(id);
+                    outcomes.add(bulkOutcome(id, "UPDATED", previousStatus, newStatus));
+                    eventPublisher.publishEvent(new UserChangedEvent(id, previousState, newState));
+                    logUserManagementAction(id, adminId, action, reason, previousStatus, newStatus);
+                }
+                if (!toUpdate.isEmpty()) {
+                    if (block) {
+                        userRepository.blockAll(toUpdate, adminId, reason, LocalDateTime.now());
+                    } else {
+                        userRepository.unblockAll(toUpdate, LocalDateTime.now());
+                    }
+                }
+                return outcomes;
+            });
+        } catch (Exception e) {
+            System.err.println("Bulk user " + action + " failed for chunk starting at " + chunk.get(0) + ": "
+                    + e.getMessage());
+            return failedOutcomes(chunk, e);
+        }
+    }
+
+    private List<Long> distinctIds(List<Long> ids) {
+        List<Long> distinct = new ArrayList<>(new LinkedHashSet<>(ids));
+        distinct.remove(null);
+        if (distinct.size() > BULK_MAX_IDS) {
+            throw new IllegalArgumentException("At most " + BULK_MAX_IDS + " ids per bulk request");
+        }
+        return distinct;
+    }
+
+    private java.util.Map<String, Object> bulkOutcome(Long id, String outcome, String previousStatus,
+            String newStatus) {
+        java.util.Map<String, Object> result = new LinkedHashMap<>();
+        result.put("id", id);
+        result.put("outcome", outcome);
+        if (previousStatus != null) {
+            result.put("previousStatus", previousStatus);
+            result.put("newStatus", newStatus);
+        }
+        return result;
+    }
+
+    private List<java.util.Map<String, Object>> failedOutcomes(List<Long> chunk, Exception e) {
+        List<java.util.Map<String, Object>> outcomes = new ArrayList<>(chunk.size());
+        for (Long id : chunk) {
+            java.util.Map<String, Object> result = bulkOutcome(id, "FAILED", null, null);
+            result.put("error", e.getMessage());
+            outcomes.add(result);
+        }
+        return outcomes;
+    }
+
+    private java.util.Map<String, Object> bulkResponse(String action, List<java.util.Map<String, Object>> results) {
+        java.util.Map<String, Long> counts = results.stream()
+                .collect(Collectors.groupingBy(r -> (String) r.get("outcome"), Collectors.counting()));
+        java.util.Map<String, Object> response = new HashMap<>();
+        response.put("success", !counts.containsKey("FAILED"));
+        response.put("action", action);
+        response.put("requested", results.size());
+        response.put("updated", counts.getOrDefault("UPDATED", 0L));
+        response.put("unchanged", counts.getOrDefault("UNCHANGED", 0L));
+        response.put("notFound", counts.getOrDefault("NOT_FOUND", 0L));
+        response.put("failed", counts.getOrDefault("FAILED", 0L));
+        response.put("results", results);
+        return response;
+    }
+
+    // Helper methods for NGO management
+
     private void logNGOManagementAction(Long ngoId, Long adminId, String actionType,
             String notes, String previousStatus, String newStatus) {
-        // This would save to NGOManagementActions table
-        // Implementation depends on creating the entity and repository
-        System.out.println("NGO Management Action: " + actionType + " for NGO " + ngoId +
-                " by admin " + adminId + " - " + notes);
+        auditLogService.recordNgoAction(ngoId, adminId, ManagementActionType.valueOf(actionType), notes,
+                previousStatus, newStatus);
     }
 
     // Helper methods to handle NGO status and related fields
@@ -1106,7 +1273,7 @@ public class AdminService {
 
     // Helper methods for User management
 
-    private java.util.Map<String, Object> mapUserForManagement(User user) {
+    private java.util.Map<String, Object> mapUserForManagement(User user, Double totalDonations) {
         java.util.Map<String, Object> map = new java.util.HashMap<>();
         map.put("id", user.getId());
         map.put("fullName", user.getFullName());
@@ -1115,32 +1282,26 @@ public class AdminService {
         map.put("userType", user.getUserType().name());
         map.put("emailVerified", user.getEmailVerified());
         map.put("isBlocked", user.getIsBlocked());
-        map.put("totalDonations", user.getTotalDonations());
+        map.put("totalDonations", totalDonations);
         map.put("createdAt", user.getCreatedAt());
         map.put("status", getUserStatus(user));
         return map;
     }
 
     private String getUserStatus(User user) {
-        if (Boolean.TRUE.equals(user.getIsBlocked())) {
+        return getUserStatus(UserChangedEvent.UserState.of(user));
+    }
+
+    private String getUserStatus(UserChangedEvent.UserState state) {
+        if (state.isBlocked()) {
             return "BLOCKED";
-        } else if (Boolean.TRUE.equals(user.getEmailVerified())) {
+        } else if (state.isEmailVerified()) {
             return "ACTIVE";
         } else {
             return "UNVERIFIED";
         }
     }
 
-    private java.util.Map<String, Object> mapDonationForActivity(Donation donation) {
-        java.util.Map<String, Object> map = new java.util.HashMap<>();
-        map.put("id", donation.getId());
-        map.put("amount", donation.getAmount());
-        map.put("ngoName", donation.getNgo() != null ? donation.getNgo().getOrganizationName() : "Unknown");
-        map.put("donatedAt", donation.getDonationDate());
-        map.put("status", donation.getStatus().name());
-        return map;
-    }
-
     private java.util.Map<String, Object> mapVolunteerOpportunityForActivity(VolunteerOpportunity opportunity) {
         java.util.Map<String, Object> map = new java.util.HashMap<>();
         map.put("id", opportunity.getId());
@@ -1152,125 +1313,55 @@ public class AdminService {
     }
 
     /**
-     * Fetch all donations and convert to safe DTO format for admin consumption
+     * One page of the admin donation grid, newest first. Every filter is
+     * optional; the date range is inclusive and applies to the donation date.
+     * Runs a single query per page (no count, no lazy donor/NGO loads).
      */
     @Transactional(readOnly = true)
-    public List<DonationDTO> getAllDonations() {
-        try {
-            List<Donation> donations = donationRepository.findAll();
-            System.out.println("Found " + donations.size() + " donations");
-
-            List<DonationDTO> result = new ArrayList<>();
-            for (Donation donation : donations) {
-                try {
-                    // Manual conversion to avoid ModelMapper issues
-                    DonationDTO dto = createDonationDTOManually(donation);
-                    result.add(dto);
-                } catch (Exception e) {
-                    System.err.println("Error converting donation ID " + donation.getId() + ": " + e.getMessage());
-                    e.printStackTrace();
-                    // Skip this donation but continue with others
-                }
-            }
-
-            System.out.println("Successfully converted " + result.size() + " donations to DTOs");
-            return result;
-        } catch (Exception e) {
-            System.err.println("Error in getAllDonations: " + e.getMessage());
-            e.printStackTrace();
-            throw e;
+    public Map<String, Object> getDonations(DonationStatus status, PaymentMethod paymentMethod, Double minAmount,
+            Double maxAmount, LocalDate startDate, LocalDate endDate, int page, int size) {
+        if (minAmount != null && maxAmount != null && maxAmount < minAmount) {
+            throw new IllegalArgumentException("maxAmount must not be less than minAmount");
         }
-    }
-
-    /**
-     * Manual DTO conversion to avoid ModelMapper issues
-     */
-    private DonationDTO createDonationDTOManually(Donation donation) {
-        if (donation == null) {
-            return null;
-        }
-
-        DonationDTO dto = new DonationDTO();
-
-        // Basic fields
-        dto.setId(donation.getId());
-        dto.setAmount(donation.getAmount());
-        dto.setDonationDate(donation.getDonationDate());
-        dto.setDonorMessage(donation.getDonorMessage());
-        dto.setTransactionId(donation.getTransactionId());
-        dto.setCreatedAt(donation.getCreatedAt());
-        dto.setUpdatedAt(donation.getUpdatedAt());
-
-        // Handle enums safely - use the actual enum types
-        dto.setPaymentMethod(donation.getPaymentMethod());
-        dto.setStatus(donation.getStatus());
-
-        // Handle pledge type as string
-        if (donation.getPledgeType() != null) {
-            dto.setPledgeType(donation.getPledgeType().name());
+        if (startDate != null && endDate != null && endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("endDate must not be before startDate");
         }
-
-        // Handle donor safely
-        if (donation.getDonor() != null) {
-            dto.setUserId(donation.getDonor().getId());
-            dto.setDonorName(donation.getDonor().getFullName());
-            dto.setDonorEmail(donation.getDonor().getEmail());
-        }
-
-        // Handle NGO safely
-        if (donation.getNgo() != null) {
-            dto.setNgoId(donation.getNgo().getId());
-
-            // Create a simple NGO DTO
-            com.ngoconnect.dto.NGODTO ngoDTO = new com.ngoconnect.dto.NGODTO();
-            ngoDTO.setId(donation.getNgo().getId());
-            ngoDTO.setOrganizationName(donation.getNgo().getOrganizationName());
-            dto.setNgo(ngoDTO);
-        }
-
-        return dto;
+        LocalDateTime from = startDate != null ? startDate.atStartOfDay() : LocalDateTime.of(1970, 1, 1, 0, 0);
+        LocalDateTime to = endDate != null ? endDate.plusDays(1).atStartOfDay() : LocalDateTime.of(9999, 1, 1, 0, 0);
+
+        Pageable pageable = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_DONATION_PAGE_SIZE));
+        Slice<AdminDonationDTO> slice = donationRepository.findAdminDonations(status, paymentMethod, minAmount,
+                maxAmount, from, to, pageable);
+        Map<String, Object> response = new HashMap<>();
+        response.put("content", slice.getContent());
+        response.put("page", slice.getNumber());
+        response.put("size", slice.getSize());
+        response.put("hasNext", slice.hasNext());
+        return response;
     }
 
     /**
-     * Generate donation report by NGO
+     * Generate donation report by NGO (summary only; see getDonationReportDonationsByNGO)
      */
-    @Transactional(readOnly = true)
     public Map<String, Object> getDonationReportByNGO(Long ngoId, LocalDate startDate, LocalDate endDate) {
-        List<Donation> donations = donationRepository.findAll().stream()
-                .filter(d -> d.getNgo() != null && d.getNgo().getId().equals(ngoId))
-                .filter(d -> d.getDonationDate().toLocalDate().isAfter(startDate.minusDays(1))
-                        && d.getDonationDate().toLocalDate().isBefore(endDate.plusDays(1)))
-                .collect(Collectors.toList());
-
-        Map<String, Object> report = new HashMap<>();
-        report.put("ngoId", ngoId);
-        report.put("ngoName", donations.isEmpty() ? "Unknown" : donations.get(0).getNgo().getOrganizationName());
-        report.put("totalDonations", donations.size());
-        report.put("totalAmount", donations.stream().mapToDouble(Donation::getAmount).sum());
-        report.put("averageAmount",
-                donations.isEmpty() ? 0 : donations.stream().mapToDouble(Donation::getAmount).average().orElse(0));
-        report.put("donations", donations.stream().map(donationService::convertToDto).collect(Collectors.toList()));
-        return report;
+        return donationReportService.getNgoReport(ngoId, startDate, endDate);
     }
 
     /**
-     * Generate donation report by cause
+     * Generate donation report by cause (summary only; see getDonationReportDonationsByCause)
      */
-    @Transactional(readOnly = true)
     public Map<String, Object> getDonationReportByCause(String cause, LocalDate startDate, LocalDate endDate) {
-        List<Donation> donations = donationRepository.findAll().stream()
-                .filter(d -> d.getNgo() != null && cause.equalsIgnoreCase(d.getNgo().getCause()))
-                .filter(d -> d.getDonationDate().toLocalDate().isAfter(startDate.minusDays(1))
-                        && d.getDonationDate().toLocalDate().isBefore(endDate.plusDays(1)))
-                .collect(Collectors.toList());
+        return donationReportService.getCauseReport(cause, startDate, endDate);
+    }
+
+    public Map<String, Object> getDonationReportDonationsByNGO(Long ngoId, LocalDate startDate, LocalDate endDate,
+            int page, int size) {
+        return donationReportService.getNgoReportDonations(ngoId, startDate, endDate, page, size);
+    }
 
-        Map<String, Object> report = new HashMap<>();
-        report.put("cause", cause);
-        report.put("totalDonations", donations.size());
-        report.put("totalAmount", donations.stream().mapToDouble(Donation::getAmount).sum());
-        report.put("uniqueNGOs", donations.stream().map(d -> d.getNgo().getId()).distinct().count());
-        report.put("donations", donations.stream().map(donationService::convertToDto).collect(Collectors.toList()));
-        return report;
+    public Map<String, Object> getDonationReportDonationsByCause(String cause, LocalDate startDate,
+            LocalDate endDate, int page, int size) {
+        return donationReportService.getCauseReportDonations(cause, startDate, endDate, page, size);
     }
 
     /**
@@ -1278,151 +1369,65 @@ public class AdminService {
      */
     @Transactional(readOnly = true)
     public List<Map<String, Object>> flagUnusualDonationPatterns() {
-        List<Map<String, Object>> suspiciousPatterns = new ArrayList<>();
-
-        // Find donors with unusually large donations
-        List<Donation> allDonations = donationRepository.findAll();
-        double avgDonationAmount = allDonations.stream().mapToDouble(Donation::getAmount).average().orElse(0);
-        double threshold = avgDonationAmount * 10; // 10x average is suspicious
-
-        Map<Long, List<Donation>> donorDonations = allDonations.stream()
-                .filter(d -> d.getDonor() != null)
-                .collect(Collectors.groupingBy(d -> d.getDonor().getId()));
-
-        for (Map.Entry<Long, List<Donation>> entry : donorDonations.entrySet()) {
-            List<Donation> donations = entry.getValue();
-            double userTotal = donations.stream().mapToDouble(Donation::getAmount).sum();
-
-            if (userTotal > threshold || donations.size() > 100) { // More than 100 donations is also suspicious
-                Map<String, Object> pattern = new HashMap<>();
-                pattern.put("donorId", entry.getKey());
-                pattern.put("donorName", donations.get(0).getDonor().getFullName());
-                pattern.put("totalAmount", userTotal);
-                pattern.put("donationCount", donations.size());
-                pattern.put("pattern", userTotal > threshold ? "LARGE_AMOUNT" : "HIGH_FREQUENCY");
-                suspiciousPatterns.add(pattern);
-            }
-        }
-
-        return suspiciousPatterns;
+        return donationAnomalyService.getRecentFlags();
     }
 
     /**
      * Monitor volunteer participation across NGOs
      */
     @Transactional(readOnly = true)
-    public Map<String, Object> getVolunteerParticipationReport() {
-        List<VolunteerOpportunity> activeOpportunities = volunteerOpportunityRepository.findByIsActive(true);
-
-        Map<String, Object> report = new HashMap<>();
-        report.put("totalActiveOpportunities", activeOpportunities.size());
-        report.put("totalVolunteersNeeded",
-                activeOpportunities.stream().mapToInt(VolunteerOpportunity::getVolunteersNeeded).sum());
-        report.put("totalVolunteersApplied", activeOpportunities.stream()
-                .mapToInt(vo -> vo.getVolunteersApplied() != null ? vo.getVolunteersApplied() : 0).sum());
-
-        // Group by NGO
-        Map<String, List<VolunteerOpportunity>> ngoOpportunities = activeOpportunities.stream()
-                .filter(vo -> vo.getNgo() != null)
-                .collect(Collectors.groupingBy(vo -> vo.getNgo().getOrganizationName()));
-
-        List<Map<String, Object>> ngoStats = new ArrayList<>();
-        for (Map.Entry<String, List<VolunteerOpportunity>> entry : ngoOpportunities.entrySet()) {
-            Map<String, Object> ngoStat = new HashMap<>();
-            ngoStat.put("ngoName", entry.getKey());
-            ngoStat.put("opportunityCount", entry.getValue().size());
-            ngoStat.put("volunteersNeeded",
-                    entry.getValue().stream().mapToInt(VolunteerOpportunity::getVolunteersNeeded).sum());
-            ngoStat.put("volunteersApplied", entry.getValue().stream()
-                    .mapToInt(vo -> vo.getVolunteersApplied() != null ? vo.getVolunteersApplied() : 0).sum());
-            ngoStats.add(ngoStat);
-        }
-
-        report.put("ngoStatistics", ngoStats);
-        return report;
+    public Map<String, Object> getVolunteerParticipationReport(LocalDate startDate, LocalDate endDate, int page,
+            int size) {
+        return volunteerParticipationService.getReport(startDate, endDate, page, size);
     }
 
     /**
-     * Remove/flag fake volunteer opportunities
+     * Flag likely fake volunteer opportunities. Near-duplicates come from the
+     * similarity index; the per-row checks run in SQL.
      */
-    @Transactional
+    @Transactional(readOnly = true)
     public List<Map<String, Object>> detectSuspiciousVolunteerOpportunities() {
-        List<VolunteerOpportunity> allOpportunities = volunteerOpportunityRepository.findAll();
-        List<Map<String, Object>> suspicious = new ArrayList<>();
-
-        for (VolunteerOpportunity opp : allOpportunities) {
-            Map<String, Object> suspiciousData = new HashMap<>();
-            boolean isSuspicious = false;
+        Map<Long, Set<Long>> duplicates = opportunitySimilarityService.findAllDuplicates();
+        // IN () is not valid SQL, so leave the ids clause out when there are no duplicates
+        List<Object[]> rows = duplicates.isEmpty()
+                ? volunteerOpportunityRepository.findSuspiciousCandidatesByChecks(MAX_REALISTIC_VOLUNTEERS,
+                        MIN_DESCRIPTION_LENGTH)
+                : volunteerOpportunityRepository.findSuspiciousCandidates(MAX_REALISTIC_VOLUNTEERS,
+                        MIN_DESCRIPTION_LENGTH, duplicates.keySet());
+
+        List<Map<String, Object>> suspicious = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            Long id = (Long) row[0];
+            Integer volunteersNeeded = (Integer) row[3];
+            Integer descriptionLength = row[4] != null ? ((Number) row[4]).intValue() : null;
             List<String> reasons = new ArrayList<>();
-
-            // Check for unrealistic volunteer requirements
-            if (opp.getVolunteersNeeded() != null && opp.getVolunteersNeeded() > 1000) {
+            if (volunteersNeeded != null && volunteersNeeded > MAX_REALISTIC_VOLUNTEERS) {
                 reasons.add("UNREALISTIC_VOLUNTEER_COUNT");
-                isSuspicious = true;
             }
-
-            // Check for duplicate/similar titles from same NGO
-            long similarTitles = allOpportunities.stream()
-                    .filter(other -> other.getNgo() != null && opp.getNgo() != null)
-                    .filter(other -> other.getNgo().getId().equals(opp.getNgo().getId()))
-                    .filter(other -> other.getTitle().toLowerCase()
-                            .contains(opp.getTitle().toLowerCase().substring(0, Math.min(10, opp.getTitle().length()))))
-                    .count();
-
-            if (similarTitles > 5) {
+            if (duplicates.containsKey(id)) {
                 reasons.add("DUPLICATE_OPPORTUNITIES");
-                isSuspicious = true;
             }
-
-            // Check for vague descriptions
-            if (opp.getDescription() != null && opp.getDescription().length() < 50) {
+            if (descriptionLength != null && descriptionLength < MIN_DESCRIPTION_LENGTH) {
                 reasons.add("VAGUE_DESCRIPTION");
-                isSuspicious = true;
             }
 
-            if (isSuspicious) {
-                suspiciousData.put("opportunityId", opp.getId());
-                suspiciousData.put("title", opp.getTitle());
-                suspiciousData.put("ngoName", opp.getNgo() != null ? opp.getNgo().getOrganizationName() : "Unknown");
-                suspiciousData.put("reasons", reasons);
-                suspicious.add(suspiciousData);
+            Map<String, Object> suspiciousData = new HashMap<>();
+            suspiciousData.put("opportunityId", id);
+            suspiciousData.put("title", row[1]);
+            suspiciousData.put("ngoName", row[2] != null ? row[2] : "Unknown");
+            suspiciousData.put("reasons", reasons);
+            if (duplicates.containsKey(id)) {
+                suspiciousData.put("similarTo", duplicates.get(id));
             }
+            suspicious.add(suspiciousData);
         }
 
         return suspicious;
     }
 
-    /**
-     * Calculate missing fund reports count
-     */
-    private int getMissingFundReportsCount() {
-        // Simple logic: NGOs that have received donations but haven't submitted reports
-        // recently
-        List<NGO> verifiedNGOs = ngoRepository.findByIsVerified(true);
-        int missingReports = 0;
-
-        LocalDateTime threeMonthsAgo = LocalDateTime.now().minusMonths(3);
-
-        for (NGO ngo : verifiedNGOs) {
-            // Check if NGO has received donations
-            boolean hasRecentDonations = donationRepository.findAll().stream()
-                    .anyMatch(d -> d.getNgo() != null && d.getNgo().getId().equals(ngo.getId())
-                            && d.getDonationDate().isAfter(threeMonthsAgo));
-
-            if (hasRecentDonations) {
-                // For now, we'll count all NGOs with recent donations as missing reports
-                // In a real system, you'd check against a FundUtilizationReport table
-                missingReports++;
-            }
-        }
-
-        return Math.max(0, missingReports);
-    }
-
-    private void logUserManagementAction(Long userId, Long adminId, String actionType, String notes) {
-        // This would save to UserManagementActions table
-        // Implementation depends on creating the entity and repository
-        System.out.println("User Management Action: " + actionType + " for User " + userId +
-                " by admin " + adminId + " - " + notes);
+    private void logUserManagementAction(Long userId, Long adminId, String actionType, String notes,
+            String previousStatus, String newStatus) {
+        auditLogService.recordUserAction(userId, adminId, ManagementActionType.valueOf(actionType), notes,
+                previousStatus, newStatus);
     }
 }
\ No newline at end of file
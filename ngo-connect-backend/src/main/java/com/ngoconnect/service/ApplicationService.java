@@ -9,8 +9,12 @@ import com.ngoconnect.repository.VolunteerOpportunityRepository;
 import com.ngoconnect.repository.UserRepository;
 import com.ngoconnect.dto.ApplicationRequest;
 import com.ngoconnect.dto.ApplicationResponse;
+import com.ngoconnect.event.OpportunityChangedEvent;
 import com.ngoconnect.exception.ResourceNotFoundException;
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,6 +25,8 @@ import java.util.stream.Collectors;
 @Service
 public class ApplicationService {
 
+    private static final String UNIQUE_VOLUNTEER_OPPORTUNITY = "uk_volunteer_applications_volunteer_opportunity";
+
     @Autowired
     private VolunteerApplicationRepository applicationRepository;
 
@@ -30,6 +36,9 @@ public class ApplicationService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     /**
      * Submit a new volunteer application
      */
@@ -44,7 +53,7 @@ public class ApplicationService {
             throw new IllegalStateException("This opportunity is no longer active");
         }
 
-        // Check if opportunity is full
+        // Fail fast when already full; reserveSeat below is the authoritative check
         if (opportunity.getVolunteersApplied() >= opportunity.getVolunteersNeeded()) {
             throw new IllegalStateException("This opportunity is fully booked");
         }
@@ -54,13 +63,6 @@ public class ApplicationService {
                 .orElseThrow(() -> new ResourceNotFoundException(
                         "Volunteer not found with id: " + request.getVolunteerId()));
 
-        // Check if volunteer already applied for this opportunity
-        VolunteerApplication existingApplication = applicationRepository.findByVolunteerIdAndOpportunityId(
-                request.getVolunteerId(), request.getOpportunityId());
-        if (existingApplication != null) {
-            throw new IllegalStateException("You have already applied for this opportunity");
-        }
-
         // Create new application
         VolunteerApplication application = new VolunteerApplication();
         application.setVolunteer(volunteer);
@@ -79,11 +81,26 @@ public class ApplicationService {
         application.setStatus(ApplicationStatus.PENDING);
         application.setAppliedDate(LocalDateTime.now());
 
-        VolunteerApplication savedApplication = applicationRepository.save(application);
+        // One application per volunteer and opportunity is enforced by a unique
+        // constraint, so concurrent duplicates fail here instead of slipping
+        // past a separate lookup
+        VolunteerApplication savedApplication;
+        try {
+            savedApplication = applicationRepository.saveAndFlush(application);
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicateApplication(e)) {
+                throw new IllegalStateException("You have already applied for this opportunity");
+            }
+            throw e;
+        }
 
-        // Update opportunity volunteers applied count
-        opportunity.setVolunteersApplied(opportunity.getVolunteersApplied() + 1);
-        opportunityRepository.save(opportunity);
+        // Take the seat last: the update locks the opportunity row until
+        // commit, so this keeps concurrent applicants waiting the shortest
+        // time. Finding it full rolls the application back.
+        if (opportunityRepository.reserveSeat(opportunity.getId()) == 0) {
+            throw new IllegalStateException("This opportunity is fully booked");
+        }
+        eventPublisher.publishEvent(OpportunityChangedEvent.applicantsChanged(opportunity));
 
         return savedApplication;
     }
@@ -94,7 +111,7 @@ public class ApplicationService {
     public List<ApplicationResponse> getUserApplicationHistory(Long userId) {
         List<VolunteerApplication> applications = applicationRepository.findByVolunteerIdOrderByAppliedDateDesc(userId);
         return applications.stream()
-                .map(this::convertToApplicationResponse)
+                .map(ApplicationResponse::fromEntity)
                 .collect(Collectors.toList());
     }
 
@@ -105,7 +122,7 @@ public class ApplicationService {
         List<VolunteerApplication> applications = applicationRepository
                 .findByOpportunityIdOrderByAppliedDateDesc(opportunityId);
         return applications.stream()
-                .map(this::convertToApplicationResponse)
+                .map(ApplicationResponse::fromEntity)
                 .collect(Collectors.toList());
     }
 
@@ -118,19 +135,17 @@ public class ApplicationService {
                 .orElseThrow(() -> new ResourceNotFoundException("Application not found with id: " + applicationId));
 
         ApplicationStatus oldStatus = application.getStatus();
-        application.setStatus(newStatus);
-        application.setStatusUpdatedDate(LocalDateTime.now());
 
-        VolunteerApplication updatedApplication = applicationRepository.save(application);
-
-        // If status changed from PENDING to REJECTED, decrease volunteers applied count
+        // If status changed from PENDING to REJECTED, give the seat back. The
+        // status moves conditionally so two concurrent rejections release once.
         if (oldStatus == ApplicationStatus.PENDING && newStatus == ApplicationStatus.REJECTED) {
-            VolunteerOpportunity opportunity = application.getOpportunity();
-            opportunity.setVolunteersApplied(Math.max(0, opportunity.getVolunteersApplied() - 1));
-            opportunityRepository.save(opportunity);
+            releaseSeatOnTransition(application, oldStatus, newStatus);
+            return application;
         }
 
-        return updatedApplication;
+        application.setStatus(newStatus);
+        application.setStatusUpdatedDate(LocalDateTime.now());
+        return applicationRepository.save(application);
     }
 
     /**
@@ -139,7 +154,7 @@ public class ApplicationService {
     public ApplicationResponse getApplicationById(Long applicationId) {
         VolunteerApplication application = applicationRepository.findById(applicationId)
                 .orElseThrow(() -> new ResourceNotFoundException("Application not found with id: " + applicationId));
-        return convertToApplicationResponse(application);
+        return ApplicationResponse.fromEntity(application);
     }
 
     /**
@@ -154,11 +169,10 @@ public class ApplicationService {
             throw new IllegalStateException("Cannot cancel a completed application");
         }
 
-        // Update opportunity volunteers applied count if application was pending
+        // Give the seat back if the application was pending
         if (application.getStatus() == ApplicationStatus.PENDING) {
-            VolunteerOpportunity opportunity = application.getOpportunity();
-            opportunity.setVolunteersApplied(Math.max(0, opportunity.getVolunteersApplied() - 1));
-            opportunityRepository.save(opportunity);
+            releaseSeatOnTransition(application, ApplicationStatus.PENDING, ApplicationStatus.CANCELLED);
+            return;
         }
 
         application.setStatus(ApplicationStatus.CANCELLED);
@@ -167,37 +181,40 @@ public class ApplicationService {
     }
 
     /**
-     * Convert VolunteerApplication entity to ApplicationResponse DTO
+     * Whether an integrity failure is the one-application-per-volunteer
+     * constraint, as opposed to a missing column value or foreign key
      */
-    private ApplicationResponse convertToApplicationResponse(VolunteerApplication application) {
-        ApplicationResponse response = new ApplicationResponse();
-        response.setId(application.getId());
-        response.setOpportunityId(application.getOpportunity().getId());
-        response.setOpportunityTitle(application.getOpportunity().getTitle());
-        response.setNgoName(application.getOpportunity().getNgo().getOrganizationName());
-        response.setCause(application.getOpportunity().getCause());
-        response.setVolunteerId(application.getVolunteer().getId());
-        response.setVolunteerName(application.getFullName());
-        response.setVolunteerEmail(application.getEmail());
-        response.setPhone(application.getPhone());
-        response.setAddress(application.getAddress());
-        response.setExperience(application.getExperience());
-        response.setMotivation(application.getMotivation());
-        response.setAvailability(application.getAvailability());
-        response.setEmergencyContact(application.getEmergencyContact());
-        response.setEmergencyPhone(application.getEmergencyPhone());
-        response.setSkills(application.getSkills());
-        response.setAdditionalInfo(application.getAdditionalInfo());
-        response.setStatus(application.getStatus());
-        response.setAppliedDate(application.getAppliedDate());
-        response.setStatusUpdatedDate(application.getStatusUpdatedDate());
-        response.setFeedback(application.getFeedback());
-        response.setRating(application.getRating());
-        response.setStartDate(application.getOpportunity().getStartDate());
-        response.setEndDate(application.getOpportunity().getEndDate());
-        response.setHoursCompleted(application.getHoursCompleted());
-        response.setTotalHours(application.getTotalHours());
-
-        return response;
+    private static boolean isDuplicateApplication(DataIntegrityViolationException e) {
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException) {
+                ConstraintViolationException violation = (ConstraintViolationException) cause;
+                String constraint = violation.getConstraintName();
+                if (constraint == null && violation.getSQLException() != null) {
+                    // MySQLDialect does not extract constraint names; MySQL puts
+                    // the key name in the message
+                    constraint = violation.getSQLException().getMessage();
+                }
+                return constraint != null
+                        && constraint.toLowerCase().contains(UNIQUE_VOLUNTEER_OPPORTUNITY);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Move a seat-holding application to a status that frees its seat, and
+     * release the seat only if this call made the move
+     */
+    private void releaseSeatOnTransition(VolunteerApplication application, ApplicationStatus from,
+            ApplicationStatus to) {
+        LocalDateTime now = LocalDateTime.now();
+        if (applicationRepository.updateStatusIfCurrent(application.getId(), from, to, now) == 0) {
+            throw new IllegalStateException("Application status was changed by another request");
+        }
+        VolunteerOpportunity opportunity = application.getOpportunity();
+        opportunityRepository.releaseSeat(opportunity.getId());
+        application.setStatus(to);
+        application.setStatusUpdatedDate(now);
+        eventPublisher.publishEvent(OpportunityChangedEvent.applicantsChanged(opportunity));
     }
 }
\ No newline at end of file
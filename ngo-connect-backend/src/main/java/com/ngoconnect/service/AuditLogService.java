@@ -0,0 +1,261 @@
+package com.ngoconnect.service;
+
+import com.ngoconnect.dto.CursorPage;
+import com.ngoconnect.entity.ManagementActionType;
+import com.ngoconnect.entity.NGOManagementAction;
+import com.ngoconnect.entity.UserManagementAction;
+import com.ngoconnect.repository.NGOManagementActionRepository;
+import com.ngoconnect.repository.UserManagementActionRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Append-only audit log of NGO and user management actions.
+ *
+ * Recording an action only enqueues it (after the surrounding transaction
+ * commits, so rolled-back actions are never logged). A scheduled flusher drains
+ * the queue and writes the rows with JDBC batch inserts, keeping inserts off
+ * the admin request path. History reads may lag by one flush interval.
+ */
+@Service
+public class AuditLogService {
+
+    private static final String INSERT_NGO_ACTION = "INSERT INTO ngo_management_actions "
+            + "(ngo_id, admin_id, action_type, reason, previous_status, new_status, created_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_USER_ACTION = "INSERT INTO user_management_actions "
+            + "(user_id, admin_id, action_type, reason, previous_status, new_status, created_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    // Separate flush runs an entry may fail in before it is dropped; with the
+    // backoff below that rides out about six minutes of outage
+    private static final int MAX_ATTEMPTS = 12;
+    private static final long INITIAL_BACKOFF_MS = 1000;
+    private static final long MAX_BACKOFF_MS = 60_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NGOManagementActionRepository ngoManagementActionRepository;
+
+    @Autowired
+    private UserManagementActionRepository userManagementActionRepository;
+
+    @Value("${app.audit.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${app.audit.batch-size:500}")
+    private int batchSize;
+
+    private BlockingQueue<PendingAction> queue;
+    // Entries of the last failed batch, written first on the next run
+    private final List<PendingAction> retry = new ArrayList<>();
+    private int failedRuns;
+    private volatile long retryAtMillis;
+
+    @PostConstruct
+    public void init() {
+        queue = new LinkedBlockingQueue<>(queueCapacity);
+    }
+
+    public void recordNgoAction(Long ngoId, Long adminId, ManagementActionType actionType, String reason,
+            String previousStatus, String newStatus) {
+        enqueue(new PendingAction(true, ngoId, adminId, actionType, reason, previousStatus, newStatus));
+    }
+
+    public void recordUserAction(Long userId, Long adminId, ManagementActionType actionType, String reason,
+            String previousStatus, String newStatus) {
+        enqueue(new PendingAction(false, userId, adminId, actionType, reason, previousStatus, newStatus));
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<NGOManagementAction> getNgoHistory(Long ngoId, Long cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), 100);
+        List<NGOManagementAction> rows = ngoManagementActionRepository.findHistory(ngoId,
+                cursor != null ? cursor : Long.MAX_VALUE, PageRequest.of(0, pageSize + 1));
+        return toPage(rows, pageSize, ngoManagementActionRepository.countByNgoId(ngoId), NGOManagementAction::getId);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<UserManagementAction> getUserHistory(Long userId, Long cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), 100);
+        List<UserManagementAction> rows = userManagementActionRepository.findHistory(userId,
+                cursor != null ? cursor : Long.MAX_VALUE, PageRequest.of(0, pageSize + 1));
+        return toPage(rows, pageSize, userManagementActionRepository.countByUserId(userId),
+                UserManagementAction::getId);
+    }
+
+    @Scheduled(fixedDelayString = "${app.audit.flush-interval-ms:1000}")
+    public void scheduledFlush() {
+        // Back off while the database is failing instead of retrying every tick
+        if (System.currentTimeMillis() < retryAtMillis) {
+            return;
+        }
+        try {
+            flush();
+        } catch (Exception e) {
+            System.err.println("Error flushing audit log: " + e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        try {
+            flush();
+        } catch (Exception e) {
+            System.err.println("Error flushing audit log: " + e.getMessage());
+        }
+        int unwritten = retry.size() + queue.size();
+        if (unwritten > 0) {
+            System.err.println("Shutting down with " + unwritten + " unwritten audit log entries");
+        }
+    }
+
+    /**
+     * Write everything currently queued, batchSize rows per round trip. Stops
+     * at the first failed batch and keeps it for the next run, so one short
+     * outage costs an entry one attempt rather than all of them.
+     */
+    public synchronized int flush() {
+        int written = 0;
+        if (!retry.isEmpty()) {
+            List<PendingAction> pending = new ArrayList<>(retry);
+            retry.clear();
+            if (!writeBatch(pending)) {
+                return written;
+            }
+            written += pending.size();
+        }
+        List<PendingAction> drained = new ArrayList<>(batchSize);
+        while (queue.drainTo(drained, batchSize) > 0) {
+            if (!writeBatch(drained)) {
+                return written;
+            }
+            written += drained.size();
+            drained = new ArrayList<>(batchSize);
+        }
+        return written;
+    }
+
+    /**
+     * @return false if the batch failed; its entries are then kept for a
+     *         later run, or dropped once they have failed MAX_ATTEMPTS runs
+     */
+    private boolean writeBatch(List<PendingAction> batch) {
+        List<Object[]> ngoRows = new ArrayList<>();
+        List<Object[]> userRows = new ArrayList<>();
+        for (PendingAction action : batch) {
+            (action.ngoAction ? ngoRows : userRows).add(action.toRow());
+        }
+        try {
+            if (!ngoRows.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_NGO_ACTION, ngoRows);
+            }
+            if (!userRows.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_USER_ACTION, userRows);
+            }
+            failedRuns = 0;
+            retryAtMillis = 0;
+            return true;
+        } catch (Exception e) {
+            System.err.println("Error writing " + batch.size() + " audit log entries: " + e.getMessage());
+            // Each statement is autocommitted, so a retry may duplicate rows of
+            // a partially written batch; that beats silently losing entries
+            for (PendingAction action : batch) {
+                if (++action.attempts < MAX_ATTEMPTS) {
+                    retry.add(action);
+                } else {
+                    System.err.println("Dropping audit log entry: " + action);
+                }
+            }
+            failedRuns++;
+            retryAtMillis = System.currentTimeMillis()
+                    + Math.min(INITIAL_BACKOFF_MS << Math.min(failedRuns - 1, 16), MAX_BACKOFF_MS);
+            return false;
+        }
+    }
+
+    private void enqueue(PendingAction action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    offer(action);
+                }
+            });
+        } else {
+            offer(action);
+        }
+    }
+
+    private void offer(PendingAction action) {
+        if (!queue.offer(action)) {
+            // Queue full: the flusher has fallen behind, write on the caller's thread
+            synchronized (this) {
+                flush();
+                if (!queue.offer(action)) {
+                    writeBatch(new ArrayList<>(List.of(action)));
+                }
+            }
+        }
+    }
+
+    private <T> CursorPage<T> toPage(List<T> rows, int pageSize, Long total,
+            java.util.function.Function<T, Long> idOf) {
+        boolean hasNext = rows.size() > pageSize;
+        List<T> content = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? String.valueOf(idOf.apply(content.get(content.size() - 1))) : null;
+        return new CursorPage<>(content, total, nextCursor, pageSize, hasNext);
+    }
+
+    private static final class PendingAction {
+        private final boolean ngoAction;
+        private final Long targetId;
+        private final Long adminId;
+        private final ManagementActionType actionType;
+        private final String reason;
+        private final String previousStatus;
+        private final String newStatus;
+        private final LocalDateTime createdAt = LocalDateTime.now();
+        private int attempts;
+
+        private PendingAction(boolean ngoAction, Long targetId, Long adminId, ManagementActionType actionType,
+                String reason, String previousStatus, String newStatus) {
+            this.ngoAction = ngoAction;
+            this.targetId = targetId;
+            this.adminId = adminId;
+            this.actionType = actionType;
+            this.reason = reason;
+            this.previousStatus = previousStatus;
+            this.newStatus = newStatus;
+        }
+
+        private Object[] toRow() {
+            return new Object[] { targetId, adminId, actionType.name(), reason, previousStatus, newStatus,
+                    Timestamp.valueOf(createdAt) };
+        }
+
+        @Override
+        public String toString() {
+            return (ngoAction ? "NGO " : "User ") + targetId + " " + actionType + " by admin " + adminId;
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.ngoconnect.service;
+
+import com.ngoconnect.dto.AdminDashboardDTO;
+import com.ngoconnect.entity.DonationStatus;
+import com.ngoconnect.entity.NGOVerificationRequest;
+import com.ngoconnect.entity.SystemAlert;
+import com.ngoconnect.entity.UserType;
+import com.ngoconnect.event.DonationRecordedEvent;
+import com.ngoconnect.event.NgoChangedEvent;
+import com.ngoconnect.event.OpportunityChangedEvent;
+import com.ngoconnect.event.UserChangedEvent;
+import com.ngoconnect.repository.DonationRepository;
+import com.ngoconnect.repository.NGOVerificationRequestRepository;
+import com.ngoconnect.repository.SystemAlertRepository;
+import com.ngoconnect.repository.UserRepository;
+import com.ngoconnect.repository.VolunteerOpportunityRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.DoubleAdder;
+
+/**
+ * In-memory counters behind the admin dashboard overview.
+ *
+ * Counters are moved by domain events as users register or get blocked,
+ * NGOs get verified, donations are recorded and opportunities change, so
+ * reading the overview never touches the database. A scheduled
+ * reconciliation recomputes every figure with COUNT/SUM queries to correct
+ * drift (e.g. writes made by another instance or directly in SQL). The
+ * listeners take the same lock as the reconciliation, so an event is never
+ * applied between a COUNT and the set() of its result.
+ */
+@Service
+public class DashboardCounterService {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DonationRepository donationRepository;
+
+    @Autowired
+    private VolunteerOpportunityRepository volunteerOpportunityRepository;
+
+    @Autowired
+    private NGOVerificationRequestRepository verificationRequestRepository;
+
+    @Autowired
+    private SystemAlertRepository systemAlertRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private FundComplianceService fundComplianceService;
+
+    private final AtomicLong totalUsers = new AtomicLong();
+    private final AtomicLong activeUsers = new AtomicLong();
+    private final AtomicLong blockedUsers = new AtomicLong();
+    private final AtomicLong totalDonors = new AtomicLong();
+    private final AtomicLong totalVolunteers = new AtomicLong();
+    private final AtomicLong totalNgos = new AtomicLong();
+    private final AtomicLong verifiedNgos = new AtomicLong();
+    private final AtomicLong pendingVerifications = new AtomicLong();
+    private final AtomicLong donationCount = new AtomicLong();
+    private final DoubleAdder donationAmount = new DoubleAdder();
+    private final AtomicLong activeOpportunities = new AtomicLong();
+    private final AtomicLong missingFundReports = new AtomicLong();
+    private final AtomicLong suspiciousActivities = new AtomicLong();
+
+    private volatile boolean initialized = false;
+    private volatile LocalDateTime lastReconciledAt;
+
+    /**
+     * Current dashboard figures, served from memory
+     */
+    public AdminDashboardDTO.DashboardOverview getOverview() {
+        if (!initialized) {
+            reconcile();
+        }
+
+        AdminDashboardDTO.DashboardOverview overview = new AdminDashboardDTO.DashboardOverview();
+        overview.setTotalNgosRegistered((int) totalNgos.get());
+        overview.setTotalNgosVerified((int) verifiedNgos.get());
+        overview.setTotalNgosPending((int) pendingVerifications.get());
+        overview.setTotalUsersRegistered((int) totalUsers.get());
+        overview.setTotalUsersActive((int) activeUsers.get());
+        overview.setTotalUsersBlocked((int) blockedUsers.get());
+        overview.setTotalDonors((int) totalDonors.get());
+        overview.setTotalVolunteers((int) totalVolunteers.get());
+        overview.setTotalDonationsCount((int) donationCount.get());
+        overview.setTotalDonationsAmount(donationAmount.sum());
+        overview.setActiveVolunteerOpportunities((int) activeOpportunities.get());
+        overview.setPendingVerifications((int) pendingVerifications.get());
+        overview.setMissingFundReports((int) missingFundReports.get());
+        overview.setSuspiciousActivities((int) suspiciousActivities.get());
+        return overview;
+    }
+
+    public LocalDateTime getLastReconciledAt() {
+        return lastReconciledAt;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeOnStartup() {
+        try {
+            reconcile();
+        } catch (Exception e) {
+            // Don't fail startup; the first dashboard read retries
+            System.err.println("Error initializing dashboard counters: " + e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.dashboard.counters.reconcile-interval-ms:300000}",
+            initialDelayString = "${app.dashboard.counters.reconcile-interval-ms:300000}")
+    public void scheduledReconcile() {
+        try {
+            reconcile();
+        } catch (Exception e) {
+            System.err.println("Error reconciling dashboard counters: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Recompute every counter from the database and return the fresh figures
+     */
+    public synchronized AdminDashboardDTO.DashboardOverview reconcile() {
+        long ngos = 0;
+        long verified = 0;
+        long pending = 0;
+        try {
+            // NGO statistics using native SQL to avoid enum mapping issues
+            ngos = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM ngos", Long.class);
+            verified = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM ngos WHERE is_verified = true", Long.class);
+            pending = verificationRequestRepository.countByStatus(NGOVerificationRequest.VerificationStatus.PENDING);
+        } catch (Exception e) {
+            System.err.println("Error calculating NGO statistics: " + e.getMessage());
+        }
+        totalNgos.set(ngos);
+        verifiedNgos.set(verified);
+        pendingVerifications.set(pending);
+
+        totalUsers.set(userRepository.count());
+        activeUsers.set(userRepository.countActiveUsers());
+        blockedUsers.set(userRepository.countBlockedUsers());
+        totalDonors.set(userRepository.countUnblockedByUserType(UserType.DONOR));
+        totalVolunteers.set(userRepository.countUnblockedByUserType(UserType.VOLUNTEER));
+
+        Double amount = donationRepository.getTotalDonationAmount();
+        donationCount.set(donationRepository.count());
+        donationAmount.reset();
+        donationAmount.add(amount != null ? amount : 0.0);
+
+        activeOpportunities.set(volunteerOpportunityRepository.countByIsActive(true));
+        missingFundReports.set(fundComplianceService.countMissingFundReports());
+        suspiciousActivities.set(systemAlertRepository.countUnresolvedAlertsByPriority(SystemAlert.Priority.HIGH));
+
+        initialized = true;
+        lastReconciledAt = LocalDateTime.now();
+        return getOverview();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onUserChanged(UserChangedEvent event) {
+        applyUserState(event.getPrevious(), -1);
+        applyUserState(event.getCurrent(), 1);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onNgoChanged(NgoChangedEvent event) {
+        if (event.isCreated()) {
+            totalNgos.incrementAndGet();
+        } else if (Boolean.TRUE.equals(event.getPreviouslyVerified())) {
+            verifiedNgos.decrementAndGet();
+        }
+        if (Boolean.TRUE.equals(event.getVerified())) {
+            verifiedNgos.incrementAndGet();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onDonationRecorded(DonationRecordedEvent event) {
+        donationCount.incrementAndGet();
+        if (event.getStatus() == DonationStatus.COMPLETED && event.getAmount() != null) {
+            donationAmount.add(event.getAmount());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onOpportunityChanged(OpportunityChangedEvent event) {
+        if (Boolean.TRUE.equals(event.getPreviouslyActive())) {
+            activeOpportunities.decrementAndGet();
+        }
+        if (event.isActive()) {
+            activeOpportunities.incrementAndGet();
+        }
+    }
+
+    private void applyUserState(UserChangedEvent.UserState state, int delta) {
+        if (state == null) {
+            return;
+        }
+        totalUsers.addAndGet(delta);
+        if (state.isBlocked()) {
+            blockedUsers.addAndGet(delta);
+            return;
+        }
+        if (state.isEmailVerified()) {
+            activeUsers.addAndGet(delta);
+        }
+        if (state.getUserType() == UserType.DONOR) {
+            totalDonors.addAndGet(delta);
+        } else if (state.getUserType() == UserType.VOLUNTEER) {
+            totalVolunteers.addAndGet(delta);
+        }
+    }
+}
@@ -0,0 +1,313 @@
+package com.ngoconnect.service;
+
+import com.ngoconnect.entity.SystemAlert;
+import com.ngoconnect.event.DonationRecordedEvent;
+import com.ngoconnect.event.DonationsImportedEvent;
+import com.ngoconnect.repository.SystemAlertRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Online detector for unusual donations.
+ *
+ * Keeps running statistics (count, mean and variance via Welford's method,
+ * recent max and a 24 hour donation count) per donor, per NGO and for
+ * the whole platform, seeded from grouped SQL aggregates at startup and
+ * after each bulk import, and updated as each live donation commits. A
+ * donation far outside its donor's, NGO's or the platform's history, or a
+ * donor exceeding the daily donation limit, is persisted as a
+ * SUSPICIOUS_ACTIVITY SystemAlert; the suspicious-patterns endpoint only
+ * reads those alerts.
+ */
+@Service
+public class DonationAnomalyService {
+
+    public static final String PATTERN_LARGE_AMOUNT = "LARGE_AMOUNT";
+    public static final String PATTERN_HIGH_FREQUENCY = "HIGH_FREQUENCY";
+
+    private static final String TITLE_LARGE_AMOUNT = "Unusual donation amount";
+    private static final String TITLE_HIGH_FREQUENCY = "Unusual donation frequency";
+
+    private static final Duration FREQUENCY_WINDOW = Duration.ofHours(24);
+    private static final int MAX_LISTED_FLAGS = 200;
+
+    @Value("${app.anomaly.z-score-threshold:4.0}")
+    private double zScoreThreshold;
+
+    @Value("${app.anomaly.ratio-threshold:10.0}")
+    private double ratioThreshold;
+
+    @Value("${app.anomaly.min-samples:5}")
+    private int minSamples;
+
+    @Value("${app.anomaly.max-donations-per-day:20}")
+    private int maxDonationsPerDay;
+
+    @Autowired
+    private SystemAlertRepository systemAlertRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final Map<Long, RunningStats> donorStats = new ConcurrentHashMap<>();
+    private final Map<Long, RunningStats> ngoStats = new ConcurrentHashMap<>();
+    private volatile RunningStats platformStats = new RunningStats();
+
+    // Alerts are written after the donation's transaction has committed
+    private TransactionTemplate alertTransaction;
+
+    @PostConstruct
+    public void init() {
+        alertTransaction = new TransactionTemplate(transactionManager);
+        alertTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Seed the statistics with one grouped query per dimension
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeOnStartup() {
+        try {
+            seed();
+        } catch (Exception e) {
+            // Don't fail startup; statistics then build up from new donations
+            System.err.println("Error seeding donation anomaly statistics: " + e.getMessage());
+        }
+    }
+
+    public synchronized void seed() {
+        LocalDateTime windowStart = LocalDateTime.now().minus(FREQUENCY_WINDOW);
+        Map<Long, RunningStats> donors = seedGroup("donor_id", windowStart);
+        Map<Long, RunningStats> ngos = seedGroup("ngo_id", windowStart);
+        RunningStats platform = jdbcTemplate.queryForObject(
+                "SELECT COUNT(amount), AVG(amount), VAR_POP(amount), MAX(amount) FROM donations",
+                (rs, i) -> RunningStats.of(rs.getLong(1), rs.getDouble(2), rs.getDouble(3), rs.getDouble(4), 0,
+                        null));
+
+        donorStats.clear();
+        donorStats.putAll(donors);
+        ngoStats.clear();
+        ngoStats.putAll(ngos);
+        platformStats = platform != null ? platform : new RunningStats();
+    }
+
+    private Map<Long, RunningStats> seedGroup(String column, LocalDateTime windowStart) {
+        Map<Long, RunningStats> stats = new ConcurrentHashMap<>();
+        // The open window starts at the earliest donation inside the last 24
+        // hours, as if it had been opened live; none means no open window
+        jdbcTemplate.query("SELECT " + column + ", COUNT(amount), AVG(amount), VAR_POP(amount), MAX(amount), "
+                + "SUM(CASE WHEN donation_date >= ? THEN 1 ELSE 0 END), "
+                + "MIN(CASE WHEN donation_date >= ? THEN donation_date END) "
+                + "FROM donations WHERE " + column + " IS NOT NULL AND amount IS NOT NULL GROUP BY " + column,
+                rs -> {
+                    Timestamp firstInWindow = rs.getTimestamp(7);
+                    stats.put(rs.getLong(1), RunningStats.of(rs.getLong(2), rs.getDouble(3), rs.getDouble(4),
+                            rs.getDouble(5), firstInWindow != null ? rs.getInt(6) : 0,
+                            firstInWindow != null ? firstInWindow.toLocalDateTime() : null));
+                }, Timestamp.valueOf(windowStart), Timestamp.valueOf(windowStart));
+        return stats;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDonationRecorded(DonationRecordedEvent event) {
+        // Imported rows are history, not live activity; they are folded in by
+        // the reseed after the import instead of being scored one by one
+        if (event.getAmount() == null || event.isImported()) {
+            return;
+        }
+        try {
+            evaluate(event);
+        } catch (Exception e) {
+            // Never let detection interfere with recording donations
+            System.err.println("Error evaluating donation " + event.getDonationId() + " for anomalies: "
+                    + e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDonationsImported(DonationsImportedEvent event) {
+        try {
+            seed();
+        } catch (Exception e) {
+            System.err.println("Error reseeding donation anomaly statistics after import of "
+                    + event.getCount() + " donations: " + e.getMessage());
+        }
+    }
+
+    private void evaluate(DonationRecordedEvent event) {
+        double amount = event.getAmount();
+        LocalDateTime at = event.getDonationDate() != null ? event.getDonationDate() : LocalDateTime.now();
+        List<String> reasons = new ArrayList<>();
+
+        if (event.getDonorId() != null) {
+            Observation donor = donorStats.computeIfAbsent(event.getDonorId(), id -> new RunningStats())
+                    .observe(amount, at);
+            checkAmount(amount, donor, "donor", reasons);
+            if (donor.windowCount == maxDonationsPerDay + 1) {
+                // Raised once per window, when the limit is first exceeded
+                raise(TITLE_HIGH_FREQUENCY, SystemAlert.EntityType.USER, event.getDonorId(),
+                        "Donor " + event.getDonorId() + " made more than " + maxDonationsPerDay
+                                + " donations in the last 24 hours");
+            }
+        }
+        if (event.getNgoId() != null) {
+            Observation ngo = ngoStats.computeIfAbsent(event.getNgoId(), id -> new RunningStats())
+                    .observe(amount, at);
+            checkAmount(amount, ngo, "NGO " + event.getNgoId(), reasons);
+        }
+        Observation platform = platformStats.observe(amount, at);
+        if (platform.count >= minSamples && platform.mean > 0 && amount >= ratioThreshold * platform.mean) {
+            reasons.add(String.format("%.1fx the platform average of %.2f", amount / platform.mean, platform.mean));
+        }
+
+        if (!reasons.isEmpty()) {
+            raise(TITLE_LARGE_AMOUNT, SystemAlert.EntityType.DONATION, event.getDonationId(),
+                    String.format("Donation %d of %.2f by donor %s to NGO %s: %s", event.getDonationId(), amount,
+                            event.getDonorId(), event.getNgoId(), String.join("; ", reasons)));
+        }
+    }
+
+    private void checkAmount(double amount, Observation history, String subject, List<String> reasons) {
+        if (history.count < minSamples) {
+            return;
+        }
+        if (history.stdDev > 0) {
+            double z = (amount - history.mean) / history.stdDev;
+            if (z >= zScoreThreshold) {
+                reasons.add(String.format("z-score %.1f against %s history (mean %.2f over %d donations)", z,
+                        subject, history.mean, history.count));
+                return;
+            }
+        }
+        double baseline = Math.max(history.mean, history.recentMax);
+        if (baseline > 0 && amount >= ratioThreshold * baseline) {
+            reasons.add(String.format("%.1fx the %s baseline of %.2f", amount / baseline, subject, baseline));
+        }
+    }
+
+    private void raise(String title, SystemAlert.EntityType entityType, Long entityId, String message) {
+        SystemAlert alert = new SystemAlert(SystemAlert.AlertType.SUSPICIOUS_ACTIVITY, SystemAlert.Priority.HIGH,
+                title, message);
+        alert.setRelatedEntityType(entityType);
+        alert.setRelatedEntityId(entityId);
+        alertTransaction.executeWithoutResult(tx -> systemAlertRepository.save(alert));
+    }
+
+    /**
+     * Unresolved flags, newest first, as precomputed by the detector
+     */
+    public List<Map<String, Object>> getRecentFlags() {
+        List<Map<String, Object>> flags = new ArrayList<>();
+        for (SystemAlert alert : systemAlertRepository.findRecentUnresolvedByAlertType(
+                SystemAlert.AlertType.SUSPICIOUS_ACTIVITY, PageRequest.of(0, MAX_LISTED_FLAGS))) {
+            Map<String, Object> flag = new LinkedHashMap<>();
+            flag.put("alertId", alert.getId());
+            flag.put("pattern", TITLE_HIGH_FREQUENCY.equals(alert.getTitle()) ? PATTERN_HIGH_FREQUENCY
+                    : PATTERN_LARGE_AMOUNT);
+            flag.put("relatedEntityType", alert.getRelatedEntityType());
+            flag.put("relatedEntityId", alert.getRelatedEntityId());
+            flag.put("message", alert.getMessage());
+            flag.put("priority", alert.getPriority());
+            flag.put("createdAt", alert.getCreatedAt());
+            flags.add(flag);
+        }
+        return flags;
+    }
+
+    /**
+     * A subject's statistics just before a donation was added; windowCount
+     * already includes that donation
+     */
+    static final class Observation {
+        final long count;
+        final double mean;
+        final double stdDev;
+        final double recentMax;
+        final int windowCount;
+
+        Observation(long count, double mean, double stdDev, double recentMax, int windowCount) {
+            this.count = count;
+            this.mean = mean;
+            this.stdDev = stdDev;
+            this.recentMax = recentMax;
+            this.windowCount = windowCount;
+        }
+    }
+
+    /**
+     * Welford running mean/variance plus the largest of the last few
+     * donations and a tumbling 24 hour donation count
+     */
+    static final class RunningStats {
+        private static final int RECENT_SIZE = 10;
+
+        private long count;
+        private double mean;
+        private double m2;
+        private final double[] recent = new double[RECENT_SIZE];
+        private int recentNext;
+        private LocalDateTime windowStart;
+        private int windowCount;
+
+        static RunningStats of(long count, double mean, double variance, double max, int windowCount,
+                LocalDateTime windowStart) {
+            RunningStats stats = new RunningStats();
+            stats.count = count;
+            stats.mean = mean;
+            stats.m2 = variance * count;
+            // The historical max stands in for recent donations until new ones arrive
+            stats.recent[0] = max;
+            stats.recentNext = 1 % RECENT_SIZE;
+            stats.windowCount = windowCount;
+            stats.windowStart = windowStart;
+            return stats;
+        }
+
+        /**
+         * Add an amount and return the statistics as they were before it
+         */
+        synchronized Observation observe(double amount, LocalDateTime at) {
+            if (windowStart == null || !at.isBefore(windowStart.plus(FREQUENCY_WINDOW))) {
+                windowStart = at;
+                windowCount = 0;
+            }
+            double recentMax = 0;
+            for (double value : recent) {
+                recentMax = Math.max(recentMax, value);
+            }
+            Observation before = new Observation(count, mean,
+                    count > 1 ? Math.sqrt(m2 / count) : 0, recentMax, windowCount + 1);
+
+            count++;
+            double delta = amount - mean;
+            mean += delta / count;
+            m2 += delta * (amount - mean);
+            recent[recentNext] = amount;
+            recentNext = (recentNext + 1) % RECENT_SIZE;
+            windowCount++;
+            return before;
+        }
+    }
+}
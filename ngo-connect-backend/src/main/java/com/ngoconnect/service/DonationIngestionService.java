@@ -0,0 +1,293 @@
+package com.ngoconnect.service;
+
+import com.ngoconnect.dto.DonationDTO;
+import com.ngoconnect.entity.Donation;
+import com.ngoconnect.entity.DonationStatus;
+import com.ngoconnect.entity.DonationTotalShard;
+import com.ngoconnect.event.DonationRecordedEvent;
+import com.ngoconnect.event.DonationsImportedEvent;
+import com.ngoconnect.repository.NGORepository;
+import com.ngoconnect.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Bulk donation import for offline and partner donations.
+ *
+ * A batch is validated up front, its donors and NGOs are resolved with one
+ * IN query each, and the valid rows are inserted through JDBC batches
+ * (rewritten into multi-row INSERTs by the driver). Donor totals and the
+ * daily rollup are then updated once per donor and once per (NGO, day,
+ * status) rather than once per donation. Invalid rows are reported by
+ * index and skipped; the valid rows are stored in one transaction.
+ */
+@Service
+public class DonationIngestionService {
+
+    public static final int MAX_BATCH_SIZE = 50_000;
+    private static final int JDBC_BATCH_SIZE = 1_000;
+
+    private static final String INSERT_DONATION = "INSERT INTO donations (donor_id, ngo_id, amount, pledge_type, "
+            + "payment_method, status, transaction_id, donor_message, donation_date, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @Value("${app.donation.default-status:COMPLETED}")
+    private String defaultDonationStatus;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private NGORepository ngoRepository;
+
+    @Autowired
+    private DonationRollupService donationRollupService;
+
+    @Autowired
+    private DonationTotalsService donationTotalsService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Validate and store a batch of donations
+     *
+     * @return counts of received, inserted and rejected rows, plus the
+     *         rejected rows' indexes and reasons
+     */
+    @Transactional
+    public Map<String, Object> ingest(List<DonationDTO> batch) {
+        if (batch == null || batch.isEmpty()) {
+            throw new IllegalArgumentException("At least one donation is required");
+        }
+        if (batch.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_BATCH_SIZE + " donations per batch");
+        }
+
+        Set<Long> donorIds = new HashSet<>();
+        Set<Long> ngoIds = new HashSet<>();
+        for (DonationDTO dto : batch) {
+            if (dto != null && dto.getUserId() != null) {
+                donorIds.add(dto.getUserId());
+            }
+            if (dto != null && dto.getNgoId() != null) {
+                ngoIds.add(dto.getNgoId());
+            }
+        }
+        Set<Long> knownDonors = donorIds.isEmpty() ? Set.of()
+                : new HashSet<>(userRepository.findExistingIds(donorIds));
+        Set<Long> knownNgos = ngoIds.isEmpty() ? Set.of()
+                : new HashSet<>(ngoRepository.findExistingIds(ngoIds));
+
+        LocalDateTime now = LocalDateTime.now();
+        DonationStatus defaultStatus = defaultStatus();
+        List<Row> rows = new ArrayList<>(batch.size());
+        List<Map<String, Object>> rejected = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            DonationDTO dto = batch.get(i);
+            String error = validate(dto, knownDonors, knownNgos);
+            if (error != null) {
+                Map<String, Object> rejection = new LinkedHashMap<>();
+                rejection.put("index", i);
+                rejection.put("error", error);
+                rejected.add(rejection);
+                continue;
+            }
+            rows.add(new Row(dto, pledgeType(dto.getPledgeType()),
+                    dto.getStatus() != null ? dto.getStatus() : defaultStatus,
+                    dto.getDonationDate() != null ? dto.getDonationDate() : now));
+        }
+
+        if (!rows.isEmpty()) {
+            insert(rows, now);
+            applyTotals(rows);
+            for (Row row : rows) {
+                eventPublisher.publishEvent(new DonationRecordedEvent(row.id, row.dto.getUserId(),
+                        row.dto.getNgoId(), row.dto.getAmount(), row.status, row.donationDate, true));
+            }
+            eventPublisher.publishEvent(new DonationsImportedEvent(rows.size()));
+        }
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("received", batch.size());
+        response.put("inserted", rows.size());
+        response.put("rejectedCount", rejected.size());
+        response.put("rejected", rejected);
+        return response;
+    }
+
+    private String validate(DonationDTO dto, Set<Long> knownDonors, Set<Long> knownNgos) {
+        if (dto == null) {
+            return "Donation is empty";
+        }
+        if (dto.getUserId() == null) {
+            return "User ID is required";
+        }
+        if (dto.getNgoId() == null) {
+            return "NGO ID is required";
+        }
+        if (dto.getAmount() == null || dto.getAmount() <= 0) {
+            return "Valid amount is required";
+        }
+        if (dto.getPaymentMethod() == null) {
+            return "Payment method is required";
+        }
+        if (!knownDonors.contains(dto.getUserId())) {
+            return "User not found with id: " + dto.getUserId();
+        }
+        if (!knownNgos.contains(dto.getNgoId())) {
+            return "NGO not found with id: " + dto.getNgoId();
+        }
+        return null;
+    }
+
+    /**
+     * Insert in JDBC batches and read back the generated ids, in row order
+     */
+    private void insert(List<Row> rows, LocalDateTime now) {
+        Timestamp nowTs = Timestamp.valueOf(now);
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_DONATION,
+                    Statement.RETURN_GENERATED_KEYS)) {
+                for (int start = 0; start < rows.size(); start += JDBC_BATCH_SIZE) {
+                    List<Row> chunk = rows.subList(start, Math.min(start + JDBC_BATCH_SIZE, rows.size()));
+                    for (Row row : chunk) {
+                        ps.setLong(1, row.dto.getUserId());
+                        ps.setLong(2, row.dto.getNgoId());
+                        ps.setDouble(3, row.dto.getAmount());
+                        ps.setString(4, row.pledgeType.name());
+                        ps.setString(5, row.dto.getPaymentMethod().name());
+                        ps.setString(6, row.status.name());
+                        ps.setString(7, row.dto.getTransactionId());
+                        ps.setString(8, row.dto.getDonorMessage());
+                        ps.setTimestamp(9, Timestamp.valueOf(row.donationDate));
+                        ps.setTimestamp(10, nowTs);
+                        ps.setTimestamp(11, nowTs);
+                        ps.addBatch();
+                    }
+                    ps.executeBatch();
+                    try (ResultSet keys = ps.getGeneratedKeys()) {
+                        for (Row row : chunk) {
+                            if (!keys.next()) {
+                                break;
+                            }
+                            row.id = keys.getLong(1);
+                        }
+                    }
+                }
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Donor and NGO totals (completed donations only, as for single
+     * donations) and rollup rows, each written once per batch
+     */
+    private void applyTotals(List<Row> rows) {
+        Map<Long, Double> donorTotals = new HashMap<>();
+        Map<Long, Double> ngoTotals = new HashMap<>();
+        Map<RollupKey, double[]> rollups = new HashMap<>();
+        for (Row row : rows) {
+            if (row.status == DonationStatus.COMPLETED) {
+                donorTotals.merge(row.dto.getUserId(), row.dto.getAmount(), Double::sum);
+                ngoTotals.merge(row.dto.getNgoId(), row.dto.getAmount(), Double::sum);
+            }
+            double[] totals = rollups.computeIfAbsent(
+                    new RollupKey(row.dto.getNgoId(), row.donationDate.toLocalDate(), row.status),
+                    k -> new double[2]);
+            totals[0]++;
+            totals[1] += row.dto.getAmount();
+        }
+
+        donationTotalsService.addAll(DonationTotalShard.OwnerType.DONOR, donorTotals);
+        donationTotalsService.addAll(DonationTotalShard.OwnerType.NGO, ngoTotals);
+        rollups.forEach((key, totals) -> donationRollupService.record(key.ngoId, key.day, key.status,
+                (long) totals[0], totals[1]));
+    }
+
+    private DonationStatus defaultStatus() {
+        try {
+            return defaultDonationStatus != null ? DonationStatus.valueOf(defaultDonationStatus)
+                    : DonationStatus.PENDING;
+        } catch (IllegalArgumentException e) {
+            return DonationStatus.PENDING;
+        }
+    }
+
+    private static Donation.PledgeType pledgeType(String value) {
+        if (value == null) {
+            return Donation.PledgeType.ONE_TIME;
+        }
+        try {
+            return Donation.PledgeType.valueOf(value.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return Donation.PledgeType.ONE_TIME;
+        }
+    }
+
+    private static final class Row {
+        private final DonationDTO dto;
+        private final Donation.PledgeType pledgeType;
+        private final DonationStatus status;
+        private final LocalDateTime donationDate;
+        private Long id;
+
+        private Row(DonationDTO dto, Donation.PledgeType pledgeType, DonationStatus status,
+                LocalDateTime donationDate) {
+            this.dto = dto;
+            this.pledgeType = pledgeType;
+            this.status = status;
+            this.donationDate = donationDate;
+        }
+    }
+
+    private static final class RollupKey {
+        private final Long ngoId;
+        private final LocalDate day;
+        private final DonationStatus status;
+
+        private RollupKey(Long ngoId, LocalDate day, DonationStatus status) {
+            this.ngoId = ngoId;
+            this.day = day;
+            this.status = status;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof RollupKey)) {
+                return false;
+            }
+            RollupKey other = (RollupKey) o;
+            return ngoId.equals(other.ngoId) && day.equals(other.day) && status == other.status;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(ngoId, day, status);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.ngoconnect.service;
+
+import com.ngoconnect.dto.DonationDTO;
+import com.ngoconnect.dto.DonationReportSummaryDTO;
+import com.ngoconnect.entity.Donation;
+import com.ngoconnect.entity.NGO;
+import com.ngoconnect.repository.DonationRepository;
+import com.ngoconnect.repository.NGORepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Donation reports for one NGO or one cause over a date range.
+ *
+ * Summaries are range scans over the daily donation rollup. The donation
+ * rows behind a report are served separately, one page at a time, from the
+ * (ngo_id, donation_date) index; cause reports reach it through ngos(cause).
+ */
+@Service
+@Transactional(readOnly = true)
+public class DonationReportService {
+
+    private static final int MAX_PAGE_SIZE = 200;
+
+    @Autowired
+    private DonationRepository donationRepository;
+
+    @Autowired
+    private NGORepository ngoRepository;
+
+    @Autowired
+    private DonationService donationService;
+
+    @Autowired
+    private DonationRollupService donationRollupService;
+
+    public Map<String, Object> getNgoReport(Long ngoId, LocalDate startDate, LocalDate endDate) {
+        validateRange(startDate, endDate);
+        DonationReportSummaryDTO summary = donationRollupService.summarizeByNgo(ngoId, startDate, endDate);
+
+        Map<String, Object> report = new HashMap<>();
+        report.put("ngoId", ngoId);
+        report.put("ngoName", ngoRepository.findById(ngoId).map(NGO::getOrganizationName).orElse("Unknown"));
+        report.put("startDate", startDate);
+        report.put("endDate", endDate);
+        putSummary(report, summary);
+        return report;
+    }
+
+    public Map<String, Object> getCauseReport(String cause, LocalDate startDate, LocalDate endDate) {
+        validateRange(startDate, endDate);
+        DonationReportSummaryDTO summary = donationRollupService.summarizeByCause(cause, startDate, endDate);
+
+        Map<String, Object> report = new HashMap<>();
+        report.put("cause", cause);
+        report.put("startDate", startDate);
+        report.put("endDate", endDate);
+        putSummary(report, summary);
+        report.put("uniqueNGOs", summary != null && summary.getUniqueNgos() != null ? summary.getUniqueNgos() : 0L);
+        return report;
+    }
+
+    /**
+     * Donations behind an NGO report, newest first
+     */
+    public Map<String, Object> getNgoReportDonations(Long ngoId, LocalDate startDate, LocalDate endDate, int page,
+            int size) {
+        validateRange(startDate, endDate);
+        return toPage(donationRepository.findReportDonationsByNgo(ngoId, startOf(startDate), endOf(endDate),
+                pageRequest(page, size)));
+    }
+
+    /**
+     * Donations behind a cause report, newest first
+     */
+    public Map<String, Object> getCauseReportDonations(String cause, LocalDate startDate, LocalDate endDate,
+            int page, int size) {
+        validateRange(startDate, endDate);
+        return toPage(donationRepository.findReportDonationsByCause(cause, startOf(startDate), endOf(endDate),
+                pageRequest(page, size)));
+    }
+
+    private void putSummary(Map<String, Object> report, DonationReportSummaryDTO summary) {
+        boolean empty = summary == null || summary.getTotalDonations() == null;
+        report.put("totalDonations", empty ? 0L : summary.getTotalDonations());
+        report.put("totalAmount", empty || summary.getTotalAmount() == null ? 0.0 : summary.getTotalAmount());
+        report.put("averageAmount", empty || summary.getAverageAmount() == null ? 0.0 : summary.getAverageAmount());
+    }
+
+    private Map<String, Object> toPage(Slice<Donation> slice) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("content", slice.getContent().stream()
+                .map(donationService::convertToDto)
+                .collect(Collectors.<DonationDTO>toList()));
+        response.put("page", slice.getNumber());
+        response.put("size", slice.getSize());
+        response.put("hasNext", slice.hasNext());
+        return response;
+    }
+
+    private PageRequest pageRequest(int page, int size) {
+        return PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
+    }
+
+    private void validateRange(LocalDate startDate, LocalDate endDate) {
+        if (endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("endDate must not be before startDate");
+        }
+    }
+
+    private static LocalDateTime startOf(LocalDate date) {
+        return date.atStartOfDay();
+    }
+
+    // Exclusive upper bound, so the whole end date is included
+    private static LocalDateTime endOf(LocalDate date) {
+        return date.plusDays(1).atStartOfDay();
+    }
+}
@@ -0,0 +1,147 @@
+package com.ngoconnect.service;
+
+import com.ngoconnect.dto.DonationReportSummaryDTO;
+import com.ngoconnect.entity.Donation;
+import com.ngoconnect.entity.DonationStatus;
+import com.ngoconnect.repository.DonationDailyRollupRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Maintains donation_daily_rollups, the per (NGO, day, status) count and
+ * amount of donations, and answers range questions from it. Cause summaries
+ * join ngos at read time, so they follow the NGO's current cause, as the
+ * cause report's donation rows do.
+ *
+ * Every recorded donation increments its row inside the recording
+ * transaction, so the rollup never disagrees with committed donations.
+ * rebuild() recomputes the table from donations for backfills and repairs.
+ */
+@Service
+public class DonationRollupService {
+
+    private static final String DELETE_ALL = "DELETE FROM donation_daily_rollups";
+
+    private static final String REBUILD = "INSERT INTO donation_daily_rollups "
+            + "(ngo_id, rollup_date, status, donation_count, total_amount, updated_at) "
+            + "SELECT d.ngo_id, DATE(d.donation_date), d.status, COUNT(*), COALESCE(SUM(d.amount), 0), ? "
+            + "FROM donations d "
+            + "WHERE d.ngo_id IS NOT NULL AND d.donation_date IS NOT NULL AND d.status IS NOT NULL "
+            + "GROUP BY d.ngo_id, DATE(d.donation_date), d.status";
+
+    @Autowired
+    private DonationDailyRollupRepository rollupRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Add a just-saved donation to its rollup row. Must run in the
+     * transaction that saved the donation.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(Donation donation) {
+        if (donation.getNgo() == null || donation.getDonationDate() == null || donation.getStatus() == null) {
+            return;
+        }
+        record(donation.getNgo().getId(), donation.getDonationDate().toLocalDate(), donation.getStatus(), 1,
+                donation.getAmount() != null ? donation.getAmount() : 0.0);
+    }
+
+    /**
+     * Add several donations of one (NGO, day, status) at once, e.g. a bulk
+     * import's group. Must run in the transaction that saved them.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(Long ngoId, LocalDate day, DonationStatus status, long count, double amount) {
+        rollupRepository.increment(ngoId, day, status.name(), count, amount, LocalDateTime.now());
+    }
+
+    /**
+     * Recompute every rollup row from the donations table
+     *
+     * @return number of rollup rows written
+     */
+    @Transactional
+    public int rebuild() {
+        jdbcTemplate.update(DELETE_ALL);
+        return jdbcTemplate.update(REBUILD, LocalDateTime.now());
+    }
+
+    /**
+     * Backfill once when the table is new but donations already exist
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        try {
+            if (rollupRepository.count() == 0) {
+                Long donations = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM donations", Long.class);
+                if (donations != null && donations > 0) {
+                    System.out.println("Backfilled " + rebuild() + " donation rollup rows");
+                }
+            }
+        } catch (Exception e) {
+            System.err.println("Error backfilling donation rollups: " + e.getMessage());
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public DonationReportSummaryDTO summarizeByNgo(Long ngoId, LocalDate startDate, LocalDate endDate) {
+        return rollupRepository.summarizeByNgo(ngoId, startDate, endDate);
+    }
+
+    @Transactional(readOnly = true)
+    public DonationReportSummaryDTO summarizeByCause(String cause, LocalDate startDate, LocalDate endDate) {
+        return rollupRepository.summarizeByCause(cause, startDate, endDate);
+    }
+
+    /**
+     * Per-day donation counts and amounts of one NGO, split by status, for charts
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> getNgoDailySeries(Long ngoId, LocalDate startDate, LocalDate endDate) {
+        if (endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("endDate must not be before startDate");
+        }
+        Map<LocalDate, Map<String, Object>> days = new LinkedHashMap<>();
+        for (Object[] row : rollupRepository.findDailySeriesByNgo(ngoId, startDate, endDate)) {
+            LocalDate day = (LocalDate) row[0];
+            Map<String, Object> point = days.computeIfAbsent(day, d -> {
+                Map<String, Object> p = new LinkedHashMap<>();
+                p.put("date", d);
+                p.put("byStatus", new LinkedHashMap<String, Object>());
+                return p;
+            });
+            @SuppressWarnings("unchecked")
+            Map<String, Object> byStatus = (Map<String, Object>) point.get("byStatus");
+            byStatus.put(String.valueOf(row[1]), Map.of("count", row[2], "amount", row[3]));
+        }
+
+        Map<String, Object> series = new HashMap<>();
+        series.put("ngoId", ngoId);
+        series.put("startDate", startDate);
+        series.put("endDate", endDate);
+        series.put("points", new ArrayList<>(days.values()));
+        return series;
+    }
+
+    @Transactional(readOnly = true)
+    public long countNgosMissingFundReports(LocalDate from, LocalDate to) {
+        Long count = rollupRepository.countNgosMissingFundReports(from.atStartOfDay(),
+                to.atTime(LocalTime.MAX), from, to);
+        return count != null ? count : 0L;
+    }
+}
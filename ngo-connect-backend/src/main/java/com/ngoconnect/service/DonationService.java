@@ -1,57 +1,50 @@
 package com.ngoconnect.service;
 
+import com.ngoconnect.dto.CursorPage;
 import com.ngoconnect.dto.DonationDTO;
-import com.ngoconnect.dto.NGODTO;
 import com.ngoconnect.entity.Donation;
+import com.ngoconnect.entity.DonationTotalShard;
 import com.ngoconnect.entity.NGO;
 import com.ngoconnect.entity.User;
+import com.ngoconnect.event.DonationRecordedEvent;
 import com.ngoconnect.exception.ResourceNotFoundException;
 import com.ngoconnect.repository.DonationRepository;
 import com.ngoconnect.repository.NGORepository;
 import com.ngoconnect.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.beans.factory.annotation.Value;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 import com.ngoconnect.entity.DonationStatus;
 import com.ngoconnect.entity.PaymentMethod;
 import com.ngoconnect.dto.NGODonationResponse;
-import org.hibernate.proxy.HibernateProxy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 @Service
 @RequiredArgsConstructor
 public class DonationService {
-    // ModelMapper configuration to skip donor fields in DTO mapping
-    @javax.annotation.PostConstruct
-    private void configureModelMapper() {
-        if (modelMapper != null) {
-            org.modelmapper.TypeMap<com.ngoconnect.entity.Donation, com.ngoconnect.dto.DonationDTO> typeMap =
-                modelMapper.getTypeMap(com.ngoconnect.entity.Donation.class, com.ngoconnect.dto.DonationDTO.class);
-            if (typeMap == null) {
-                typeMap = modelMapper.createTypeMap(com.ngoconnect.entity.Donation.class, com.ngoconnect.dto.DonationDTO.class);
-            }
-            typeMap.addMappings(mapper -> {
-                mapper.skip(com.ngoconnect.dto.DonationDTO::setDonorName);
-                mapper.skip(com.ngoconnect.dto.DonationDTO::setDonorEmail);
-                mapper.skip(com.ngoconnect.dto.DonationDTO::setUserId);
-            });
-        }
-    }
     private static final Logger logger = LoggerFactory.getLogger(DonationService.class);
+    private static final int MAX_NGO_DONATION_PAGE_SIZE = 200;
+    private static final int MAX_DONATION_HISTORY_PAGE_SIZE = 200;
 
     private final DonationRepository donationRepository;
     private final UserRepository userRepository;
     private final NGORepository ngoRepository;
-    private final ModelMapper modelMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DonationRollupService donationRollupService;
+    private final DonationTotalsService donationTotalsService;
     @Value("${app.donation.default-status:COMPLETED}")
     private String defaultDonationStatus;
 
@@ -123,10 +116,12 @@ public class DonationService {
             // Save the donation
             Donation savedDonation = donationRepository.save(donation);
             logger.info("Donation created successfully with ID: {}", savedDonation.getId());
+            donationRollupService.record(savedDonation);
+            eventPublisher.publishEvent(DonationRecordedEvent.of(savedDonation));
 
-            // Update user's total donations if the donation is completed
+            // Update the donor's and NGO's running totals if the donation is completed
             if (savedDonation.getStatus() == DonationStatus.COMPLETED) {
-                updateUserDonationTotal(savedDonation);
+                addToTotals(savedDonation);
             }
 
             return convertToDTO(savedDonation);
@@ -137,44 +132,87 @@ public class DonationService {
         }
     }
 
-    private void updateUserDonationTotal(Donation donation) {
+    /**
+     * Striped counters instead of read-modify-write on the user/NGO rows, so
+     * concurrent donations to one NGO neither serialize nor lose updates
+     */
+    private void addToTotals(Donation donation) {
+        if (donation.getAmount() == null) {
+            return;
+        }
         if (donation.getDonor() != null) {
-            User donor = donation.getDonor();
-            donor.addToTotalDonations(donation.getAmount());
-            userRepository.save(donor);
-            logger.info("Updated total donations for user ID: {}", donor.getId());
+            donationTotalsService.add(DonationTotalShard.OwnerType.DONOR, donation.getDonor().getId(),
+                    donation.getAmount());
+        }
+        if (donation.getNgo() != null) {
+            donationTotalsService.add(DonationTotalShard.OwnerType.NGO, donation.getNgo().getId(),
+                    donation.getAmount());
         }
     }
 
-    public List<DonationDTO> getDonationsByUserId(Long userId) {
-        List<Donation> donations = donationRepository.findByDonorIdOrderByCreatedAtDesc(userId);
-        return donations.stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    /**
+     * One page of a donor's history, newest first, with a summary of the
+     * donor's completed donations. Filters are optional; the date range is
+     * inclusive and applies to when the donation was recorded.
+     *
+     * @param cursor nextCursor of the previous page, null for the first page
+     * @return content, nextCursor, size, hasNext and summary (totalAmount, count)
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> getDonationHistory(Long userId, DonationStatus status, LocalDate startDate,
+            LocalDate endDate, String cursor, int size) {
+        if (startDate != null && endDate != null && endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("endDate must not be before startDate");
+        }
+        int pageSize = Math.min(Math.max(size, 1), MAX_DONATION_HISTORY_PAGE_SIZE);
+        LocalDateTime from = startDate != null ? startDate.atStartOfDay() : LocalDateTime.of(1970, 1, 1, 0, 0);
+        LocalDateTime to = endDate != null ? endDate.plusDays(1).atStartOfDay() : LocalDateTime.of(9999, 1, 1, 0, 0);
+        Cursor position = Cursor.parse(cursor);
+
+        List<Donation> rows = donationRepository.findDonorHistoryPage(userId, status, from, to, position.timestamp,
+                position.id, PageRequest.of(0, pageSize + 1));
+        boolean hasNext = rows.size() > pageSize;
+        List<Donation> page = hasNext ? rows.subList(0, pageSize) : rows;
+        Donation last = hasNext ? page.get(page.size() - 1) : null;
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        Double totalAmount = donationRepository.getTotalDonatedByDonor(userId);
+        Long count = donationRepository.getCountOfDonationsByDonor(userId);
+        summary.put("totalAmount", totalAmount != null ? totalAmount : 0.0);
+        summary.put("count", count != null ? count : 0L);
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("content", page.stream().map(this::convertToDTO).collect(Collectors.toList()));
+        response.put("nextCursor", last != null ? Cursor.of(last.getCreatedAt(), last.getId()) : null);
+        response.put("size", pageSize);
+        response.put("hasNext", hasNext);
+        response.put("summary", summary);
+        return response;
     }
 
-    public List<NGODonationResponse> getDonationsByNgoId(Long ngoId) {
-        System.out.println("Fetching donations for NGO ID: " + ngoId);
-        try {
-            // First check if NGO exists
-            if (!ngoRepository.existsById(ngoId)) {
-                throw new ResourceNotFoundException("NGO not found with id: " + ngoId);
-            }
-
-            List<Donation> donations = donationRepository.findByNgoId(ngoId);
-            System.out.println("Found " + donations.size() + " donations in database for NGO ID: " + ngoId);
-
-            List<NGODonationResponse> response = donations.stream()
-                    .map(this::convertToNGODonationResponse)
-                    .collect(Collectors.toList());
-
-            System.out.println("Successfully converted " + response.size() + " donations to response DTOs");
-            return response;
-        } catch (Exception e) {
-            System.err.println("Error in getDonationsByNgoId for NGO ID " + ngoId + ": " + e.getMessage());
-            e.printStackTrace();
-            throw e;
+    /**
+     * One page of an NGO's donations with donor details, newest first. Each
+     * page is a single query; pass nextCursor back to continue.
+     *
+     * @param cursor nextCursor of the previous page, null for the first page
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<NGODonationResponse> getDonationsByNgoId(Long ngoId, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_NGO_DONATION_PAGE_SIZE);
+        Cursor position = Cursor.parse(cursor);
+
+        // Fetch one extra row to learn whether another page exists
+        List<NGODonationResponse> rows = donationRepository.findNgoDonationPage(ngoId, position.timestamp, position.id,
+                PageRequest.of(0, pageSize + 1));
+        if (rows.isEmpty() && cursor == null && !ngoRepository.existsById(ngoId)) {
+            throw new ResourceNotFoundException("NGO not found with id: " + ngoId);
         }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<NGODonationResponse> content = hasNext ? rows.subList(0, pageSize) : rows;
+        NGODonationResponse last = hasNext ? content.get(content.size() - 1) : null;
+        String nextCursor = last != null ? Cursor.of(last.getDonationDate(), last.getId()) : null;
+        return new CursorPage<>(content, null, nextCursor, pageSize, hasNext);
     }
 
     public DonationDTO getDonationById(Long id) {
@@ -183,105 +221,8 @@ public class DonationService {
         return convertToDTO(donation);
     }
 
-    private NGODonationResponse convertToNGODonationResponse(Donation donation) {
-        if (donation == null) {
-            return null;
-        }
-
-        try {
-            NGODonationResponse response = new NGODonationResponse();
-            response.setId(donation.getId());
-            response.setAmount(donation.getAmount());
-
-            // Handle enums safely
-            if (donation.getPaymentMethod() != null) {
-                response.setPaymentMethod(donation.getPaymentMethod().name());
-            }
-            if (donation.getStatus() != null) {
-                response.setStatus(donation.getStatus().name());
-            }
-
-            response.setTransactionId(donation.getTransactionId());
-            response.setDonationDate(donation.getDonationDate());
-            response.setCreatedAt(donation.getCreatedAt());
-
-            // Handle donor information
-            if (donation.getDonor() != null) {
-                User donor = donation.getDonor();
-                // Initialize Hibernate proxy if needed
-                if (donor instanceof HibernateProxy) {
-                    donor = userRepository.findById(donor.getId())
-                            .orElse(null);
-                }
-
-                if (donor != null) {
-                    NGODonationResponse.DonorInfo donorInfo = new NGODonationResponse.DonorInfo();
-                    donorInfo.setId(donor.getId());
-                    donorInfo.setName(donor.getFullName());
-                    donorInfo.setEmail(donor.getEmail());
-                    response.setDonor(donorInfo);
-                }
-            }
-
-            return response;
-
-        } catch (Exception e) {
-            logger.error("Error converting Donation to NGODonationResponse: {}", e.getMessage(), e);
-            throw new RuntimeException("Error converting donation to NGO donation response", e);
-        }
-    }
-
     private DonationDTO convertToDTO(Donation donation) {
-        if (donation == null) {
-            return null;
-        }
-
-        try {
-            // Use ModelMapper for basic mapping
-            DonationDTO dto = modelMapper.map(donation, DonationDTO.class);
-
-            // Manually set fields that need special handling
-            if (donation.getDonor() != null) {
-                dto.setUserId(donation.getDonor().getId());
-
-                // Set donor name - prefer organization name if available, otherwise full name
-                String donorName = (donation.getDonor().getOrganizationName() != null &&
-                        !donation.getDonor().getOrganizationName().isEmpty())
-                                ? donation.getDonor().getOrganizationName()
-                                : donation.getDonor().getFullName();
-                dto.setDonorName(donorName);
-
-                dto.setDonorEmail(donation.getDonor().getEmail());
-            }
-
-            // Handle NGO with extra error checking for status enum mapping
-            if (donation.getNgo() != null) {
-                try {
-                    dto.setNgoId(donation.getNgo().getId());
-
-                    // Only include basic NGO info in the DTO
-                    NGODTO ngoDTO = new NGODTO();
-                    ngoDTO.setId(donation.getNgo().getId());
-                    ngoDTO.setOrganizationName(donation.getNgo().getOrganizationName());
-                    dto.setNgo(ngoDTO);
-                } catch (Exception ngoError) {
-                    logger.error("Error processing NGO for donation ID {}: {}",
-                            donation.getId(), ngoError.getMessage());
-                    // Continue without NGO info rather than failing completely
-                }
-            }
-
-            // Ensure enum values are properly set
-            if (donation.getPledgeType() != null) {
-                dto.setPledgeType(donation.getPledgeType().name());
-            }
-
-            return dto;
-
-        } catch (Exception e) {
-            logger.error("Error converting Donation to DTO: {}", e.getMessage(), e);
-            throw new RuntimeException("Error converting donation to DTO", e);
-        }
+        return DonationDTO.fromEntity(donation);
     }
 
     /**
@@ -323,12 +264,44 @@ public class DonationService {
 
         // 4. Save the completed donation to the database
         Donation savedDonation = donationRepository.save(donation);
+        donationRollupService.record(savedDonation);
+        eventPublisher.publishEvent(DonationRecordedEvent.of(savedDonation));
 
-        // 5. Update the NGO's total donations
-        ngo.setTotalDonations(ngo.getTotalDonations() + savedDonation.getAmount());
-        ngoRepository.save(ngo);
+        // 5. Update the NGO's and donor's running totals
+        addToTotals(savedDonation);
 
         // 6. Return the details of the created donation (this is the "receipt")
         return convertToDto(savedDonation);
     }
+
+    /**
+     * Keyset position "<timestamp>_<id>" of the last row of a page; the
+     * first page starts past any real row
+     */
+    private static final class Cursor {
+        private final LocalDateTime timestamp;
+        private final Long id;
+
+        private Cursor(LocalDateTime timestamp, Long id) {
+            this.timestamp = timestamp;
+            this.id = id;
+        }
+
+        private static String of(LocalDateTime timestamp, Long id) {
+            return timestamp + "_" + id;
+        }
+
+        private static Cursor parse(String cursor) {
+            if (cursor == null || cursor.isEmpty()) {
+                return new Cursor(LocalDateTime.of(9999, 1, 1, 0, 0), Long.MAX_VALUE);
+            }
+            int separator = cursor.lastIndexOf('_');
+            try {
+                return new Cursor(LocalDateTime.parse(cursor.substring(0, separator)),
+                        Long.parseLong(cursor.substring(separator + 1)));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+        }
+    }
 }
@@ -0,0 +1,207 @@
+package com.ngoconnect.service;
+
+import com.ngoconnect.entity.DonationTotalShard.OwnerType;
+import com.ngoconnect.repository.DonationTotalShardRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Running donation totals per NGO and per donor, kept in striped counter
+ * rows (donation_total_shards) instead of a single column per owner.
+ *
+ * A donation adds to one randomly chosen stripe with an atomic upsert, so
+ * concurrent donations to one popular NGO no longer queue on a single row
+ * lock or lose read-modify-write updates. Reads sum the stripes and are
+ * cached for a short TTL; an owner's entry is evicted once the transaction
+ * that added to its total commits. The legacy ngos/users total_donations
+ * columns are refreshed from the stripes periodically for code that still
+ * reads entities.
+ */
+@Service
+public class DonationTotalsService {
+
+    // Atomic add to one stripe, creating it on first use; only that stripe's row is locked
+    private static final String INCREMENT = "INSERT INTO donation_total_shards "
+            + "(owner_type, owner_id, shard, total_amount, updated_at) VALUES (?, ?, ?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE total_amount = total_amount + VALUES(total_amount), "
+            + "updated_at = VALUES(updated_at)";
+
+    // Completed donations per owner, as add() counts them, grouped on the given donations column
+    private static final String SEED = "INSERT INTO donation_total_shards "
+            + "(owner_type, owner_id, shard, total_amount, updated_at) "
+            + "SELECT ?, %1$s, 0, SUM(amount), ? FROM donations "
+            + "WHERE status = 'COMPLETED' AND %1$s IS NOT NULL GROUP BY %1$s";
+
+    private static final String SYNC = "UPDATE %s t JOIN (SELECT owner_id, ROUND(SUM(total_amount), 2) AS total "
+            + "FROM donation_total_shards WHERE owner_type = ? GROUP BY owner_id) s ON s.owner_id = t.id "
+            + "SET t.total_donations = s.total "
+            + "WHERE t.total_donations IS NULL OR t.total_donations <> s.total";
+
+    @Value("${app.donation-totals.shards:16}")
+    private int shards;
+
+    @Value("${app.donation-totals.cache-ttl-ms:2000}")
+    private long cacheTtlMs;
+
+    @Autowired
+    private DonationTotalShardRepository shardRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final Map<OwnerType, Map<Long, CachedTotal>> cache = new EnumMap<>(OwnerType.class);
+
+    public DonationTotalsService() {
+        for (OwnerType type : OwnerType.values()) {
+            cache.put(type, new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * Add an amount to an NGO's or donor's total. Must run in the transaction
+     * that records the donation.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void add(OwnerType ownerType, Long ownerId, double amount) {
+        if (ownerId == null || amount == 0) {
+            return;
+        }
+        jdbcTemplate.update(INCREMENT, ownerType.name(), ownerId, ThreadLocalRandom.current().nextInt(shards),
+                amount, LocalDateTime.now());
+        evictAfterCommit(ownerType, List.of(ownerId));
+    }
+
+    /**
+     * Add to many owners' totals in one JDBC batch, e.g. for a bulk import
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void addAll(OwnerType ownerType, Map<Long, Double> amounts) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> args = new ArrayList<>(amounts.size());
+        amounts.forEach((ownerId, amount) -> args.add(new Object[] { ownerType.name(), ownerId,
+                ThreadLocalRandom.current().nextInt(shards), amount, now }));
+        if (!args.isEmpty()) {
+            jdbcTemplate.batchUpdate(INCREMENT, args);
+        }
+        evictAfterCommit(ownerType, new ArrayList<>(amounts.keySet()));
+    }
+
+    public double getTotal(OwnerType ownerType, Long ownerId) {
+        if (ownerId == null) {
+            return 0.0;
+        }
+        return getTotals(ownerType, List.of(ownerId)).getOrDefault(ownerId, 0.0);
+    }
+
+    /**
+     * Totals for several owners; cache misses are summed in one query
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Double> getTotals(OwnerType ownerType, Collection<Long> ownerIds) {
+        Map<Long, CachedTotal> typeCache = cache.get(ownerType);
+        long now = System.currentTimeMillis();
+        Map<Long, Double> totals = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long id : ownerIds) {
+            CachedTotal cached = typeCache.get(id);
+            if (cached != null && cached.expiresAt > now) {
+                totals.put(id, cached.total);
+            } else if (id != null) {
+                missing.add(id);
+            }
+        }
+        if (!missing.isEmpty()) {
+            for (Long id : missing) {
+                totals.put(id, 0.0);
+            }
+            for (Object[] row : shardRepository.sumByOwners(ownerType, missing)) {
+                totals.put((Long) row[0], row[1] != null ? ((Number) row[1]).doubleValue() : 0.0);
+            }
+            for (Long id : missing) {
+                typeCache.put(id, new CachedTotal(totals.get(id), now + cacheTtlMs));
+            }
+        }
+        return totals;
+    }
+
+    /**
+     * Seed stripe 0 with each owner's completed donations once, while the
+     * stripe table is still empty
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void seedOnStartup() {
+        try {
+            if (shardRepository.count() == 0) {
+                LocalDateTime now = LocalDateTime.now();
+                int rows = jdbcTemplate.update(String.format(SEED, "ngo_id"), OwnerType.NGO.name(), now)
+                        + jdbcTemplate.update(String.format(SEED, "donor_id"), OwnerType.DONOR.name(), now);
+                System.out.println("Seeded " + rows + " donation total stripes");
+            }
+        } catch (Exception e) {
+            System.err.println("Error seeding donation totals: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Copy summed totals back into ngos/users.total_donations. One statement
+     * per table touching only rows whose total changed, so the hot rows are
+     * written at most once per interval.
+     */
+    @Scheduled(fixedDelayString = "${app.donation-totals.sync-interval-ms:60000}")
+    public void syncLegacyColumns() {
+        try {
+            jdbcTemplate.update(String.format(SYNC, "ngos"), OwnerType.NGO.name());
+            jdbcTemplate.update(String.format(SYNC, "users"), OwnerType.DONOR.name());
+        } catch (Exception e) {
+            System.err.println("Error syncing donation totals: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Drop cached totals once the new stripe values are visible; evicting
+     * earlier would let a concurrent read cache the pre-commit sum for a TTL
+     */
+    private void evictAfterCommit(OwnerType ownerType, Collection<Long> ownerIds) {
+        Map<Long, CachedTotal> typeCache = cache.get(ownerType);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    typeCache.keySet().removeAll(ownerIds);
+                }
+            });
+        } else {
+            typeCache.keySet().removeAll(ownerIds);
+        }
+    }
+
+    private static final class CachedTotal {
+        private final double total;
+        private final long expiresAt;
+
+        private CachedTotal(double total, long expiresAt) {
+            this.total = total;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.ngoconnect.service;
+
+import com.ngoconnect.dto.MissingFundReportDTO;
+import com.ngoconnect.repository.DonationRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Finds NGOs that received donations in a reporting window but filed no fund
+ * utilization report or fund report in it. The list is a grouped anti-join
+ * over donations, backed by (ngo_id, date) indexes; the count runs the same
+ * anti-join over the daily donation rollup.
+ */
+@Service
+@Transactional(readOnly = true)
+public class FundComplianceService {
+
+    /** Reporting window used by the dashboard when none is given */
+    public static final int DEFAULT_WINDOW_MONTHS = 3;
+
+    @Autowired
+    private DonationRepository donationRepository;
+
+    @Autowired
+    private DonationRollupService donationRollupService;
+
+    public long countMissingFundReports() {
+        LocalDate to = LocalDate.now();
+        return countMissingFundReports(to.minusMonths(DEFAULT_WINDOW_MONTHS), to);
+    }
+
+    public long countMissingFundReports(LocalDate from, LocalDate to) {
+        return donationRollupService.countNgosMissingFundReports(from, to);
+    }
+
+    /**
+     * Offending NGOs, largest unreported amount first
+     */
+    public Map<String, Object> getMissingFundReports(LocalDate from, LocalDate to, int page, int size) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusMonths(DEFAULT_WINDOW_MONTHS);
+        if (end.isBefore(start)) {
+            throw new IllegalArgumentException("endDate must not be before startDate");
+        }
+        LocalDateTime startTime = start.atStartOfDay();
+        LocalDateTime endTime = end.atTime(LocalTime.MAX);
+
+        Page<MissingFundReportDTO> result = donationRepository.findNgosMissingFundReports(
+                startTime, endTime, start, end, PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), 200)));
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("startDate", start);
+        response.put("endDate", end);
+        response.put("content", result.getContent());
+        response.put("totalElements", result.getTotalElements());
+        response.put("totalPages", result.getTotalPages());
+        response.put("page", result.getNumber());
+        response.put("size", result.getSize());
+        return response;
+    }
+}
@@ -0,0 +1,197 @@
+package com.ngoconnect.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Term -> document postings for free-text search over a few thousand short
+ * documents.
+ *
+ * Text is lowercased and split on anything that is not a letter or digit.
+ * Each term carries a weight per document (the sum of the weights of the
+ * fields it appears in). A query matches documents containing every query
+ * token, either as a whole term or, for tokens of MIN_PREFIX_LENGTH or more,
+ * as a term prefix, so partially typed words match. Matches are ranked by
+ * weight times inverse document frequency, with prefix matches discounted.
+ *
+ * Reads take a shared lock, so searches run concurrently with each other
+ * and only wait for writers.
+ */
+class InvertedIndex {
+
+    static final int MIN_PREFIX_LENGTH = 2;
+    private static final double PREFIX_FACTOR = 0.5;
+
+    // Sorted so a prefix maps to one contiguous range of terms
+    private final NavigableMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+    private final Map<Long, Map<String, Integer>> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Add each token of text to terms with the given weight
+     */
+    static void addTerms(Map<String, Integer> terms, String text, int weight) {
+        for (String token : tokenize(text)) {
+            terms.merge(token, weight, Integer::sum);
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String token : text.toLowerCase().split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Index or re-index a document under its weighted terms
+     */
+    void put(Long id, Map<String, Integer> terms) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+            if (terms.isEmpty()) {
+                return;
+            }
+            documents.put(id, terms);
+            terms.forEach((term, weight) -> postings.computeIfAbsent(term, t -> new HashMap<>()).put(id, weight));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Ids of documents matching every token of the query, best first
+     */
+    List<Long> search(String query, int limit) {
+        List<String> tokens = tokenize(query);
+        if (tokens.isEmpty() || limit <= 0) {
+            return new ArrayList<>();
+        }
+        lock.readLock().lock();
+        try {
+            // Longer tokens tend to match fewer documents; score them first
+            // so later tokens only look at the surviving candidates
+            tokens.sort(Comparator.comparingInt(String::length).reversed());
+            Map<Long, Double> scores = null;
+            for (String token : tokens) {
+                scores = score(token, scores);
+                if (scores.isEmpty()) {
+                    return new ArrayList<>();
+                }
+            }
+
+            // Top limit by score (then newest id) with a bounded min-heap
+            Comparator<Map.Entry<Long, Double>> worstFirst = Map.Entry.<Long, Double>comparingByValue()
+                    .thenComparing(Map.Entry.comparingByKey());
+            PriorityQueue<Map.Entry<Long, Double>> top = new PriorityQueue<>(Math.min(limit, scores.size()),
+                    worstFirst);
+            for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+                if (top.size() < limit) {
+                    top.add(entry);
+                } else if (worstFirst.compare(entry, top.peek()) > 0) {
+                    top.poll();
+                    top.add(entry);
+                }
+            }
+            List<Long> ids = new ArrayList<>(top.size());
+            while (!top.isEmpty()) {
+                ids.add(top.poll().getKey());
+            }
+            Collections.reverse(ids);
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Add one query token's score to each candidate matching it, over the
+     * exact term and (for long enough tokens) every term it prefixes. A
+     * null candidates map means every document is a candidate. Documents
+     * not matching the token are dropped.
+     */
+    private Map<Long, Double> score(String token, Map<Long, Double> candidates) {
+        Map<Long, Double> tokenScores = new HashMap<>();
+        Map<String, Map<Long, Integer>> terms = token.length() >= MIN_PREFIX_LENGTH
+                ? postings.subMap(token, true, token + Character.MAX_VALUE, false)
+                : exact(token);
+        double documentCount = documents.size();
+        for (Map.Entry<String, Map<Long, Integer>> term : terms.entrySet()) {
+            Map<Long, Integer> docs = term.getValue();
+            double idf = Math.log(1 + documentCount / docs.size());
+            double factor = term.getKey().equals(token) ? 1.0 : PREFIX_FACTOR;
+            if (candidates != null && candidates.size() < docs.size()) {
+                for (Long id : candidates.keySet()) {
+                    Integer weight = docs.get(id);
+                    if (weight != null) {
+                        tokenScores.merge(id, weight * idf * factor, Math::max);
+                    }
+                }
+            } else {
+                for (Map.Entry<Long, Integer> doc : docs.entrySet()) {
+                    if (candidates == null || candidates.containsKey(doc.getKey())) {
+                        tokenScores.merge(doc.getKey(), doc.getValue() * idf * factor, Math::max);
+                    }
+                }
+            }
+        }
+        if (candidates != null) {
+            // Best match for this token plus the score so far
+            tokenScores.replaceAll((id, score) -> score + candidates.get(id));
+        }
+        return tokenScores;
+    }
+
+    private Map<String, Map<Long, Integer>> exact(String token) {
+        Map<Long, Integer> docs = postings.get(token);
+        return docs != null ? Map.of(token, docs) : Map.of();
+    }
+
+    private void removeLocked(Long id) {
+        Map<String, Integer> terms = documents.remove(id);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms.keySet()) {
+            Map<Long, Integer> docs = postings.get(term);
+            docs.remove(id);
+            if (docs.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.ngoconnect.service;
+
+import com.ngoconnect.entity.OpportunityStatus;
+import com.ngoconnect.entity.UrgencyLevel;
+import com.ngoconnect.entity.VolunteerOpportunity;
+import com.ngoconnect.event.OpportunityChangedEvent;
+import com.ngoconnect.repository.VolunteerOpportunityRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Distinct values and per-value counts of the opportunity filter facets
+ * (cause, work type, time commitment, location, urgency) over listed
+ * opportunities: approved (status ACTIVE) and not deactivated by their NGO.
+ *
+ * Counts are built once at startup and adjusted from OpportunityChangedEvent,
+ * so create, edit, approve, reject, deactivate and delete keep them current
+ * without touching the database. Counts conditioned on a selection are
+ * computed from the in-memory rows: each facet is counted over the rows
+ * matching every other selected filter, so a facet's own options stay
+ * visible once one of them is picked.
+ */
+@Service
+public class OpportunityFacetService {
+
+    public enum Facet {
+        CAUSE("causes"),
+        WORK_TYPE("workTypes"),
+        TIME_COMMITMENT("timeCommitments"),
+        LOCATION("locations"),
+        URGENCY("urgencyLevels");
+
+        private final String key;
+
+        Facet(String key) {
+            this.key = key;
+        }
+
+        public String getKey() {
+            return key;
+        }
+    }
+
+    private static final Facet[] FACETS = Facet.values();
+
+    @Autowired
+    private VolunteerOpportunityRepository volunteerOpportunityRepository;
+
+    // opportunity id -> facet values, indexed by Facet ordinal
+    private final Map<Long, String[]> rows = new HashMap<>();
+    // Case-insensitive keys, matching how the search filters compare values
+    private final Map<Facet, TreeMap<String, Integer>> counts = new EnumMap<>(Facet.class);
+
+    public OpportunityFacetService() {
+        for (Facet facet : FACETS) {
+            counts.put(facet, new TreeMap<>(String.CASE_INSENSITIVE_ORDER));
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeOnStartup() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            System.err.println("Error building opportunity facets: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Recount every listed opportunity from one projection query
+     */
+    public synchronized void rebuild() {
+        rows.clear();
+        counts.values().forEach(Map::clear);
+        for (Object[] row : volunteerOpportunityRepository.findFacetRows(OpportunityStatus.ACTIVE)) {
+            UrgencyLevel urgency = (UrgencyLevel) row[5];
+            put((Long) row[0], new String[] { (String) row[1], (String) row[2], (String) row[3], (String) row[4],
+                    urgency != null ? urgency.name() : null });
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOpportunityChanged(OpportunityChangedEvent event) {
+        if (event.getChangeType() == OpportunityChangedEvent.ChangeType.APPLICANTS_CHANGED) {
+            return;
+        }
+        try {
+            VolunteerOpportunity opportunity = event.getOpportunity();
+            synchronized (this) {
+                if (event.getChangeType() == OpportunityChangedEvent.ChangeType.DELETED || !isListed(opportunity)) {
+                    remove(event.getOpportunityId());
+                } else {
+                    put(opportunity.getId(), values(opportunity));
+                }
+            }
+        } catch (Exception e) {
+            System.err.println("Error updating facets for opportunity " + event.getOpportunityId() + ": "
+                    + e.getMessage());
+        }
+    }
+
+    /**
+     * Per-value counts of every facet. With no selection these are the
+     * maintained totals; otherwise each facet is counted over the listed
+     * opportunities matching all selected filters except its own.
+     *
+     * @param selected filter values by facet; blank values are ignored,
+     *                 location matches as a substring as in search
+     * @return facet key -> value -> count, values in alphabetical order
+     */
+    public synchronized Map<String, Map<String, Integer>> getCounts(Map<Facet, String> selected) {
+        String[] filters = normalize(selected);
+        Map<String, Map<String, Integer>> result = new LinkedHashMap<>();
+        boolean anySelected = false;
+        for (String filter : filters) {
+            anySelected |= filter != null;
+        }
+        if (!anySelected) {
+            for (Facet facet : FACETS) {
+                result.put(facet.getKey(), new LinkedHashMap<>(counts.get(facet)));
+            }
+            return result;
+        }
+
+        Map<Facet, TreeMap<String, Integer>> conditioned = new EnumMap<>(Facet.class);
+        for (Facet facet : FACETS) {
+            conditioned.put(facet, new TreeMap<>(String.CASE_INSENSITIVE_ORDER));
+        }
+        for (String[] values : rows.values()) {
+            int failed = -1;
+            boolean excluded = false;
+            for (int i = 0; i < FACETS.length && !excluded; i++) {
+                if (filters[i] != null && !matches(FACETS[i], values[i], filters[i])) {
+                    // A row failing two filters counts toward no facet
+                    excluded = failed >= 0;
+                    failed = i;
+                }
+            }
+            if (excluded) {
+                continue;
+            }
+            for (int i = 0; i < FACETS.length; i++) {
+                if ((failed < 0 || failed == i) && values[i] != null) {
+                    conditioned.get(FACETS[i]).merge(values[i], 1, Integer::sum);
+                }
+            }
+        }
+        // Keep every known value listed, with 0 where the selection excludes it
+        for (Facet facet : FACETS) {
+            Map<String, Integer> facetCounts = new LinkedHashMap<>();
+            for (String value : counts.get(facet).keySet()) {
+                facetCounts.put(value, conditioned.get(facet).getOrDefault(value, 0));
+            }
+            result.put(facet.getKey(), facetCounts);
+        }
+        return result;
+    }
+
+    /**
+     * Number of listed opportunities matching every selected filter
+     */
+    public synchronized int countMatching(Map<Facet, String> selected) {
+        String[] filters = normalize(selected);
+        int matching = 0;
+        for (String[] values : rows.values()) {
+            boolean match = true;
+            for (int i = 0; i < FACETS.length && match; i++) {
+                match = filters[i] == null || matches(FACETS[i], values[i], filters[i]);
+            }
+            if (match) {
+                matching++;
+            }
+        }
+        return matching;
+    }
+
+    private void put(Long id, String[] values) {
+        remove(id);
+        rows.put(id, values);
+        for (int i = 0; i < FACETS.length; i++) {
+            if (values[i] != null) {
+                counts.get(FACETS[i]).merge(values[i], 1, Integer::sum);
+            }
+        }
+    }
+
+    private void remove(Long id) {
+        String[] values = rows.remove(id);
+        if (values == null) {
+            return;
+        }
+        for (int i = 0; i < FACETS.length; i++) {
+            if (values[i] != null) {
+                // Drops the value once no listed opportunity carries it
+                counts.get(FACETS[i]).computeIfPresent(values[i], (value, n) -> n > 1 ? n - 1 : null);
+            }
+        }
+    }
+
+    private static boolean isListed(VolunteerOpportunity opportunity) {
+        return opportunity != null && opportunity.getStatus() == OpportunityStatus.ACTIVE
+                && !Boolean.FALSE.equals(opportunity.getIsActive());
+    }
+
+    private static String[] values(VolunteerOpportunity opportunity) {
+        return new String[] { opportunity.getCause(), opportunity.getWorkType(), opportunity.getTimeCommitment(),
+                opportunity.getLocation(), opportunity.getUrgency() != null ? opportunity.getUrgency().name() : null };
+    }
+
+    private static String[] normalize(Map<Facet, String> selected) {
+        String[] filters = new String[FACETS.length];
+        if (selected != null) {
+            selected.forEach((facet, value) -> {
+                if (value != null && !value.trim().isEmpty()) {
+                    filters[facet.ordinal()] = value.trim().toLowerCase();
+                }
+            });
+            // An unknown urgency level is ignored, as in search
+            String urgency = filters[Facet.URGENCY.ordinal()];
+            if (urgency != null && Arrays.stream(UrgencyLevel.values())
+                    .noneMatch(level -> level.name().equalsIgnoreCase(urgency))) {
+                filters[Facet.URGENCY.ordinal()] = null;
+            }
+        }
+        return filters;
+    }
+
+    private static boolean matches(Facet facet, String value, String filter) {
+        if (value == null) {
+            return false;
+        }
+        return facet == Facet.LOCATION ? value.toLowerCase().contains(filter) : value.equalsIgnoreCase(filter);
+    }
+
+}
@@ -0,0 +1,280 @@
+package com.ngoconnect.service;
+
+import com.ngoconnect.entity.SystemAlert;
+import com.ngoconnect.entity.VolunteerOpportunity;
+import com.ngoconnect.event.OpportunityChangedEvent;
+import com.ngoconnect.repository.SystemAlertRepository;
+import com.ngoconnect.repository.VolunteerOpportunityRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Near-duplicate index over volunteer opportunity titles and descriptions.
+ *
+ * Each opportunity's text is cut into character shingles and summarised by a
+ * MinHash signature. Signatures are split into LSH bands, and each band is
+ * bucketed per NGO, so only opportunities of the same NGO that share a
+ * bucket are compared. The index is built once at startup and kept current
+ * from OpportunityChangedEvent; a new or edited opportunity that nearly
+ * duplicates another one of its NGO raises a SystemAlert.
+ */
+@Service
+public class OpportunitySimilarityService {
+
+    private static final int SHINGLE_SIZE = 5;
+    // 16 bands of 4 rows: pairs above ~0.5 Jaccard similarity usually share a bucket
+    private static final int BANDS = 16;
+    private static final int ROWS_PER_BAND = 4;
+    private static final int SIGNATURE_SIZE = BANDS * ROWS_PER_BAND;
+    private static final long PRIME = 2_147_483_647L;
+
+    private static final String TITLE_DUPLICATE = "Possible duplicate opportunity";
+
+    @Value("${app.opportunities.duplicate-similarity:0.8}")
+    private double duplicateSimilarity;
+
+    @Autowired
+    private VolunteerOpportunityRepository volunteerOpportunityRepository;
+
+    @Autowired
+    private SystemAlertRepository systemAlertRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // Universal hash functions h(x) = (a * x + b) mod PRIME, fixed seed so
+    // signatures are stable for the life of the process
+    private final long[] hashA = new long[SIGNATURE_SIZE];
+    private final long[] hashB = new long[SIGNATURE_SIZE];
+
+    private final Map<Long, Entry> entries = new HashMap<>();
+    // ngoId -> band key -> opportunity ids
+    private final Map<Long, Map<Long, Set<Long>>> buckets = new HashMap<>();
+
+    private TransactionTemplate alertTransaction;
+
+    public OpportunitySimilarityService() {
+        Random random = new Random(0x5eed);
+        for (int i = 0; i < SIGNATURE_SIZE; i++) {
+            hashA[i] = 1 + (long) (random.nextDouble() * (PRIME - 1));
+            hashB[i] = (long) (random.nextDouble() * PRIME);
+        }
+    }
+
+    @PostConstruct
+    public void init() {
+        alertTransaction = new TransactionTemplate(transactionManager);
+        alertTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeOnStartup() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            System.err.println("Error building opportunity similarity index: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Re-index every opportunity from one projection query
+     */
+    public synchronized void rebuild() {
+        entries.clear();
+        buckets.clear();
+        for (Object[] row : volunteerOpportunityRepository.findSimilarityRows()) {
+            put((Long) row[0], (Long) row[1], (String) row[2], (String) row[3]);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOpportunityChanged(OpportunityChangedEvent event) {
+        if (event.getChangeType() == OpportunityChangedEvent.ChangeType.APPLICANTS_CHANGED) {
+            return;
+        }
+        try {
+            if (event.getChangeType() == OpportunityChangedEvent.ChangeType.DELETED) {
+                remove(event.getOpportunityId());
+                return;
+            }
+            VolunteerOpportunity opportunity = event.getOpportunity();
+            if (opportunity == null || opportunity.getNgo() == null) {
+                return;
+            }
+            Map<Long, Double> duplicates;
+            synchronized (this) {
+                put(opportunity.getId(), opportunity.getNgo().getId(), opportunity.getTitle(),
+                        opportunity.getDescription());
+                duplicates = findDuplicates(opportunity.getId());
+            }
+            boolean textChanged = event.getChangeType() == OpportunityChangedEvent.ChangeType.CREATED
+                    || event.getChangeType() == OpportunityChangedEvent.ChangeType.UPDATED;
+            if (textChanged && !duplicates.isEmpty()) {
+                raise(opportunity, duplicates);
+            }
+        } catch (Exception e) {
+            System.err.println("Error indexing opportunity " + event.getOpportunityId() + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Opportunities of the same NGO whose estimated similarity to the given
+     * one reaches the duplicate threshold, with that similarity
+     */
+    public synchronized Map<Long, Double> findDuplicates(Long opportunityId) {
+        Entry entry = entries.get(opportunityId);
+        if (entry == null) {
+            return Map.of();
+        }
+        Map<Long, Set<Long>> ngoBuckets = buckets.getOrDefault(entry.ngoId, Map.of());
+        Set<Long> candidates = new HashSet<>();
+        for (long key : entry.bandKeys) {
+            candidates.addAll(ngoBuckets.getOrDefault(key, Set.of()));
+        }
+        candidates.remove(opportunityId);
+
+        Map<Long, Double> duplicates = new LinkedHashMap<>();
+        for (Long candidateId : candidates) {
+            double similarity = estimateSimilarity(entry.signature, entries.get(candidateId).signature);
+            if (similarity >= duplicateSimilarity) {
+                duplicates.put(candidateId, similarity);
+            }
+        }
+        return duplicates;
+    }
+
+    /**
+     * Every indexed opportunity that has at least one near-duplicate, mapped to
+     * the ids it duplicates. Linear in the number of opportunities plus
+     * bucket collisions.
+     */
+    public synchronized Map<Long, Set<Long>> findAllDuplicates() {
+        Map<Long, Set<Long>> result = new HashMap<>();
+        for (Long id : entries.keySet()) {
+            Map<Long, Double> duplicates = findDuplicates(id);
+            if (!duplicates.isEmpty()) {
+                result.put(id, duplicates.keySet());
+            }
+        }
+        return result;
+    }
+
+    private void put(Long id, Long ngoId, String title, String description) {
+        remove(id);
+        Entry entry = new Entry(ngoId, signature(shingles(title, description)));
+        entries.put(id, entry);
+        Map<Long, Set<Long>> ngoBuckets = buckets.computeIfAbsent(ngoId, k -> new HashMap<>());
+        for (long key : entry.bandKeys) {
+            ngoBuckets.computeIfAbsent(key, k -> new HashSet<>()).add(id);
+        }
+    }
+
+    private synchronized void remove(Long id) {
+        Entry entry = entries.remove(id);
+        if (entry == null) {
+            return;
+        }
+        Map<Long, Set<Long>> ngoBuckets = buckets.get(entry.ngoId);
+        for (long key : entry.bandKeys) {
+            Set<Long> bucket = ngoBuckets.get(key);
+            bucket.remove(id);
+            if (bucket.isEmpty()) {
+                ngoBuckets.remove(key);
+            }
+        }
+        if (ngoBuckets.isEmpty()) {
+            buckets.remove(entry.ngoId);
+        }
+    }
+
+    private void raise(VolunteerOpportunity opportunity, Map<Long, Double> duplicates) {
+        String matches = duplicates.entrySet().stream()
+                .map(e -> String.format("#%d (%.0f%%)", e.getKey(), e.getValue() * 100))
+                .collect(Collectors.joining(", "));
+        SystemAlert alert = new SystemAlert(SystemAlert.AlertType.SUSPICIOUS_ACTIVITY, SystemAlert.Priority.MEDIUM,
+                TITLE_DUPLICATE, "Opportunity #" + opportunity.getId() + " \"" + opportunity.getTitle()
+                        + "\" closely matches " + matches);
+        alert.setRelatedEntityType(SystemAlert.EntityType.NGO);
+        alert.setRelatedEntityId(opportunity.getNgo().getId());
+        alertTransaction.executeWithoutResult(tx -> systemAlertRepository.save(alert));
+    }
+
+    static Set<Integer> shingles(String title, String description) {
+        String text = ((title != null ? title : "") + " " + (description != null ? description : ""))
+                .toLowerCase()
+                .replaceAll("[^\\p{L}\\p{N}]+", " ")
+                .trim();
+        Set<Integer> shingles = new HashSet<>();
+        if (text.length() <= SHINGLE_SIZE) {
+            shingles.add(text.hashCode());
+            return shingles;
+        }
+        for (int i = 0; i + SHINGLE_SIZE <= text.length(); i++) {
+            shingles.add(text.substring(i, i + SHINGLE_SIZE).hashCode());
+        }
+        return shingles;
+    }
+
+    private int[] signature(Set<Integer> shingles) {
+        int[] signature = new int[SIGNATURE_SIZE];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (int shingle : shingles) {
+            long x = shingle & 0xffffffffL;
+            for (int i = 0; i < SIGNATURE_SIZE; i++) {
+                int h = (int) ((hashA[i] * x + hashB[i]) % PRIME);
+                if (h < signature[i]) {
+                    signature[i] = h;
+                }
+            }
+        }
+        return signature;
+    }
+
+    private static double estimateSimilarity(int[] a, int[] b) {
+        int equal = 0;
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] == b[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / a.length;
+    }
+
+    private static final class Entry {
+        private final Long ngoId;
+        private final int[] signature;
+        private final long[] bandKeys;
+
+        private Entry(Long ngoId, int[] signature) {
+            this.ngoId = ngoId;
+            this.signature = signature;
+            this.bandKeys = new long[BANDS];
+            for (int band = 0; band < BANDS; band++) {
+                long key = band;
+                for (int row = 0; row < ROWS_PER_BAND; row++) {
+                    key = key * 31 + signature[band * ROWS_PER_BAND + row];
+                }
+                bandKeys[band] = key;
+            }
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.ngoconnect.service;
+
+import com.ngoconnect.dto.AdminDashboardDTO;
+import com.ngoconnect.entity.PlatformStatistics;
+import com.ngoconnect.entity.StatisticsGranularity;
+import com.ngoconnect.repository.PlatformStatisticsRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes daily PlatformStatistics snapshots and rolls them up into weekly and
+ * monthly rows, so trend charts over long ranges read a bounded number of rows.
+ *
+ * Every figure is a running total or a gauge, so a rollup row holds the closing
+ * value of its period (the latest daily snapshot inside it).
+ */
+@Service
+public class PlatformStatisticsService {
+
+    private static final int DEFAULT_MAX_POINTS = 120;
+
+    @Autowired
+    private PlatformStatisticsRepository platformStatisticsRepository;
+
+    @Autowired
+    private DashboardCounterService dashboardCounterService;
+
+    @Scheduled(cron = "${app.statistics.snapshot-cron:0 55 23 * * *}")
+    public void scheduledSnapshot() {
+        try {
+            snapshot(LocalDate.now());
+        } catch (Exception e) {
+            System.err.println("Error writing platform statistics snapshot: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Make sure today has a row even if the server was down at snapshot time
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void snapshotOnStartup() {
+        try {
+            if (platformStatisticsRepository.findByStatDate(LocalDate.now()).isEmpty()) {
+                snapshot(LocalDate.now());
+            }
+        } catch (Exception e) {
+            System.err.println("Error writing startup statistics snapshot: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Write the daily snapshot for the given date and refresh the weekly and
+     * monthly rollups that contain it
+     */
+    @Transactional
+    public PlatformStatistics snapshot(LocalDate date) {
+        AdminDashboardDTO.DashboardOverview overview = dashboardCounterService.reconcile();
+
+        PlatformStatistics daily = platformStatisticsRepository
+                .findByStatDateAndGranularity(date, StatisticsGranularity.DAILY)
+                .orElse(new PlatformStatistics(date, StatisticsGranularity.DAILY));
+        copyOverview(overview, daily);
+        daily = platformStatisticsRepository.save(daily);
+
+        rollUp(date, StatisticsGranularity.WEEKLY);
+        rollUp(date, StatisticsGranularity.MONTHLY);
+        return daily;
+    }
+
+    /**
+     * Recompute every weekly and monthly row from the daily snapshots
+     */
+    @Transactional
+    public int rebuildRollups() {
+        List<PlatformStatistics> dailies = platformStatisticsRepository
+                .findByStatDateBetweenOrderByStatDateAsc(LocalDate.of(1970, 1, 1), LocalDate.now());
+        Map<LocalDate, PlatformStatistics> weekly = new LinkedHashMap<>();
+        Map<LocalDate, PlatformStatistics> monthly = new LinkedHashMap<>();
+        for (PlatformStatistics daily : dailies) {
+            // Ascending order, so the last one seen per period is its closing value
+            weekly.put(periodStart(daily.getStatDate(), StatisticsGranularity.WEEKLY), daily);
+            monthly.put(periodStart(daily.getStatDate(), StatisticsGranularity.MONTHLY), daily);
+        }
+        weekly.forEach((start, closing) -> saveRollup(start, StatisticsGranularity.WEEKLY, closing));
+        monthly.forEach((start, closing) -> saveRollup(start, StatisticsGranularity.MONTHLY, closing));
+        return weekly.size() + monthly.size();
+    }
+
+    /**
+     * Trend between two dates with at most maxPoints points. When no granularity
+     * is given the finest one that fits is picked; if even that has too many
+     * rows it is downsampled by keeping every n-th row plus the last.
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> getTrend(LocalDate startDate, LocalDate endDate, StatisticsGranularity granularity,
+            Integer maxPoints) {
+        if (endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("endDate must not be before startDate");
+        }
+        int limit = maxPoints != null && maxPoints > 1 ? maxPoints : DEFAULT_MAX_POINTS;
+        StatisticsGranularity resolution = granularity != null ? granularity
+                : pickGranularity(startDate, endDate, limit);
+
+        // Rollup rows are keyed on the period start, which may precede startDate
+        List<PlatformStatistics> rows = platformStatisticsRepository.findByStatDateBetweenOrderByStatDateAsc(
+                periodStart(startDate, resolution), endDate, resolution);
+        List<PlatformStatistics> sampled = downsample(rows, limit);
+
+        List<Map<String, Object>> points = new ArrayList<>(sampled.size());
+        for (PlatformStatistics stats : sampled) {
+            points.add(toPoint(stats));
+        }
+
+        Map<String, Object> trend = new HashMap<>();
+        trend.put("startDate", startDate);
+        trend.put("endDate", endDate);
+        trend.put("granularity", resolution.name());
+        trend.put("sourceRows", rows.size());
+        trend.put("points", points);
+        return trend;
+    }
+
+    private void rollUp(LocalDate date, StatisticsGranularity granularity) {
+        LocalDate start = periodStart(date, granularity);
+        LocalDate end = periodEnd(start, granularity);
+        List<PlatformStatistics> dailies = platformStatisticsRepository.findByStatDateBetweenOrderByStatDateAsc(start,
+                end, StatisticsGranularity.DAILY);
+        if (!dailies.isEmpty()) {
+            saveRollup(start, granularity, dailies.get(dailies.size() - 1));
+        }
+    }
+
+    private void saveRollup(LocalDate periodStart, StatisticsGranularity granularity, PlatformStatistics closing) {
+        PlatformStatistics rollup = platformStatisticsRepository
+                .findByStatDateAndGranularity(periodStart, granularity)
+                .orElse(new PlatformStatistics(periodStart, granularity));
+        rollup.setTotalNgosRegistered(closing.getTotalNgosRegistered());
+        rollup.setTotalNgosVerified(closing.getTotalNgosVerified());
+        rollup.setTotalNgosPending(closing.getTotalNgosPending());
+        rollup.setTotalUsersRegistered(closing.getTotalUsersRegistered());
+        rollup.setTotalDonationsAmount(closing.getTotalDonationsAmount());
+        rollup.setTotalDonationsCount(closing.getTotalDonationsCount());
+        rollup.setActiveVolunteerOpportunities(closing.getActiveVolunteerOpportunities());
+        rollup.setPendingVerifications(closing.getPendingVerifications());
+        rollup.setMissingFundReports(closing.getMissingFundReports());
+        rollup.setSuspiciousActivities(closing.getSuspiciousActivities());
+        platformStatisticsRepository.save(rollup);
+    }
+
+    private void copyOverview(AdminDashboardDTO.DashboardOverview overview, PlatformStatistics stats) {
+        stats.setTotalNgosRegistered(overview.getTotalNgosRegistered());
+        stats.setTotalNgosVerified(overview.getTotalNgosVerified());
+        stats.setTotalNgosPending(overview.getTotalNgosPending());
+        stats.setTotalUsersRegistered(overview.getTotalUsersRegistered());
+        stats.setTotalDonationsAmount(overview.getTotalDonationsAmount());
+        stats.setTotalDonationsCount(overview.getTotalDonationsCount());
+        stats.setActiveVolunteerOpportunities(overview.getActiveVolunteerOpportunities());
+        stats.setPendingVerifications(overview.getPendingVerifications());
+        stats.setMissingFundReports(overview.getMissingFundReports());
+        stats.setSuspiciousActivities(overview.getSuspiciousActivities());
+    }
+
+    private StatisticsGranularity pickGranularity(LocalDate startDate, LocalDate endDate, int maxPoints) {
+        long days = ChronoUnit.DAYS.between(startDate, endDate) + 1;
+        if (days <= maxPoints) {
+            return StatisticsGranularity.DAILY;
+        }
+        if ((days + 6) / 7 <= maxPoints) {
+            return StatisticsGranularity.WEEKLY;
+        }
+        return StatisticsGranularity.MONTHLY;
+    }
+
+    private List<PlatformStatistics> downsample(List<PlatformStatistics> rows, int maxPoints) {
+        if (rows.size() <= maxPoints) {
+            return rows;
+        }
+        int step = (rows.size() + maxPoints - 2) / (maxPoints - 1);
+        List<PlatformStatistics> sampled = new ArrayList<>(maxPoints);
+        for (int i = 0; i < rows.size() - 1; i += step) {
+            sampled.add(rows.get(i));
+        }
+        sampled.add(rows.get(rows.size() - 1));
+        return sampled;
+    }
+
+    private Map<String, Object> toPoint(PlatformStatistics stats) {
+        Map<String, Object> point = new LinkedHashMap<>();
+        point.put("statDate", stats.getStatDate());
+        point.put("totalNgosRegistered", stats.getTotalNgosRegistered());
+        point.put("totalNgosVerified", stats.getTotalNgosVerified());
+        point.put("totalNgosPending", stats.getTotalNgosPending());
+        point.put("totalUsersRegistered", stats.getTotalUsersRegistered());
+        point.put("totalDonationsAmount", stats.getTotalDonationsAmount());
+        point.put("totalDonationsCount", stats.getTotalDonationsCount());
+        point.put("activeVolunteerOpportunities", stats.getActiveVolunteerOpportunities());
+        point.put("pendingVerifications", stats.getPendingVerifications());
+        point.put("missingFundReports", stats.getMissingFundReports());
+        point.put("suspiciousActivities", stats.getSuspiciousActivities());
+        return point;
+    }
+
+    static LocalDate periodStart(LocalDate date, StatisticsGranularity granularity) {
+        switch (granularity) {
+            case WEEKLY:
+                return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTHLY:
+                return date.withDayOfMonth(1);
+            default:
+                return date;
+        }
+    }
+
+    static LocalDate periodEnd(LocalDate periodStart, StatisticsGranularity granularity) {
+        switch (granularity) {
+            case WEEKLY:
+                return periodStart.plusDays(6);
+            case MONTHLY:
+                return periodStart.with(TemporalAdjusters.lastDayOfMonth());
+            default:
+                return periodStart;
+        }
+    }
+}
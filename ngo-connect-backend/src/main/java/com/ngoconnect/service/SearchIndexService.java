@@ -0,0 +1,183 @@
+package com.ngoconnect.service;
+
+import com.ngoconnect.entity.NGO;
+import com.ngoconnect.entity.OpportunityStatus;
+import com.ngoconnect.entity.VolunteerOpportunity;
+import com.ngoconnect.event.NgoChangedEvent;
+import com.ngoconnect.event.OpportunityChangedEvent;
+import com.ngoconnect.repository.NGORepository;
+import com.ngoconnect.repository.VolunteerOpportunityRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory full-text search over active volunteer opportunities (title,
+ * description, NGO name) and NGOs (organization name, description, causes).
+ *
+ * Both indexes are built at startup from projection queries and kept current
+ * from OpportunityChangedEvent and NgoChangedEvent, so a search is a few map
+ * lookups rather than a LIKE '%term%' scan. Until the first build finishes
+ * isReady() is false and callers fall back to their SQL search.
+ */
+@Service
+public class SearchIndexService {
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final int NAME_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    @Autowired
+    private VolunteerOpportunityRepository volunteerOpportunityRepository;
+
+    @Autowired
+    private NGORepository ngoRepository;
+
+    private volatile InvertedIndex opportunities = new InvertedIndex();
+    private volatile InvertedIndex ngos = new InvertedIndex();
+    // NGO names as indexed, to spot renames that change opportunity documents
+    private final Map<Long, String> ngoNames = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeOnStartup() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            System.err.println("Error building search index: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Build fresh indexes from the database and swap them in
+     */
+    public synchronized void rebuild() {
+        InvertedIndex opportunityIndex = new InvertedIndex();
+        for (Object[] row : volunteerOpportunityRepository.findSearchRows(OpportunityStatus.ACTIVE)) {
+            opportunityIndex.put((Long) row[0],
+                    opportunityTerms((String) row[1], (String) row[2], (String) row[3]));
+        }
+
+        Map<Long, List<String>> causeTags = new HashMap<>();
+        for (Object[] row : ngoRepository.findCauseTags()) {
+            causeTags.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((String) row[1]);
+        }
+        InvertedIndex ngoIndex = new InvertedIndex();
+        Map<Long, String> names = new HashMap<>();
+        for (Object[] row : ngoRepository.findSearchRows()) {
+            Long id = (Long) row[0];
+            ngoIndex.put(id, ngoTerms((String) row[1], (String) row[2], (String) row[3],
+                    causeTags.getOrDefault(id, List.of())));
+            if (row[1] != null) {
+                names.put(id, (String) row[1]);
+            }
+        }
+
+        opportunities = opportunityIndex;
+        ngos = ngoIndex;
+        ngoNames.clear();
+        ngoNames.putAll(names);
+        ready = true;
+        System.out.println("Search index built: " + opportunityIndex.size() + " opportunities, "
+                + ngoIndex.size() + " NGOs");
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Ids of active opportunities matching every word of the query, best first
+     */
+    public List<Long> searchOpportunities(String query, int limit) {
+        return opportunities.search(query, limit);
+    }
+
+    /**
+     * Ids of NGOs matching every word of the query, best first
+     */
+    public List<Long> searchNgos(String query, int limit) {
+        return ngos.search(query, limit);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOpportunityChanged(OpportunityChangedEvent event) {
+        if (event.getChangeType() == OpportunityChangedEvent.ChangeType.APPLICANTS_CHANGED) {
+            return;
+        }
+        try {
+            VolunteerOpportunity opportunity = event.getOpportunity();
+            if (event.getChangeType() == OpportunityChangedEvent.ChangeType.DELETED || opportunity == null
+                    || opportunity.getStatus() != OpportunityStatus.ACTIVE) {
+                opportunities.remove(event.getOpportunityId());
+                return;
+            }
+            opportunities.put(opportunity.getId(), opportunityTerms(opportunity.getTitle(),
+                    opportunity.getDescription(),
+                    opportunity.getNgo() != null ? opportunity.getNgo().getOrganizationName() : null));
+        } catch (Exception e) {
+            System.err.println("Error indexing opportunity " + event.getOpportunityId() + ": " + e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNgoChanged(NgoChangedEvent event) {
+        try {
+            Optional<NGO> found = ngoRepository.findById(event.getNgoId());
+            if (found.isEmpty()) {
+                ngos.remove(event.getNgoId());
+                ngoNames.remove(event.getNgoId());
+                return;
+            }
+            NGO ngo = found.get();
+            ngos.put(ngo.getId(), ngoTerms(ngo.getOrganizationName(), ngo.getDescription(), ngo.getCause(),
+                    ngo.getCauses() != null ? ngo.getCauses() : List.of()));
+
+            String previousName = ngo.getOrganizationName() != null
+                    ? ngoNames.put(ngo.getId(), ngo.getOrganizationName())
+                    : ngoNames.remove(ngo.getId());
+            if (!event.isCreated() && !Objects.equals(previousName, ngo.getOrganizationName())) {
+                for (Object[] row : volunteerOpportunityRepository.findSearchRowsByNgoId(OpportunityStatus.ACTIVE,
+                        ngo.getId())) {
+                    opportunities.put((Long) row[0],
+                            opportunityTerms((String) row[1], (String) row[2], (String) row[3]));
+                }
+            }
+        } catch (Exception e) {
+            System.err.println("Error indexing NGO " + event.getNgoId() + ": " + e.getMessage());
+        }
+    }
+
+    private static Map<String, Integer> opportunityTerms(String title, String description, String ngoName) {
+        Map<String, Integer> terms = new HashMap<>();
+        InvertedIndex.addTerms(terms, title, TITLE_WEIGHT);
+        InvertedIndex.addTerms(terms, ngoName, NAME_WEIGHT);
+        InvertedIndex.addTerms(terms, description, DESCRIPTION_WEIGHT);
+        return terms;
+    }
+
+    private static Map<String, Integer> ngoTerms(String organizationName, String description, String cause,
+            List<String> causes) {
+        Map<String, Integer> terms = new HashMap<>();
+        InvertedIndex.addTerms(terms, organizationName, TITLE_WEIGHT);
+        InvertedIndex.addTerms(terms, cause, NAME_WEIGHT);
+        for (String tag : causes) {
+            // The primary cause is usually tagged too; count it once
+            if (tag != null && !tag.equalsIgnoreCase(cause)) {
+                InvertedIndex.addTerms(terms, tag, NAME_WEIGHT);
+            }
+        }
+        InvertedIndex.addTerms(terms, description, DESCRIPTION_WEIGHT);
+        return terms;
+    }
+}
@@ -0,0 +1,52 @@
+package com.ngoconnect.service;
+
+import com.ngoconnect.repository.DonationRepository;
+import com.ngoconnect.repository.VolunteerApplicationRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Per-user donation and volunteering summary for admin review. Every figure
+ * comes from an aggregate or LIMIT query keyed on the user's id, so the cost
+ * depends on that user's history only, not on the size of the tables.
+ */
+@Service
+@Transactional(readOnly = true)
+public class UserActivityService {
+
+    private static final int RECENT_ITEMS = 5;
+
+    @Autowired
+    private DonationRepository donationRepository;
+
+    @Autowired
+    private VolunteerApplicationRepository volunteerApplicationRepository;
+
+    public Map<String, Object> getActivity(Long userId) {
+        Map<String, Object> activity = new HashMap<>();
+
+        // Donation activity (completed donations)
+        Long donationCount = donationRepository.getCountOfDonationsByDonor(userId);
+        Double donatedAmount = donationRepository.getTotalDonatedByDonor(userId);
+        activity.put("totalDonations", donationCount != null ? donationCount : 0L);
+        activity.put("totalDonationAmount", donatedAmount != null ? donatedAmount : 0.0);
+        activity.put("recentDonations",
+                donationRepository.findRecentByDonorId(userId, PageRequest.of(0, RECENT_ITEMS)));
+
+        // Volunteer activity
+        Long applications = volunteerApplicationRepository.countByVolunteerId(userId);
+        Long completed = volunteerApplicationRepository.getTotalCompletedApplicationsByVolunteer(userId);
+        Integer hours = volunteerApplicationRepository.getTotalHoursByVolunteer(userId);
+        activity.put("totalVolunteerApplications", applications != null ? applications : 0L);
+        activity.put("completedVolunteerApplications", completed != null ? completed : 0L);
+        activity.put("totalVolunteerHours", hours != null ? hours : 0);
+        activity.put("recentVolunteerApplications",
+                volunteerApplicationRepository.findRecentByVolunteerId(userId, PageRequest.of(0, RECENT_ITEMS)));
+        return activity;
+    }
+}
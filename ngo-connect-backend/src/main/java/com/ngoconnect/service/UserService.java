@@ -3,8 +3,10 @@ package com.ngoconnect.service;
 import com.ngoconnect.dto.RegisterRequest;
 import com.ngoconnect.entity.User;
 import com.ngoconnect.entity.UserType;
+import com.ngoconnect.event.UserChangedEvent;
 import com.ngoconnect.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,6 +27,9 @@ public class UserService {
     @Autowired
     private EmailService emailService;
     
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
     public User registerUser(RegisterRequest registerRequest) {
         if (userRepository.existsByEmail(registerRequest.getEmail())) {
             throw new RuntimeException("Error: Email is already taken!");
@@ -40,6 +45,7 @@ public class UserService {
         user.setEmailVerified(true);
         
         User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(UserChangedEvent.registered(savedUser));
         
         // Email verification disabled for now; user is active immediately
 
@@ -63,15 +69,19 @@ public class UserService {
     }
     
     public void deleteUser(Long id) {
+        Optional<User> userOpt = userRepository.findById(id);
         userRepository.deleteById(id);
+        userOpt.ifPresent(user -> eventPublisher.publishEvent(UserChangedEvent.deleted(user)));
     }
     
     public boolean verifyEmail(String email) {
         Optional<User> userOpt = userRepository.findByEmail(email);
         if (userOpt.isPresent()) {
             User user = userOpt.get();
+            UserChangedEvent.UserState previousState = UserChangedEvent.UserState.of(user);
             user.setEmailVerified(true);
             userRepository.save(user);
+            eventPublisher.publishEvent(UserChangedEvent.updated(previousState, user));
             return true;
         }
         return false;
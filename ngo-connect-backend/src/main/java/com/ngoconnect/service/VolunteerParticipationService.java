@@ -0,0 +1,134 @@
+package com.ngoconnect.service;
+
+import com.ngoconnect.repository.VolunteerApplicationRepository;
+import com.ngoconnect.repository.VolunteerOpportunityRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Volunteer participation per NGO and per cause.
+ *
+ * Catalogue figures (opportunities, volunteers needed) and application
+ * figures (applied, approved, completed, hours) are grouped in SQL by
+ * separate queries, so neither side multiplies the other. Application
+ * figures are limited to applications made in the requested date range;
+ * the per-NGO breakdown is paginated.
+ */
+@Service
+@Transactional(readOnly = true)
+public class VolunteerParticipationService {
+
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime END_OF_TIME = LocalDateTime.of(9999, 1, 1, 0, 0);
+
+    @Autowired
+    private VolunteerOpportunityRepository volunteerOpportunityRepository;
+
+    @Autowired
+    private VolunteerApplicationRepository volunteerApplicationRepository;
+
+    /**
+     * @param startDate first day of applications to count, null for no lower bound
+     * @param endDate   last day of applications to count, null for no upper bound
+     */
+    public Map<String, Object> getReport(LocalDate startDate, LocalDate endDate, int page, int size) {
+        if (startDate != null && endDate != null && endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("endDate must not be before startDate");
+        }
+        LocalDateTime from = startDate != null ? startDate.atStartOfDay() : BEGINNING;
+        LocalDateTime to = endDate != null ? endDate.plusDays(1).atStartOfDay() : END_OF_TIME;
+
+        Map<String, Object> report = new HashMap<>();
+        report.put("startDate", startDate);
+        report.put("endDate", endDate);
+
+        List<Object[]> active = volunteerOpportunityRepository.summarizeActiveOpportunities();
+        Object[] totals = active.isEmpty() ? new Object[3] : active.get(0);
+        report.put("totalActiveOpportunities", asLong(totals[0]));
+        report.put("totalVolunteersNeeded", asLong(totals[1]));
+        report.put("totalVolunteersApplied", asLong(totals[2]));
+
+        // Per cause: causes are few, so this is not paginated
+        Map<String, Object[]> applicationsByCause = new HashMap<>();
+        long applied = 0, approved = 0, completed = 0, hours = 0;
+        for (Object[] row : volunteerApplicationRepository.summarizeParticipationByCause(from, to)) {
+            applicationsByCause.put((String) row[0], row);
+            applied += asLong(row[1]);
+            approved += asLong(row[2]);
+            completed += asLong(row[3]);
+            hours += asLong(row[4]);
+        }
+        List<Map<String, Object>> causeStats = new ArrayList<>();
+        for (Object[] row : volunteerOpportunityRepository.findParticipationByCause()) {
+            Map<String, Object> stat = new LinkedHashMap<>();
+            stat.put("cause", row[0]);
+            putCatalogue(stat, row[1], row[2], row[3]);
+            putApplications(stat, applicationsByCause.get((String) row[0]));
+            causeStats.add(stat);
+        }
+        report.put("totalApplications", applied);
+        report.put("totalApproved", approved);
+        report.put("totalCompleted", completed);
+        report.put("totalHoursCompleted", hours);
+        report.put("causeStatistics", causeStats);
+
+        // Per NGO, one page at a time; application figures only for the NGOs on the page
+        Page<Object[]> ngoPage = volunteerOpportunityRepository.findParticipationByNgo(
+                PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE)));
+        List<Long> ngoIds = new ArrayList<>();
+        for (Object[] row : ngoPage.getContent()) {
+            ngoIds.add((Long) row[0]);
+        }
+        Map<Long, Object[]> applicationsByNgo = new HashMap<>();
+        if (!ngoIds.isEmpty()) {
+            for (Object[] row : volunteerApplicationRepository.summarizeParticipationByNgo(ngoIds, from, to)) {
+                applicationsByNgo.put((Long) row[0], row);
+            }
+        }
+        List<Map<String, Object>> ngoStats = new ArrayList<>();
+        for (Object[] row : ngoPage.getContent()) {
+            Map<String, Object> stat = new LinkedHashMap<>();
+            stat.put("ngoId", row[0]);
+            stat.put("ngoName", row[1]);
+            putCatalogue(stat, row[2], row[3], row[4]);
+            putApplications(stat, applicationsByNgo.get((Long) row[0]));
+            ngoStats.add(stat);
+        }
+        report.put("ngoStatistics", ngoStats);
+        report.put("page", ngoPage.getNumber());
+        report.put("size", ngoPage.getSize());
+        report.put("totalNgos", ngoPage.getTotalElements());
+        report.put("totalPages", ngoPage.getTotalPages());
+        return report;
+    }
+
+    private void putCatalogue(Map<String, Object> stat, Object opportunities, Object activeOpportunities,
+            Object volunteersNeeded) {
+        stat.put("opportunityCount", asLong(opportunities));
+        stat.put("activeOpportunities", asLong(activeOpportunities));
+        stat.put("volunteersNeeded", asLong(volunteersNeeded));
+    }
+
+    private void putApplications(Map<String, Object> stat, Object[] row) {
+        stat.put("volunteersApplied", row != null ? asLong(row[1]) : 0L);
+        stat.put("approved", row != null ? asLong(row[2]) : 0L);
+        stat.put("completed", row != null ? asLong(row[3]) : 0L);
+        stat.put("hoursCompleted", row != null ? asLong(row[4]) : 0L);
+    }
+
+    private static long asLong(Object value) {
+        return value != null ? ((Number) value).longValue() : 0L;
+    }
+}
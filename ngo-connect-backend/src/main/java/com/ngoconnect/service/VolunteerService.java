@@ -1,11 +1,18 @@
 package com.ngoconnect.service;
 
+import com.ngoconnect.dto.VolunteerOpportunityDTO;
 import com.ngoconnect.entity.VolunteerOpportunity;
 import com.ngoconnect.entity.UrgencyLevel;
 import com.ngoconnect.entity.OpportunityStatus;
 import com.ngoconnect.repository.VolunteerOpportunityRepository;
+import com.ngoconnect.repository.VolunteerOpportunitySpecifications;
 import com.ngoconnect.exception.ResourceNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,31 +22,59 @@ import java.util.stream.Collectors;
 @Service
 public class VolunteerService {
 
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+    private static final int MAX_LISTING_PAGE_SIZE = 100;
+    // Free-text matches considered before the other filters and paging apply
+    private static final int MAX_TEXT_MATCHES = 1000;
+
     @Autowired
     private VolunteerOpportunityRepository volunteerOpportunityRepository;
 
+    @Autowired
+    private SearchIndexService searchIndexService;
+
+    @Autowired
+    private OpportunityFacetService opportunityFacetService;
+
     /**
-     * Get all active volunteer opportunities
+     * One page of the public opportunity listing, newest first: one
+     * projection query for the page plus one query for its requirements,
+     * whatever the page size
      */
     @Transactional(readOnly = true)
-    public List<VolunteerOpportunity> getAllActiveOpportunities() {
-        try {
-            List<VolunteerOpportunity> opportunities = volunteerOpportunityRepository
-                    .findByStatus(OpportunityStatus.ACTIVE);
-            System.out.println("Found " + opportunities.size() + " active opportunities");
-
-            // Force load requirements collection
-            opportunities.forEach(opp -> {
-                if (opp.getRequirements() != null)
-                    opp.getRequirements().size();
-            });
-
-            return opportunities;
-        } catch (Exception e) {
-            System.err.println("Error fetching opportunities: " + e.getMessage());
-            e.printStackTrace();
-            return new java.util.ArrayList<>();
+    public Map<String, Object> getOpportunityListing(int page, int size) {
+        int pageNumber = Math.max(page, 0);
+        int pageSize = Math.min(Math.max(size, 1), MAX_LISTING_PAGE_SIZE);
+        Slice<VolunteerOpportunityDTO> slice = volunteerOpportunityRepository
+                .findListing(OpportunityStatus.ACTIVE, PageRequest.of(pageNumber, pageSize));
+        List<VolunteerOpportunityDTO> content = attachRequirements(new ArrayList<>(slice.getContent()));
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("content", content);
+        response.put("page", pageNumber);
+        response.put("size", pageSize);
+        response.put("hasNext", slice.hasNext());
+        return response;
+    }
+
+    /**
+     * Entity tag of the current listing, derived from the listed rows
+     * themselves: their count, newest id, latest opportunity and NGO
+     * updated_at, and applicant total. It is the same on every instance and
+     * also changes for edits made outside this process, so clients can
+     * revalidate a cached page with one aggregate query instead of the page
+     * query. updated_at has one-second resolution, so two edits to different
+     * rows within a second that leave the other figures unchanged share a tag.
+     */
+    @Transactional(readOnly = true)
+    public String getListingETag() {
+        List<Object[]> rows = volunteerOpportunityRepository.findListingFingerprint(OpportunityStatus.ACTIVE);
+        Object[] row = rows.isEmpty() ? new Object[5] : rows.get(0);
+        StringBuilder tag = new StringBuilder("\"opportunities");
+        for (Object value : row) {
+            tag.append('-').append(value);
         }
+        return tag.append('"').toString();
     }
 
     /**
@@ -66,97 +101,135 @@ public class VolunteerService {
     }
 
     /**
-     * Search opportunities with multiple filters
+     * Search approved opportunities their NGO has not deactivated, with
+     * optional filters, one page at a time.
+     * The search term is looked up in the in-memory text index and results
+     * are ranked by relevance; otherwise they are in id order. The other
+     * filters run in SQL, and the page's requirements are loaded with one
+     * extra query. An unknown urgency level is ignored, as before.
+     *
+     * @return content, page, size, totalElements and hasNext
      */
-    public List<VolunteerOpportunity> searchOpportunities(String cause, String location,
-            String workType, String timeCommitment, String urgency, String searchTerm) {
-
-        List<VolunteerOpportunity> opportunities = getAllActiveOpportunities();
+    @Transactional(readOnly = true)
+    public Map<String, Object> searchOpportunities(String cause, String location,
+            String workType, String timeCommitment, String urgency, String searchTerm, int page, int size) {
 
-        // Apply filters
+        Specification<VolunteerOpportunity> spec = Specification
+                .where(VolunteerOpportunitySpecifications.hasStatus(OpportunityStatus.ACTIVE))
+                .and(VolunteerOpportunitySpecifications.notDeactivated())
+                .and(VolunteerOpportunitySpecifications.fetchNgo());
         if (cause != null && !cause.trim().isEmpty()) {
-            opportunities = opportunities.stream()
-                    .filter(opp -> opp.getCause().equalsIgnoreCase(cause))
-                    .collect(Collectors.toList());
+            spec = spec.and(VolunteerOpportunitySpecifications.hasCause(cause));
         }
-
         if (location != null && !location.trim().isEmpty()) {
-            opportunities = opportunities.stream()
-                    .filter(opp -> opp.getLocation().toLowerCase().contains(location.toLowerCase()))
-                    .collect(Collectors.toList());
+            spec = spec.and(VolunteerOpportunitySpecifications.locationContains(location));
         }
-
         if (workType != null && !workType.trim().isEmpty()) {
-            opportunities = opportunities.stream()
-                    .filter(opp -> opp.getWorkType().equalsIgnoreCase(workType))
-                    .collect(Collectors.toList());
+            spec = spec.and(VolunteerOpportunitySpecifications.hasWorkType(workType));
         }
-
         if (timeCommitment != null && !timeCommitment.trim().isEmpty()) {
-            opportunities = opportunities.stream()
-                    .filter(opp -> opp.getTimeCommitment().equalsIgnoreCase(timeCommitment))
-                    .collect(Collectors.toList());
+            spec = spec.and(VolunteerOpportunitySpecifications.hasTimeCommitment(timeCommitment));
         }
-
         if (urgency != null && !urgency.trim().isEmpty()) {
             try {
-                UrgencyLevel urgencyLevel = UrgencyLevel.valueOf(urgency.toUpperCase());
-                opportunities = opportunities.stream()
-                        .filter(opp -> opp.getUrgency() == urgencyLevel)
-                        .collect(Collectors.toList());
+                spec = spec.and(VolunteerOpportunitySpecifications
+                        .hasUrgency(UrgencyLevel.valueOf(urgency.trim().toUpperCase())));
             } catch (IllegalArgumentException e) {
                 // Invalid urgency level, ignore filter
             }
         }
-
+        int pageNumber = Math.max(page, 0);
+        int pageSize = Math.min(Math.max(size, 1), MAX_SEARCH_PAGE_SIZE);
         if (searchTerm != null && !searchTerm.trim().isEmpty()) {
-            String searchLower = searchTerm.toLowerCase();
-            opportunities = opportunities.stream()
-                    .filter(opp -> opp.getTitle().toLowerCase().contains(searchLower) ||
-                            opp.getDescription().toLowerCase().contains(searchLower) ||
-                            (opp.getNgo() != null
-                                    && opp.getNgo().getOrganizationName().toLowerCase().contains(searchLower)))
-                    .collect(Collectors.toList());
+            if (searchIndexService.isReady()) {
+                return searchRanked(spec, searchIndexService.searchOpportunities(searchTerm, MAX_TEXT_MATCHES),
+                        pageNumber, pageSize);
+            }
+            spec = spec.and(VolunteerOpportunitySpecifications.matchesSearchTerm(searchTerm));
         }
 
-        return opportunities;
+        Page<VolunteerOpportunity> result = volunteerOpportunityRepository.findAll(spec,
+                PageRequest.of(pageNumber, pageSize, Sort.by("id")));
+        return pageResponse(toDTOsWithRequirements(result.getContent()), result.getNumber(), result.getSize(),
+                result.getTotalElements());
     }
 
     /**
-     * Get filter options for dropdowns
+     * Apply the other filters to the text index matches in SQL, then page in
+     * relevance order
      */
-    public Map<String, List<String>> getFilterOptions() {
-        List<VolunteerOpportunity> allOpportunities = getAllActiveOpportunities();
-
-        Map<String, List<String>> filterOptions = new HashMap<>();
-
-        // Get unique causes
-        Set<String> causes = allOpportunities.stream()
-                .map(VolunteerOpportunity::getCause)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toSet());
-        filterOptions.put("causes", new ArrayList<>(causes));
-
-        // Get unique work types
-        Set<String> workTypes = allOpportunities.stream()
-                .map(VolunteerOpportunity::getWorkType)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toSet());
-        filterOptions.put("workTypes", new ArrayList<>(workTypes));
-
-        // Get unique time commitments
-        Set<String> timeCommitments = allOpportunities.stream()
-                .map(VolunteerOpportunity::getTimeCommitment)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toSet());
-        filterOptions.put("timeCommitments", new ArrayList<>(timeCommitments));
-
-        // Get unique locations
-        Set<String> locations = allOpportunities.stream()
-                .map(VolunteerOpportunity::getLocation)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toSet());
-        filterOptions.put("locations", new ArrayList<>(locations));
+    private Map<String, Object> searchRanked(Specification<VolunteerOpportunity> spec, List<Long> rankedIds,
+            int page, int size) {
+        if (rankedIds.isEmpty()) {
+            return pageResponse(new ArrayList<>(), page, size, 0);
+        }
+        Map<Long, Integer> rank = new HashMap<>();
+        for (int i = 0; i < rankedIds.size(); i++) {
+            rank.put(rankedIds.get(i), i);
+        }
+        List<VolunteerOpportunity> matches = new ArrayList<>(volunteerOpportunityRepository
+                .findAll(spec.and(VolunteerOpportunitySpecifications.idIn(rankedIds))));
+        matches.sort(Comparator.comparing(opportunity -> rank.get(opportunity.getId())));
+
+        int from = (int) Math.min((long) page * size, matches.size());
+        int to = Math.min(from + size, matches.size());
+        return pageResponse(toDTOsWithRequirements(matches.subList(from, to)), page, size, matches.size());
+    }
+
+    private static Map<String, Object> pageResponse(List<VolunteerOpportunityDTO> content, int page, int size,
+            long totalElements) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("content", content);
+        response.put("page", page);
+        response.put("size", size);
+        response.put("totalElements", totalElements);
+        response.put("hasNext", (long) (page + 1) * size < totalElements);
+        return response;
+    }
+
+    /**
+     * Map opportunities to DTOs, loading all their requirements in one query
+     */
+    private List<VolunteerOpportunityDTO> toDTOsWithRequirements(List<VolunteerOpportunity> opportunities) {
+        return attachRequirements(opportunities.stream()
+                .map(VolunteerOpportunityDTO::fromEntity)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Set the requirements of every DTO from one batched query
+     */
+    private List<VolunteerOpportunityDTO> attachRequirements(List<VolunteerOpportunityDTO> dtos) {
+        if (dtos.isEmpty()) {
+            return dtos;
+        }
+        Map<Long, List<String>> requirements = new HashMap<>();
+        List<Long> ids = dtos.stream().map(VolunteerOpportunityDTO::getId).collect(Collectors.toList());
+        for (Object[] row : volunteerOpportunityRepository.findRequirementsByOpportunityIds(ids)) {
+            requirements.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((String) row[1]);
+        }
+        for (VolunteerOpportunityDTO dto : dtos) {
+            dto.setRequirements(requirements.getOrDefault(dto.getId(), new ArrayList<>()));
+        }
+        return dtos;
+    }
+
+    /**
+     * Filter options for the search panel: every value of each facet plus
+     * per-value counts conditioned on the current selection, served from
+     * the in-memory facet counts
+     *
+     * @param selected the filters currently applied; may be empty
+     */
+    public Map<String, Object> getFilterOptions(Map<OpportunityFacetService.Facet, String> selected) {
+        Map<String, Map<String, Integer>> counts = opportunityFacetService.getCounts(selected);
+
+        Map<String, Object> filterOptions = new HashMap<>();
+        for (OpportunityFacetService.Facet facet : OpportunityFacetService.Facet.values()) {
+            if (facet != OpportunityFacetService.Facet.URGENCY) {
+                filterOptions.put(facet.getKey(), new ArrayList<>(counts.get(facet.getKey()).keySet()));
+            }
+        }
 
         // Urgency levels
         List<String> urgencyLevels = Arrays.stream(UrgencyLevel.values())
@@ -164,6 +237,8 @@ public class VolunteerService {
                 .collect(Collectors.toList());
         filterOptions.put("urgencyLevels", urgencyLevels);
 
+        filterOptions.put("counts", counts);
+        filterOptions.put("total", opportunityFacetService.countMatching(selected));
         return filterOptions;
     }
-}
\ No newline at end of file
+}
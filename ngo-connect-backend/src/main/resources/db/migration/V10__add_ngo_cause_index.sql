@@ -0,0 +1,5 @@
+-- Donation reports by cause: find the cause's NGOs, then range-scan
+-- donations(ngo_id, donation_date) for each. database/schema.sql already
+-- declares this index; databases created by ddl-auto only get it now that
+-- the NGO entity declares it too.
+CREATE INDEX idx_ngos_cause ON ngos(cause);
@@ -0,0 +1,17 @@
+-- Per (NGO, cause, day, status) donation count and amount, incremented in the
+-- donation's own transaction. Backfill with POST /api/admin/donations/rollups/rebuild
+-- (also done automatically on startup while the table is empty).
+CREATE TABLE donation_daily_rollups (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    ngo_id BIGINT NOT NULL,
+    cause VARCHAR(100) NOT NULL,
+    rollup_date DATE NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    donation_count BIGINT NOT NULL,
+    total_amount DOUBLE NOT NULL,
+    updated_at DATETIME NOT NULL,
+    CONSTRAINT uk_donation_rollups_ngo_date_status_cause UNIQUE (ngo_id, rollup_date, status, cause)
+);
+
+CREATE INDEX idx_donation_rollups_cause_date ON donation_daily_rollups(cause, rollup_date);
+CREATE INDEX idx_donation_rollups_date ON donation_daily_rollups(rollup_date);
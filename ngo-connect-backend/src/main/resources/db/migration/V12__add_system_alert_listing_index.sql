@@ -0,0 +1,2 @@
+-- Suspicious-pattern listing: newest unresolved alerts of one type
+CREATE INDEX idx_system_alerts_type_resolved_created ON system_alerts(alert_type, is_resolved, created_at);
@@ -0,0 +1,2 @@
+-- Volunteer participation report: applications per opportunity within a date range
+CREATE INDEX idx_volunteer_applications_opportunity_applied ON volunteer_applications(opportunity_id, applied_date);
@@ -0,0 +1,2 @@
+-- Admin donation grid: newest donations first within a date range
+CREATE INDEX idx_donations_donation_date ON donations(donation_date, id);
@@ -0,0 +1,20 @@
+-- Striped running donation totals per NGO and donor. Each donation adds to one
+-- random stripe; a total is the sum of its owner's stripes.
+CREATE TABLE donation_total_shards (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    owner_type VARCHAR(10) NOT NULL,
+    owner_id BIGINT NOT NULL,
+    shard INT NOT NULL,
+    total_amount DOUBLE NOT NULL,
+    updated_at DATETIME NOT NULL,
+    CONSTRAINT uk_donation_total_shards_owner_shard UNIQUE (owner_type, owner_id, shard)
+);
+
+-- Seed stripe 0 from completed donations rather than the legacy total
+-- columns, which lost concurrent updates
+INSERT INTO donation_total_shards (owner_type, owner_id, shard, total_amount, updated_at)
+SELECT 'NGO', ngo_id, 0, SUM(amount), NOW() FROM donations
+WHERE status = 'COMPLETED' AND ngo_id IS NOT NULL GROUP BY ngo_id;
+INSERT INTO donation_total_shards (owner_type, owner_id, shard, total_amount, updated_at)
+SELECT 'DONOR', donor_id, 0, SUM(amount), NOW() FROM donations
+WHERE status = 'COMPLETED' AND donor_id IS NOT NULL GROUP BY donor_id;
@@ -0,0 +1,2 @@
+-- Donor history: keyset pages on (created_at, id) per donor
+CREATE INDEX idx_donations_donor_created_at ON donations(donor_id, created_at);
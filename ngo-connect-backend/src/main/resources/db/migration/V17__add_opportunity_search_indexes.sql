@@ -0,0 +1,3 @@
+-- Opportunity search: active listings in id order, and by cause
+CREATE INDEX idx_volunteer_opportunities_status_id ON volunteer_opportunities(status, id);
+CREATE INDEX idx_volunteer_opportunities_status_cause ON volunteer_opportunities(status, cause);
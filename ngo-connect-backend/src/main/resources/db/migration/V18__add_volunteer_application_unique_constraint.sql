@@ -0,0 +1,22 @@
+-- One application per volunteer and opportunity, enforced by the database
+-- instead of a lookup before insert. Duplicates left by earlier concurrent
+-- signups are removed first, keeping each pair's oldest application.
+DELETE va FROM volunteer_applications va
+JOIN volunteer_applications earlier
+    ON earlier.volunteer_id = va.volunteer_id
+    AND earlier.opportunity_id = va.opportunity_id
+    AND earlier.id < va.id;
+
+ALTER TABLE volunteer_applications
+    ADD CONSTRAINT uk_volunteer_applications_volunteer_opportunity UNIQUE (volunteer_id, opportunity_id);
+
+-- Recount seats from the applications that still hold one. This returns the
+-- seats of the duplicates removed above and corrects counts that drifted
+-- under the old read-modify-write increment, and leaves no NULL counts for
+-- the conditional seat update to skip. A seat is released only when a
+-- pending application is rejected or cancelled, so completed ones keep theirs.
+UPDATE volunteer_opportunities v
+SET volunteers_applied = (
+    SELECT COUNT(*) FROM volunteer_applications va
+    WHERE va.opportunity_id = v.id AND va.status IN ('PENDING', 'APPROVED', 'COMPLETED')
+);
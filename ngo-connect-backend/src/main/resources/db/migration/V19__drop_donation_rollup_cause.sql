@@ -0,0 +1,25 @@
+-- Rollup rows were keyed on the NGO's cause at recording time, so an NGO
+-- that changed cause was split across two keys and cause summaries disagreed
+-- with the cause report's donation rows, which use the current cause. Merge
+-- each NGO's rows per (day, status) and drop the column; cause summaries now
+-- join ngos instead.
+CREATE TABLE donation_daily_rollups_merged AS
+SELECT ngo_id, rollup_date, status, SUM(donation_count) AS donation_count,
+    SUM(total_amount) AS total_amount, MAX(updated_at) AS updated_at
+FROM donation_daily_rollups
+GROUP BY ngo_id, rollup_date, status;
+
+DELETE FROM donation_daily_rollups;
+
+DROP INDEX idx_donation_rollups_cause_date ON donation_daily_rollups;
+
+ALTER TABLE donation_daily_rollups
+    DROP INDEX uk_donation_rollups_ngo_date_status_cause,
+    DROP COLUMN cause,
+    ADD CONSTRAINT uk_donation_rollups_ngo_date_status UNIQUE (ngo_id, rollup_date, status);
+
+INSERT INTO donation_daily_rollups (ngo_id, rollup_date, status, donation_count, total_amount, updated_at)
+SELECT ngo_id, rollup_date, status, donation_count, total_amount, updated_at
+FROM donation_daily_rollups_merged;
+
+DROP TABLE donation_daily_rollups_merged;
@@ -0,0 +1,10 @@
+-- Platform statistics now hold DAILY snapshots plus WEEKLY and MONTHLY rollups
+ALTER TABLE platform_statistics
+ADD COLUMN granularity VARCHAR(10) NOT NULL DEFAULT 'DAILY';
+
+-- One row per date and granularity instead of one row per date
+ALTER TABLE platform_statistics DROP INDEX unique_stat_date;
+ALTER TABLE platform_statistics
+ADD CONSTRAINT uk_platform_stats_date_granularity UNIQUE (stat_date, granularity);
+
+CREATE INDEX idx_platform_stats_granularity_date ON platform_statistics(granularity, stat_date);
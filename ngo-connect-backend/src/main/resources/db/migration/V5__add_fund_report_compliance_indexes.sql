@@ -0,0 +1,5 @@
+-- Support the missing-fund-report anti-join: donations and both report tables
+-- are probed per NGO within a date window
+CREATE INDEX idx_donations_ngo_donation_date ON donations(ngo_id, donation_date);
+CREATE INDEX idx_fund_util_reports_ngo_date ON fund_utilization_reports(ngo_id, report_date);
+CREATE INDEX idx_fund_reports_ngo_reported_at ON fund_reports(ngo_id, reported_at);
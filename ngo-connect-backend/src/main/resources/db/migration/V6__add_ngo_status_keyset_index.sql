@@ -0,0 +1,2 @@
+-- Keyset pagination of the admin NGO listing filtered by status (newest id first)
+CREATE INDEX idx_ngos_status_id ON ngos(status, id);
@@ -0,0 +1,4 @@
+-- Admin user search: equality filters on type/status, newest id first
+CREATE INDEX idx_users_type_status_id ON users(user_type, is_blocked, email_verified, id);
+-- Name prefix search (email prefixes use the unique email index)
+CREATE INDEX idx_users_full_name ON users(full_name);
@@ -0,0 +1,3 @@
+-- Per-user activity summary: latest donations and applications of one user
+CREATE INDEX idx_donations_donor_donation_date ON donations(donor_id, donation_date);
+CREATE INDEX idx_volunteer_applications_volunteer_applied ON volunteer_applications(volunteer_id, applied_date);
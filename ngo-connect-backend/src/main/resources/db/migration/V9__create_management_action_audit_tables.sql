@@ -0,0 +1,28 @@
+-- Append-only audit log of admin actions on NGOs and users
+CREATE TABLE IF NOT EXISTS ngo_management_actions (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    ngo_id BIGINT NOT NULL,
+    admin_id BIGINT,
+    action_type VARCHAR(30) NOT NULL,
+    reason TEXT,
+    previous_status VARCHAR(50),
+    new_status VARCHAR(50),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS user_management_actions (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    admin_id BIGINT,
+    action_type VARCHAR(30) NOT NULL,
+    reason TEXT,
+    previous_status VARCHAR(50),
+    new_status VARCHAR(50),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- History per NGO / user, newest first
+CREATE INDEX idx_ngo_management_actions_ngo_id_id ON ngo_management_actions(ngo_id, id);
+CREATE INDEX idx_ngo_management_actions_admin_id ON ngo_management_actions(admin_id);
+CREATE INDEX idx_user_management_actions_user_id_id ON user_management_actions(user_id, id);
+CREATE INDEX idx_user_management_actions_admin_id ON user_management_actions(admin_id);
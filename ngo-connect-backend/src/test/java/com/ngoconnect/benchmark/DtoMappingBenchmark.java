@@ -0,0 +1,123 @@
+package com.ngoconnect.benchmark;
+
+import com.ngoconnect.dto.DonationDTO;
+import com.ngoconnect.dto.NGODTO;
+import com.ngoconnect.entity.Donation;
+import com.ngoconnect.entity.DonationStatus;
+import com.ngoconnect.entity.NGO;
+import com.ngoconnect.entity.PaymentMethod;
+import com.ngoconnect.entity.User;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.convention.MatchingStrategies;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per-object cost of DonationDTO.fromEntity against the reflective
+ * ModelMapper path it replaced (STRICT matching, private field access, the
+ * same type map, then the hand-set fields of the old convertToDTO). Not a unit test; run the main method from the IDE
+ * or with the test classpath, e.g.
+ *
+ *   java -cp target/test-classes:target/classes:$(mvn -q dependency:build-classpath \
+ *       -Dmdep.outputFile=/dev/stdout) com.ngoconnect.benchmark.DtoMappingBenchmark
+ */
+public class DtoMappingBenchmark {
+
+    private static final int OBJECTS = 10_000;
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int MEASURED_ROUNDS = 20;
+
+    // Keeps results reachable so the JIT cannot drop the mapping work
+    private static volatile Object sink;
+
+    public static void main(String[] args) {
+        List<Donation> donations = donations();
+        ModelMapper modelMapper = legacyModelMapper();
+
+        double reflective = measure("ModelMapper", () -> {
+            for (Donation donation : donations) {
+                // The old DonationService.convertToDTO: reflective map, then the
+                // donor, NGO and pledge type fields by hand
+                DonationDTO dto = modelMapper.map(donation, DonationDTO.class);
+                dto.setUserId(donation.getDonor().getId());
+                dto.setDonorName(donation.getDonor().getFullName());
+                dto.setDonorEmail(donation.getDonor().getEmail());
+                dto.setNgoId(donation.getNgo().getId());
+                NGODTO ngoDTO = new NGODTO();
+                ngoDTO.setId(donation.getNgo().getId());
+                ngoDTO.setOrganizationName(donation.getNgo().getOrganizationName());
+                dto.setNgo(ngoDTO);
+                dto.setPledgeType(donation.getPledgeType().name());
+                sink = dto;
+            }
+        });
+        double direct = measure("DonationDTO.fromEntity", () -> {
+            for (Donation donation : donations) {
+                sink = DonationDTO.fromEntity(donation);
+            }
+        });
+        System.out.printf("fromEntity is %.1fx faster per object%n", reflective / direct);
+    }
+
+    private static double measure(String name, Runnable round) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            round.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            round.run();
+        }
+        double nsPerObject = (double) (System.nanoTime() - start) / ((long) MEASURED_ROUNDS * OBJECTS);
+        System.out.printf("%-24s %10.1f ns/object%n", name, nsPerObject);
+        return nsPerObject;
+    }
+
+    private static ModelMapper legacyModelMapper() {
+        ModelMapper modelMapper = new ModelMapper();
+        modelMapper.getConfiguration()
+                .setMatchingStrategy(MatchingStrategies.STRICT)
+                .setFieldMatchingEnabled(true)
+                .setSkipNullEnabled(true)
+                .setFieldAccessLevel(org.modelmapper.config.Configuration.AccessLevel.PRIVATE);
+        modelMapper.typeMap(Donation.class, DonationDTO.class).addMappings(mapper -> {
+            mapper.map(Donation::getId, DonationDTO::setId);
+            mapper.map(Donation::getAmount, DonationDTO::setAmount);
+            mapper.map(Donation::getDonorMessage, DonationDTO::setDonorMessage);
+            mapper.map(Donation::getDonationDate, DonationDTO::setDonationDate);
+            mapper.skip(DonationDTO::setDonorName);
+            mapper.skip(DonationDTO::setDonorEmail);
+            mapper.skip(DonationDTO::setUserId);
+        });
+        return modelMapper;
+    }
+
+    private static List<Donation> donations() {
+        List<Donation> donations = new ArrayList<>(OBJECTS);
+        for (int i = 0; i < OBJECTS; i++) {
+            User donor = new User();
+            donor.setId((long) (i % 500));
+            donor.setFullName("Donor " + i);
+            donor.setEmail("donor" + i + "@example.com");
+
+            NGO ngo = new NGO();
+            ngo.setId((long) (i % 50));
+            ngo.setOrganizationName("NGO " + (i % 50));
+
+            Donation donation = new Donation();
+            donation.setId((long) i);
+            donation.setDonor(donor);
+            donation.setNgo(ngo);
+            donation.setAmount(100.0 + i);
+            donation.setPaymentMethod(PaymentMethod.UPI);
+            donation.setStatus(DonationStatus.COMPLETED);
+            donation.setTransactionId("TX-" + i);
+            donation.setDonationDate(LocalDateTime.now());
+            donation.setCreatedAt(LocalDateTime.now());
+            donation.setUpdatedAt(LocalDateTime.now());
+            donations.add(donation);
+        }
+        return donations;
+    }
+}
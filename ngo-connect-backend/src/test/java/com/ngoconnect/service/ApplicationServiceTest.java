@@ -0,0 +1,273 @@
+package com.ngoconnect.service;
+
+import com.ngoconnect.dto.ApplicationRequest;
+import com.ngoconnect.entity.ApplicationStatus;
+import com.ngoconnect.entity.User;
+import com.ngoconnect.entity.VolunteerApplication;
+import com.ngoconnect.entity.VolunteerOpportunity;
+import com.ngoconnect.repository.UserRepository;
+import com.ngoconnect.repository.VolunteerApplicationRepository;
+import com.ngoconnect.repository.VolunteerOpportunityRepository;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Concurrency stress tests for seat reservation. The repositories are
+ * stubbed with the semantics the database gives their statements: the
+ * conditional seat update and the status update are atomic compare-and-set
+ * operations, and the (volunteer_id, opportunity_id) unique constraint
+ * rejects a second insert. Every findById returns a fresh snapshot, as each
+ * transaction reads its own copy of the row.
+ */
+@ExtendWith(MockitoExtension.class)
+class ApplicationServiceTest {
+
+    private static final long OPPORTUNITY_ID = 7L;
+    private static final int THREADS = 64;
+
+    @Mock
+    private VolunteerApplicationRepository applicationRepository;
+
+    @Mock
+    private VolunteerOpportunityRepository opportunityRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private ApplicationService applicationService;
+
+    // The opportunity row's volunteers_applied column
+    private final AtomicInteger volunteersApplied = new AtomicInteger();
+    // Unique (volunteer_id, opportunity_id) index
+    private final Map<Long, Long> applicationsByVolunteer = new ConcurrentHashMap<>();
+    private final AtomicLong nextApplicationId = new AtomicLong(1);
+
+    @BeforeEach
+    void setUp() {
+        volunteersApplied.set(0);
+        applicationsByVolunteer.clear();
+    }
+
+    @Test
+    void submitApplication_ThousandsOfConcurrentApplicants_NeverOversubscribes() throws Exception {
+        // Arrange
+        int seats = 100;
+        int applicants = 5000;
+        stubSubmission(seats);
+
+        // Act
+        List<Object> outcomes = runConcurrently(applicants,
+                i -> () -> applicationService.submitApplication(request((long) i + 1)));
+
+        // Assert
+        long accepted = outcomes.stream().filter(VolunteerApplication.class::isInstance).count();
+        long fullyBooked = outcomes.stream()
+                .filter(o -> o instanceof IllegalStateException
+                        && "This opportunity is fully booked".equals(((Exception) o).getMessage()))
+                .count();
+        assertEquals(seats, accepted);
+        assertEquals(applicants - seats, fullyBooked);
+        assertEquals(seats, volunteersApplied.get());
+        // The count is never written back from a stale entity
+        verify(opportunityRepository, never()).save(any());
+    }
+
+    @Test
+    void submitApplication_SameVolunteerConcurrently_AcceptsOnce() throws Exception {
+        // Arrange
+        stubSubmission(1000);
+
+        // Act
+        List<Object> outcomes = runConcurrently(500, i -> () -> applicationService.submitApplication(request(42L)));
+
+        // Assert
+        long accepted = outcomes.stream().filter(VolunteerApplication.class::isInstance).count();
+        long duplicates = outcomes.stream()
+                .filter(o -> o instanceof IllegalStateException
+                        && "You have already applied for this opportunity".equals(((Exception) o).getMessage()))
+                .count();
+        assertEquals(1, accepted);
+        assertEquals(499, duplicates);
+        assertEquals(1, volunteersApplied.get());
+        verify(applicationRepository, never()).findByVolunteerIdAndOpportunityId(anyLong(), anyLong());
+    }
+
+    @Test
+    void cancelApplication_ConcurrentCancels_ReleaseSeatOnce() throws Exception {
+        // Arrange
+        AtomicReference<ApplicationStatus> status = new AtomicReference<>(ApplicationStatus.PENDING);
+        volunteersApplied.set(5);
+        VolunteerOpportunity opportunity = opportunity(10);
+        // Every request reads the application before any of them has committed
+        when(applicationRepository.findById(1L)).thenAnswer(invocation -> {
+            VolunteerApplication application = new VolunteerApplication();
+            application.setId(1L);
+            application.setOpportunity(opportunity);
+            application.setStatus(ApplicationStatus.PENDING);
+            return Optional.of(application);
+        });
+        when(applicationRepository.updateStatusIfCurrent(eq(1L), eq(ApplicationStatus.PENDING),
+                eq(ApplicationStatus.CANCELLED), any(LocalDateTime.class)))
+                .thenAnswer(invocation -> status.compareAndSet(ApplicationStatus.PENDING,
+                        ApplicationStatus.CANCELLED) ? 1 : 0);
+        when(opportunityRepository.releaseSeat(OPPORTUNITY_ID))
+                .thenAnswer(invocation -> volunteersApplied.getAndUpdate(n -> n > 0 ? n - 1 : n) > 0 ? 1 : 0);
+
+        // Act
+        List<Object> outcomes = runConcurrently(200, i -> () -> {
+            applicationService.cancelApplication(1L);
+            return "cancelled";
+        });
+
+        // Assert
+        assertEquals(1, outcomes.stream().filter("cancelled"::equals).count());
+        assertEquals(4, volunteersApplied.get());
+        assertEquals(ApplicationStatus.CANCELLED, status.get());
+        verify(opportunityRepository, times(1)).releaseSeat(OPPORTUNITY_ID);
+    }
+
+    @Test
+    void submitApplication_OtherIntegrityViolation_IsNotReportedAsDuplicate() {
+        // Arrange
+        when(opportunityRepository.findById(OPPORTUNITY_ID)).thenReturn(Optional.of(opportunity(10)));
+        when(userRepository.findById(42L)).thenReturn(Optional.of(new User()));
+        DataIntegrityViolationException notNull = new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("could not execute statement",
+                        new SQLIntegrityConstraintViolationException("Column 'phone' cannot be null"), null));
+        when(applicationRepository.saveAndFlush(any(VolunteerApplication.class))).thenThrow(notNull);
+
+        // Act & Assert
+        assertSame(notNull, assertThrows(DataIntegrityViolationException.class,
+                () -> applicationService.submitApplication(request(42L))));
+        verify(opportunityRepository, never()).reserveSeat(anyLong());
+    }
+
+    private void stubSubmission(int seats) {
+        when(opportunityRepository.findById(OPPORTUNITY_ID))
+                .thenAnswer(invocation -> Optional.of(opportunity(seats)));
+        when(userRepository.findById(anyLong())).thenAnswer(invocation -> {
+            User volunteer = new User();
+            volunteer.setId(invocation.getArgument(0));
+            return Optional.of(volunteer);
+        });
+        when(applicationRepository.saveAndFlush(any(VolunteerApplication.class))).thenAnswer(invocation -> {
+            VolunteerApplication application = invocation.getArgument(0);
+            long id = nextApplicationId.getAndIncrement();
+            if (applicationsByVolunteer.putIfAbsent(application.getVolunteer().getId(), id) != null) {
+                throw duplicateKey(application.getVolunteer().getId());
+            }
+            application.setId(id);
+            return application;
+        });
+        when(opportunityRepository.reserveSeat(OPPORTUNITY_ID)).thenAnswer(invocation -> {
+            // UPDATE ... SET volunteers_applied = volunteers_applied + 1
+            //   WHERE volunteers_applied < volunteers_needed
+            int before = volunteersApplied.getAndUpdate(n -> n < seats ? n + 1 : n);
+            return before < seats ? 1 : 0;
+        });
+    }
+
+    /**
+     * Run count tasks on THREADS threads released together; each outcome is
+     * the task's result or the exception it threw
+     */
+    private static List<Object> runConcurrently(int count, IntFunction<Callable<Object>> task)
+            throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Object>> futures = new ArrayList<>(count);
+        try {
+            for (int i = 0; i < count; i++) {
+                Callable<Object> callable = task.apply(i);
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        return callable.call();
+                    } catch (RuntimeException e) {
+                        return e;
+                    }
+                }));
+            }
+            start.countDown();
+            List<Object> outcomes = new ArrayList<>(count);
+            for (Future<Object> future : futures) {
+                outcomes.add(future.get(30, TimeUnit.SECONDS));
+            }
+            return outcomes;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * What saveAndFlush throws on a duplicate (volunteer_id, opportunity_id)
+     * under MySQL, whose dialect leaves the constraint name unset
+     */
+    private static DataIntegrityViolationException duplicateKey(Long volunteerId) {
+        String message = "Duplicate entry '" + volunteerId + "-" + OPPORTUNITY_ID
+                + "' for key 'volunteer_applications.uk_volunteer_applications_volunteer_opportunity'";
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("could not execute statement",
+                        new SQLIntegrityConstraintViolationException(message), null));
+    }
+
+    private VolunteerOpportunity opportunity(int seats) {
+        VolunteerOpportunity opportunity = new VolunteerOpportunity();
+        opportunity.setId(OPPORTUNITY_ID);
+        opportunity.setIsActive(true);
+        opportunity.setVolunteersNeeded(seats);
+        opportunity.setVolunteersApplied(volunteersApplied.get());
+        return opportunity;
+    }
+
+    private static ApplicationRequest request(Long volunteerId) {
+        ApplicationRequest request = new ApplicationRequest();
+        request.setOpportunityId(OPPORTUNITY_ID);
+        request.setVolunteerId(volunteerId);
+        request.setFullName("Volunteer " + volunteerId);
+        request.setEmail("volunteer" + volunteerId + "@example.com");
+        request.setPhone("9999999999");
+        request.setAddress("Pune");
+        request.setExperience("Tutoring");
+        request.setMotivation("Helping out");
+        request.setAvailability("Weekends");
+        request.setEmergencyContact("Contact");
+        request.setEmergencyPhone("8888888888");
+        return request;
+    }
+}
@@ -0,0 +1,36 @@
+package com.ngoconnect.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DonationExportServiceTest {
+
+    @Test
+    void csvField_FormulaPrefix_IsNeutralised() {
+        assertEquals("'=cmd|' /C calc'!A0", DonationExportService.csvField("=cmd|' /C calc'!A0"));
+        assertEquals("'+1", DonationExportService.csvField("+1"));
+        assertEquals("'-2+3", DonationExportService.csvField("-2+3"));
+        assertEquals("'@SUM(A1)", DonationExportService.csvField("@SUM(A1)"));
+        assertEquals("'\tcmd", DonationExportService.csvField("\tcmd"));
+        assertEquals("\"'\rcmd\"", DonationExportService.csvField("\rcmd"));
+    }
+
+    @Test
+    void csvField_FormulaWithComma_IsNeutralisedThenQuoted() {
+        assertEquals("\"'=1,2\"", DonationExportService.csvField("=1,2"));
+        assertEquals("\"'=HYPERLINK(\"\"http://x\"\")\"",
+                DonationExportService.csvField("=HYPERLINK(\"http://x\")"));
+    }
+
+    @Test
+    void csvField_PlainTextAndNumbers_AreUnchanged() {
+        assertEquals("Thanks for the work", DonationExportService.csvField("Thanks for the work"));
+        assertEquals("a=b", DonationExportService.csvField("a=b"));
+        assertEquals("-5.00", DonationExportService.csvField(new BigDecimal("-5.00")));
+        assertEquals("", DonationExportService.csvField(null));
+        assertEquals("", DonationExportService.csvField(""));
+    }
+}
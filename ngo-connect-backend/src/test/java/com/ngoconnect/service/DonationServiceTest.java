@@ -1,5 +1,6 @@
 package com.ngoconnect.service;
 
+import com.ngoconnect.dto.CursorPage;
 import com.ngoconnect.dto.DonationDTO;
 import com.ngoconnect.dto.NGODonationResponse;
 import com.ngoconnect.entity.*;
@@ -13,10 +14,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -37,7 +40,13 @@ class DonationServiceTest {
     private NGORepository ngoRepository;
 
     @Mock
-    private ModelMapper modelMapper;
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private DonationRollupService donationRollupService;
+
+    @Mock
+    private DonationTotalsService donationTotalsService;
 
     @InjectMocks
     private DonationService donationService;
@@ -90,7 +99,6 @@ class DonationServiceTest {
         when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
         when(ngoRepository.findById(1L)).thenReturn(Optional.of(testNGO));
         when(donationRepository.save(any(Donation.class))).thenReturn(testDonation);
-        when(modelMapper.map(any(Donation.class), eq(DonationDTO.class))).thenReturn(testDonationDTO);
 
         // Act
         DonationDTO result = donationService.createDonation(testDonationDTO);
@@ -104,6 +112,10 @@ class DonationServiceTest {
         verify(userRepository, times(1)).findById(1L);
         verify(ngoRepository, times(1)).findById(1L);
         verify(donationRepository, times(1)).save(any(Donation.class));
+        verify(donationRollupService, times(1)).record(testDonation);
+        verify(donationTotalsService, times(1)).add(DonationTotalShard.OwnerType.DONOR, 1L, 100.0);
+        verify(donationTotalsService, times(1)).add(DonationTotalShard.OwnerType.NGO, 1L, 100.0);
+        verify(userRepository, never()).save(any(User.class));
     }
 
     @Test
@@ -147,7 +159,6 @@ class DonationServiceTest {
     void getDonationById_ValidId_ReturnsDonationDTO() {
         // Arrange
         when(donationRepository.findById(1L)).thenReturn(Optional.of(testDonation));
-        when(modelMapper.map(any(Donation.class), eq(DonationDTO.class))).thenReturn(testDonationDTO);
 
         // Act
         DonationDTO result = donationService.getDonationById(1L);
@@ -161,35 +172,58 @@ class DonationServiceTest {
     @Test
     void getDonationsByNgoId_ValidId_ReturnsNGODonationResponses() {
         // Arrange
-        when(donationRepository.findByNgoId(1L)).thenReturn(List.of(testDonation));
-        when(ngoRepository.existsById(1L)).thenReturn(true);
-
-        // Create a mock response
-        NGODonationResponse mockResponse = new NGODonationResponse();
-        mockResponse.setId(testDonation.getId());
-        mockResponse.setAmount(testDonation.getAmount());
-        mockResponse.setPaymentMethod(testDonation.getPaymentMethod().name());
-        mockResponse.setStatus(testDonation.getStatus().name());
-        mockResponse.setDonationDate(testDonation.getDonationDate());
-        mockResponse.setCreatedAt(testDonation.getCreatedAt());
-        
-        NGODonationResponse.DonorInfo donorInfo = new NGODonationResponse.DonorInfo();
-        donorInfo.setId(testUser.getId());
-        donorInfo.setName(testUser.getFullName());
-        donorInfo.setEmail(testUser.getEmail());
-        mockResponse.setDonor(donorInfo);
+        NGODonationResponse row = new NGODonationResponse(testDonation.getId(), testDonation.getAmount(),
+                testDonation.getPaymentMethod(), testDonation.getStatus(), testDonation.getTransactionId(),
+                testDonation.getDonationDate(), testDonation.getCreatedAt(), testUser.getId(),
+                testUser.getFullName(), testUser.getEmail());
+        when(donationRepository.findNgoDonationPage(eq(1L), any(LocalDateTime.class), eq(Long.MAX_VALUE),
+                any(Pageable.class))).thenReturn(List.of(row));
 
         // Act
-        List<NGODonationResponse> responses = donationService.getDonationsByNgoId(1L);
+        CursorPage<NGODonationResponse> page = donationService.getDonationsByNgoId(1L, null, 50);
 
         // Assert
+        List<NGODonationResponse> responses = page.getContent();
         assertNotNull(responses);
-        assertFalse(responses.isEmpty());
         assertEquals(1, responses.size());
+        assertFalse(page.isHasNext());
+        assertNull(page.getNextCursor());
         assertEquals(testDonation.getId(), responses.get(0).getId());
+        assertEquals(testDonation.getStatus().name(), responses.get(0).getStatus());
         assertNotNull(responses.get(0).getDonor());
         assertEquals(testUser.getId(), responses.get(0).getDonor().getId());
         assertEquals(testUser.getFullName(), responses.get(0).getDonor().getName());
         assertEquals(testUser.getEmail(), responses.get(0).getDonor().getEmail());
     }
+
+    @Test
+    void getDonationHistory_MoreRowsThanPage_ReturnsCursorAndSummary() {
+        // Arrange
+        Donation older = new Donation();
+        older.setId(2L);
+        older.setDonor(testUser);
+        older.setNgo(testNGO);
+        older.setAmount(50.0);
+        older.setPaymentMethod(PaymentMethod.CREDIT_CARD);
+        older.setPledgeType(Donation.PledgeType.ONE_TIME);
+        older.setStatus(DonationStatus.COMPLETED);
+        older.setCreatedAt(testDonation.getCreatedAt().minusDays(1));
+        when(donationRepository.findDonorHistoryPage(eq(1L), eq(DonationStatus.COMPLETED), any(LocalDateTime.class),
+                any(LocalDateTime.class), any(LocalDateTime.class), eq(Long.MAX_VALUE), any(Pageable.class)))
+                .thenReturn(List.of(testDonation, older));
+        when(donationRepository.getTotalDonatedByDonor(1L)).thenReturn(150.0);
+        when(donationRepository.getCountOfDonationsByDonor(1L)).thenReturn(2L);
+
+        // Act
+        Map<String, Object> page = donationService.getDonationHistory(1L, DonationStatus.COMPLETED, null, null,
+                null, 1);
+
+        // Assert
+        assertEquals(1, ((List<?>) page.get("content")).size());
+        assertEquals(true, page.get("hasNext"));
+        assertEquals(testDonation.getCreatedAt() + "_" + testDonation.getId(), page.get("nextCursor"));
+        Map<?, ?> summary = (Map<?, ?>) page.get("summary");
+        assertEquals(150.0, summary.get("totalAmount"));
+        assertEquals(2L, summary.get("count"));
+    }
 }
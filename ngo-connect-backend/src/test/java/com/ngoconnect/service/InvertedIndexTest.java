@@ -0,0 +1,58 @@
+package com.ngoconnect.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InvertedIndexTest {
+
+    private InvertedIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new InvertedIndex();
+        index.put(1L, terms("Beach Cleanup Drive", "Help clean the beach"));
+        index.put(2L, terms("Teaching Assistant", "Teach children to read near the beach"));
+        index.put(3L, terms("Food Bank Helper", "Sort and pack food"));
+    }
+
+    @Test
+    void search_TitleMatch_RanksAboveDescriptionMatch() {
+        assertEquals(List.of(1L, 2L), index.search("beach", 10));
+    }
+
+    @Test
+    void search_PartialWord_MatchesByPrefix() {
+        assertEquals(List.of(2L), index.search("teach", 10));
+        assertEquals(List.of(3L), index.search("FOOD ba", 10));
+    }
+
+    @Test
+    void search_EveryTokenMustMatch() {
+        assertEquals(List.of(1L), index.search("beach clean", 10));
+        assertTrue(index.search("beach food", 10).isEmpty());
+    }
+
+    @Test
+    void put_ExistingDocument_ReplacesItsTerms() {
+        index.put(1L, terms("River Cleanup", "Clear the riverbank"));
+        index.remove(3L);
+
+        assertEquals(List.of(2L), index.search("beach", 10));
+        assertEquals(List.of(1L), index.search("river", 10));
+        assertTrue(index.search("food", 10).isEmpty());
+        assertEquals(2, index.size());
+    }
+
+    private static Map<String, Integer> terms(String title, String description) {
+        Map<String, Integer> terms = new HashMap<>();
+        InvertedIndex.addTerms(terms, title, 3);
+        InvertedIndex.addTerms(terms, description, 1);
+        return terms;
+    }
+}
@@ -0,0 +1,82 @@
+package com.ngoconnect.service;
+
+import com.ngoconnect.entity.OpportunityStatus;
+import com.ngoconnect.entity.UrgencyLevel;
+import com.ngoconnect.entity.VolunteerOpportunity;
+import com.ngoconnect.event.OpportunityChangedEvent;
+import com.ngoconnect.service.OpportunityFacetService.Facet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OpportunityFacetServiceTest {
+
+    private OpportunityFacetService facetService;
+
+    @BeforeEach
+    void setUp() {
+        facetService = new OpportunityFacetService();
+        publish(OpportunityChangedEvent.statusChanged(opportunity(1L, "Education", "Mumbai", UrgencyLevel.HIGH), false));
+        publish(OpportunityChangedEvent.statusChanged(opportunity(2L, "Education", "Pune", UrgencyLevel.LOW), false));
+        publish(OpportunityChangedEvent.statusChanged(opportunity(3L, "Health", "Mumbai", UrgencyLevel.HIGH), false));
+    }
+
+    @Test
+    void getCounts_NoSelection_ReturnsTotals() {
+        Map<String, Map<String, Integer>> counts = facetService.getCounts(Map.of());
+
+        assertEquals(Map.of("Education", 2, "Health", 1), counts.get("causes"));
+        assertEquals(Map.of("Mumbai", 2, "Pune", 1), counts.get("locations"));
+        assertEquals(3, facetService.countMatching(Map.of()));
+    }
+
+    @Test
+    void getCounts_WithSelection_CountsOtherFacetsOverMatchingRows() {
+        Map<Facet, String> selected = new EnumMap<>(Facet.class);
+        selected.put(Facet.CAUSE, "education");
+        selected.put(Facet.LOCATION, "mum");
+
+        Map<String, Map<String, Integer>> counts = facetService.getCounts(selected);
+
+        // Causes are counted ignoring the cause filter, locations ignoring the location filter
+        assertEquals(Map.of("Education", 1, "Health", 1), counts.get("causes"));
+        assertEquals(Map.of("Mumbai", 1, "Pune", 1), counts.get("locations"));
+        assertEquals(Map.of("HIGH", 1, "LOW", 0), counts.get("urgencyLevels"));
+        assertEquals(1, facetService.countMatching(selected));
+    }
+
+    @Test
+    void onOpportunityChanged_RejectedOrDeactivated_RemovesCounts() {
+        VolunteerOpportunity rejected = opportunity(3L, "Health", "Mumbai", UrgencyLevel.HIGH);
+        rejected.setStatus(OpportunityStatus.REJECTED);
+        publish(OpportunityChangedEvent.statusChanged(rejected, true));
+        VolunteerOpportunity deactivated = opportunity(2L, "Education", "Pune", UrgencyLevel.LOW);
+        deactivated.setIsActive(false);
+        publish(OpportunityChangedEvent.updated(deactivated, true));
+
+        Map<String, Map<String, Integer>> counts = facetService.getCounts(Map.of());
+
+        assertEquals(Map.of("Education", 1), counts.get("causes"));
+        assertEquals(Map.of("Mumbai", 1), counts.get("locations"));
+    }
+
+    private void publish(OpportunityChangedEvent event) {
+        facetService.onOpportunityChanged(event);
+    }
+
+    private static VolunteerOpportunity opportunity(Long id, String cause, String location, UrgencyLevel urgency) {
+        VolunteerOpportunity opportunity = new VolunteerOpportunity();
+        opportunity.setId(id);
+        opportunity.setCause(cause);
+        opportunity.setLocation(location);
+        opportunity.setWorkType("Onsite");
+        opportunity.setTimeCommitment("Weekends");
+        opportunity.setUrgency(urgency);
+        opportunity.setStatus(OpportunityStatus.ACTIVE);
+        return opportunity;
+    }
+}
@@ -0,0 +1,163 @@
+package com.ngoconnect.service;
+
+import com.ngoconnect.dto.VolunteerOpportunityDTO;
+import com.ngoconnect.entity.OpportunityStatus;
+import com.ngoconnect.entity.UrgencyLevel;
+import com.ngoconnect.repository.VolunteerOpportunityRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VolunteerServiceTest {
+
+    @Mock
+    private VolunteerOpportunityRepository volunteerOpportunityRepository;
+
+    @Mock
+    private SearchIndexService searchIndexService;
+
+    @Mock
+    private OpportunityFacetService opportunityFacetService;
+
+    @InjectMocks
+    private VolunteerService volunteerService;
+
+    @Test
+    void getOpportunityListing_FullPage_RunsOneListingAndOneRequirementsQuery() {
+        // Arrange
+        List<VolunteerOpportunityDTO> rows = new ArrayList<>();
+        List<Object[]> requirements = new ArrayList<>();
+        for (long id = 100; id > 0; id--) {
+            rows.add(row(id));
+            requirements.add(new Object[] { id, "Requirement " + id });
+        }
+        when(volunteerOpportunityRepository.findListing(eq(OpportunityStatus.ACTIVE), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(rows, PageRequest.of(0, 100), true));
+        when(volunteerOpportunityRepository.findRequirementsByOpportunityIds(anyCollection()))
+                .thenReturn(requirements);
+
+        // Act
+        Map<String, Object> result = volunteerService.getOpportunityListing(0, 100);
+
+        // Assert
+        @SuppressWarnings("unchecked")
+        List<VolunteerOpportunityDTO> content = (List<VolunteerOpportunityDTO>) result.get("content");
+        assertEquals(100, content.size());
+        assertEquals(List.of("Requirement 100"), content.get(0).getRequirements());
+        assertEquals("Test NGO", content.get(0).getNgo());
+        assertEquals("HIGH", content.get(0).getUrgency());
+        assertEquals(true, result.get("hasNext"));
+        // Two queries per page, however many rows it holds
+        verify(volunteerOpportunityRepository).findListing(eq(OpportunityStatus.ACTIVE), any(Pageable.class));
+        verify(volunteerOpportunityRepository).findRequirementsByOpportunityIds(anyCollection());
+        verifyNoMoreInteractions(volunteerOpportunityRepository);
+    }
+
+    @Test
+    void getOpportunityListing_EmptyPage_SkipsRequirementsQuery() {
+        // Arrange
+        when(volunteerOpportunityRepository.findListing(eq(OpportunityStatus.ACTIVE), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(), PageRequest.of(3, 20), false));
+
+        // Act
+        Map<String, Object> result = volunteerService.getOpportunityListing(3, 20);
+
+        // Assert
+        assertTrue(((List<?>) result.get("content")).isEmpty());
+        assertEquals(false, result.get("hasNext"));
+        verify(volunteerOpportunityRepository).findListing(eq(OpportunityStatus.ACTIVE), any(Pageable.class));
+        verifyNoMoreInteractions(volunteerOpportunityRepository);
+    }
+
+    @Test
+    void getOpportunityListing_OversizedPage_CapsPageSize() {
+        // Arrange
+        when(volunteerOpportunityRepository.findListing(eq(OpportunityStatus.ACTIVE), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of()));
+
+        // Act
+        Map<String, Object> result = volunteerService.getOpportunityListing(-1, 10_000);
+
+        // Assert
+        assertEquals(0, result.get("page"));
+        assertEquals(100, result.get("size"));
+        verify(volunteerOpportunityRepository).findListing(OpportunityStatus.ACTIVE, PageRequest.of(0, 100));
+    }
+
+    @Test
+    void getListingETag_SameRows_SameTagOnEveryCall() {
+        // Arrange
+        LocalDateTime updatedAt = LocalDateTime.of(2026, 1, 1, 9, 0);
+        when(volunteerOpportunityRepository.findListingFingerprint(OpportunityStatus.ACTIVE))
+                .thenReturn(fingerprint(3L, 30L, updatedAt, updatedAt, 5L));
+
+        // Act
+        String first = volunteerService.getListingETag();
+        String second = volunteerService.getListingETag();
+
+        // Assert
+        assertEquals(first, second);
+        assertTrue(first.startsWith("\"") && first.endsWith("\""));
+    }
+
+    @Test
+    void getListingETag_ListedRowsChange_ChangesTag() {
+        // Arrange
+        LocalDateTime updatedAt = LocalDateTime.of(2026, 1, 1, 9, 0);
+        when(volunteerOpportunityRepository.findListingFingerprint(OpportunityStatus.ACTIVE))
+                .thenReturn(fingerprint(3L, 30L, updatedAt, updatedAt, 5L))
+                // A seat taken within the same second
+                .thenReturn(fingerprint(3L, 30L, updatedAt, updatedAt, 6L))
+                // An NGO shown in the listing edited
+                .thenReturn(fingerprint(3L, 30L, updatedAt, updatedAt.plusMinutes(1), 6L));
+
+        // Act
+        String initial = volunteerService.getListingETag();
+        String afterApplication = volunteerService.getListingETag();
+        String afterNgoEdit = volunteerService.getListingETag();
+
+        // Assert
+        assertNotEquals(initial, afterApplication);
+        assertNotEquals(afterApplication, afterNgoEdit);
+    }
+
+    @Test
+    void getListingETag_EmptyListing_ReturnsTag() {
+        // Arrange
+        when(volunteerOpportunityRepository.findListingFingerprint(OpportunityStatus.ACTIVE))
+                .thenReturn(fingerprint(0L, null, null, null, null));
+
+        // Act & Assert
+        assertNotNull(volunteerService.getListingETag());
+    }
+
+    private static List<Object[]> fingerprint(Long count, Long maxId, LocalDateTime maxUpdatedAt,
+            LocalDateTime maxNgoUpdatedAt, Long volunteersApplied) {
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[] { count, maxId, maxUpdatedAt, maxNgoUpdatedAt, volunteersApplied });
+        return rows;
+    }
+
+    private static VolunteerOpportunityDTO row(long id) {
+        return new VolunteerOpportunityDTO(id, "Opportunity " + id, "Description", "Education", "Pune",
+                "Weekends", "On-site", LocalDateTime.of(2026, 1, 1, 9, 0), null, 10, 2, UrgencyLevel.HIGH,
+                null, "Test NGO", null);
+    }
+}
@@ -6,6 +6,8 @@ import AdminNavigation from "./AdminNavigation";
 const DonationOversight = () => {
   const [donations, setDonations] = useState([]);
   const [loading, setLoading] = useState(true);
+  const [page, setPage] = useState(0);
+  const [hasNext, setHasNext] = useState(false);
   const token = localStorage.getItem("token");
 
   useEffect(() => {
@@ -16,9 +18,11 @@ const DonationOversight = () => {
           "http://localhost:8080/api/admin/donations",
           {
             headers: { Authorization: `Bearer ${token}` },
+            params: { page, size: 50 },
           }
         );
-        setDonations(response.data);
+        setDonations(response.data.content || []);
+        setHasNext(response.data.hasNext);
         setLoading(false);
       } catch (error) {
         toast.error("Failed to fetch donations.");
@@ -27,7 +31,7 @@ const DonationOversight = () => {
       }
     };
     fetchDonations();
-  }, [token]);
+  }, [token, page]);
 
   if (loading) {
     return <p className="text-center">Loading all donations...</p>;
@@ -72,7 +76,7 @@ const DonationOversight = () => {
                     <td>{donation.id}</td>
                     <td>{donation.donorName || "N/A"}</td>
                     <td>
-                      {donation.ngo ? donation.ngo.organizationName : "N/A"}
+                      {donation.ngoName || "N/A"}
                     </td>
                     <td>₹{donation.amount.toFixed(2)}</td>
                     <td>
@@ -88,6 +92,23 @@ const DonationOversight = () => {
               </tbody>
             </table>
           </div>
+          <div className="d-flex justify-content-between">
+            <button
+              className="btn btn-outline-primary btn-sm"
+              disabled={page === 0}
+              onClick={() => setPage(page - 1)}
+            >
+              Previous
+            </button>
+            <span className="text-muted">Page {page + 1}</span>
+            <button
+              className="btn btn-outline-primary btn-sm"
+              disabled={!hasNext}
+              onClick={() => setPage(page + 1)}
+            >
+              Next
+            </button>
+          </div>
         </div>
       </div>
     </div>
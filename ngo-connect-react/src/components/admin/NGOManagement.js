@@ -45,7 +45,7 @@ const NGOManagement = () => {
         }
       );
 
-      setNgos(response.data);
+      setNgos(response.data.content || []);
     } catch (error) {
       console.error("Error fetching NGOs:", error);
       setError("Failed to load NGO data. Please check your permissions.");
@@ -60,7 +60,7 @@ const UserManagement = () => {
         }
       );
 
-      setUsers(response.data);
+      setUsers(response.data.content || []);
     } catch (error) {
       console.error("Error fetching users:", error);
       setError("Failed to load user data. Please check your permissions.");
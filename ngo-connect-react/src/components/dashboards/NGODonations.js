@@ -20,6 +20,8 @@ const NGODonations = ({ ngoId }) => {
   const [donations, setDonations] = useState([]);
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState(null);
+  const [nextCursor, setNextCursor] = useState(null);
+  const [loadingMore, setLoadingMore] = useState(false);
 
   useEffect(() => {
     const fetchDonations = async () => {
@@ -51,7 +53,8 @@ const NGODonations = ({ ngoId }) => {
           throw new Error('Invalid response format from server');
         }
         
-        setDonations(Array.isArray(response.data) ? response.data : []);
+        setDonations(Array.isArray(response.data.content) ? response.data.content : []);
+        setNextCursor(response.data.nextCursor || null);
       } catch (err) {
         console.error('Error fetching donations:', {
           message: err.message,
@@ -77,6 +80,21 @@ const NGODonations = ({ ngoId }) => {
     }
   }, [ngoId]);
 
+  const loadMore = async () => {
+    if (!nextCursor) return;
+    try {
+      setLoadingMore(true);
+      const response = await donationAPI.getNGODonations(ngoId, nextCursor);
+      setDonations(prev => [...prev, ...(response.data.content || [])]);
+      setNextCursor(response.data.nextCursor || null);
+    } catch (err) {
+      console.error('Error loading more donations:', err);
+      setError(`Failed to load donations: ${err.response?.data?.error || err.message}`);
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
   const getStatusIcon = (status) => {
     switch (status) {
       case 'COMPLETED':
@@ -261,6 +279,13 @@ const NGODonations = ({ ngoId }) => {
                 ))}
               </tbody>
             </Table>
+            {nextCursor && (
+              <div className="text-center mt-3">
+                <Button variant="outline-primary" size="sm" onClick={loadMore} disabled={loadingMore}>
+                  {loadingMore ? <Spinner animation="border" size="sm" /> : 'Load more'}
+                </Button>
+              </div>
+            )}
           </div>
         )}
       </Card.Body>
@@ -5,11 +5,27 @@ import { toast } from 'react-toastify';
 import 'react-toastify/dist/ReactToastify.css';
 // Formatting utilities are now handled by native Date methods
 
+// Transform the API response to match the expected format
+const toHistoryRow = (donation) => ({
+  id: donation.id,
+  ngoName: donation.ngo?.organizationName || 'NGO',
+  amount: donation.amount,
+  date: donation.createdAt ? new Date(donation.createdAt).toISOString().split('T')[0] : new Date().toISOString().split('T')[0],
+  status: (donation.status || 'completed').toLowerCase(),
+  cause: donation.ngo?.cause || 'General',
+  message: donation.message || '',
+  paymentId: donation.paymentId || `DON-${donation.id || 'N/A'}`,
+  paymentMethod: donation.paymentMethod || 'card'
+});
+
 const DonationHistory = () => {
   const [donations, setDonations] = useState([]);
   const [filter, setFilter] = useState('all');
   const [isLoading, setIsLoading] = useState(true);
   const [error, setError] = useState(null);
+  const [nextCursor, setNextCursor] = useState(null);
+  const [summary, setSummary] = useState(null);
+  const [loadingMore, setLoadingMore] = useState(false);
 
   useEffect(() => {
     const fetchDonations = async () => {
@@ -28,7 +44,11 @@ const DonationHistory = () => {
         try {
           const data = await getDonationHistory(currentUser.id);
           
-          if (!data || data.length === 0) {
+          const content = data?.content || [];
+          setSummary(data?.summary || null);
+          setNextCursor(data?.nextCursor || null);
+
+          if (content.length === 0) {
             toast.update(toastId, {
               render: 'No donation history found',
               type: 'info',
@@ -40,18 +60,7 @@ const DonationHistory = () => {
             return;
           }
           
-          // Transform the API response to match the expected format
-          const formattedDonations = data.map(donation => ({
-            id: donation.id,
-            ngoName: donation.ngo?.organizationName || 'NGO',
-            amount: donation.amount,
-            date: donation.createdAt ? new Date(donation.createdAt).toISOString().split('T')[0] : new Date().toISOString().split('T')[0],
-            status: (donation.status || 'completed').toLowerCase(),
-            cause: donation.ngo?.cause || 'General',
-            message: donation.message || '',
-            paymentId: donation.paymentId || `DON-${donation.id || 'N/A'}`,
-            paymentMethod: donation.paymentMethod || 'card'
-          }));
+          const formattedDonations = content.map(toHistoryRow);
           
           setDonations(formattedDonations);
           
@@ -94,6 +103,22 @@ const DonationHistory = () => {
     };
   }, []);
 
+  const loadMore = async () => {
+    const currentUser = getCurrentUser();
+    if (!nextCursor || !currentUser?.id) return;
+    try {
+      setLoadingMore(true);
+      const data = await getDonationHistory(currentUser.id, nextCursor);
+      setDonations(prev => [...prev, ...(data?.content || []).map(toHistoryRow)]);
+      setNextCursor(data?.nextCursor || null);
+    } catch (err) {
+      console.error('Error loading more donations:', err);
+      toast.error('Failed to load more donations');
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
   const filteredDonations = donations.filter(donation => {
     if (filter === 'all') return true;
     return donation.status === filter;
@@ -196,6 +221,12 @@ const DonationHistory = () => {
         <div className="col-md-8">
           <h4>Your Donation History</h4>
           <p className="text-muted">Track all your charitable contributions</p>
+          {summary && (
+            <p className="mb-0">
+              <strong>{formatCurrency(summary.totalAmount)}</strong> donated across{' '}
+              <strong>{summary.count}</strong> completed donations
+            </p>
+          )}
         </div>
         <div className="col-md-4">
           <select
@@ -262,6 +293,13 @@ const DonationHistory = () => {
                   ))}
                 </tbody>
               </table>
+              {nextCursor && (
+                <div className="text-center mt-3">
+                  <button className="btn btn-outline-primary btn-sm" onClick={loadMore} disabled={loadingMore}>
+                    {loadingMore ? 'Loading...' : 'Load more'}
+                  </button>
+                </div>
+              )}
             </div>
           ) : (
             <div className="text-center py-5">
@@ -14,6 +14,8 @@ const VolunteerOpportunities = ({ onOpportunitySelect }) => {
   const [searchTerm, setSearchTerm] = useState("");
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState(null);
+  const [nextPage, setNextPage] = useState(null);
+  const [loadingMore, setLoadingMore] = useState(false);
 
   useEffect(() => {
     fetchOpportunities();
@@ -25,7 +27,9 @@ const VolunteerOpportunities = ({ onOpportunitySelect }) => {
       setError(null);
 
       const response = await volunteerAPI.getOpportunities();
-      const opportunitiesData = response.data || [];
+      const page = response.data;
+      const opportunitiesData = page?.content || [];
+      setNextPage(page?.hasNext ? page.page + 1 : null);
       console.log("API Response:", response);
       console.log("Opportunities Data:", opportunitiesData);
       setOpportunities(opportunitiesData);
@@ -48,6 +52,22 @@ const VolunteerOpportunities = ({ onOpportunitySelect }) => {
     }
   };
 
+  const loadMore = async () => {
+    if (nextPage === null) return;
+    try {
+      setLoadingMore(true);
+      const response = await volunteerAPI.getOpportunities(nextPage);
+      const page = response.data;
+      setOpportunities((prev) => [...prev, ...(page?.content || [])]);
+      setNextPage(page?.hasNext ? page.page + 1 : null);
+    } catch (error) {
+      console.error("Error loading more opportunities:", error);
+      toast.error("Failed to load more opportunities.");
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
   useEffect(() => {
     let filtered = opportunities;
 
@@ -306,6 +326,18 @@ const VolunteerOpportunities = ({ onOpportunitySelect }) => {
           ))
         )}
       </div>
+
+      {!loading && !error && nextPage !== null && (
+        <div className="text-center mt-3">
+          <button
+            className="btn btn-outline-primary"
+            onClick={loadMore}
+            disabled={loadingMore}
+          >
+            {loadingMore ? "Loading..." : "Load more"}
+          </button>
+        </div>
+      )}
     </div>
   );
 };
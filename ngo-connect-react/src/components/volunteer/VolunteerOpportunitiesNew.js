@@ -13,6 +13,8 @@ const VolunteerOpportunitiesNew = ({ onOpportunitySelect }) => {
   const [searchTerm, setSearchTerm] = useState("");
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState(null);
+  const [nextPage, setNextPage] = useState(null);
+  const [loadingMore, setLoadingMore] = useState(false);
 
   useEffect(() => {
     fetchOpportunities();
@@ -27,12 +29,14 @@ const VolunteerOpportunitiesNew = ({ onOpportunitySelect }) => {
       console.log("API Response:", response);
       console.log("API Response Data:", response.data);
 
-      if (response.data && response.data.length > 0) {
-        setOpportunities(response.data);
-        setFilteredOpportunities(response.data);
+      const page = response.data;
+      setNextPage(page?.hasNext ? page.page + 1 : null);
+      if (page?.content && page.content.length > 0) {
+        setOpportunities(page.content);
+        setFilteredOpportunities(page.content);
         console.log(
           "Successfully loaded",
-          response.data.length,
+          page.content.length,
           "opportunities from API"
         );
       } else {
@@ -55,6 +59,21 @@ const VolunteerOpportunitiesNew = ({ onOpportunitySelect }) => {
     }
   };
 
+  const loadMore = async () => {
+    if (nextPage === null) return;
+    try {
+      setLoadingMore(true);
+      const response = await volunteerAPI.getOpportunities(nextPage);
+      const page = response.data;
+      setOpportunities((prev) => [...prev, ...(page?.content || [])]);
+      setNextPage(page?.hasNext ? page.page + 1 : null);
+    } catch (error) {
+      console.error("Error loading more opportunities:", error);
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
   useEffect(() => {
     let filtered = opportunities;
 
@@ -332,6 +351,18 @@ const VolunteerOpportunitiesNew = ({ onOpportunitySelect }) => {
         </div>
       )}
 
+      {!loading && !error && nextPage !== null && (
+        <div className="text-center mt-3">
+          <button
+            className="btn btn-outline-primary"
+            onClick={loadMore}
+            disabled={loadingMore}
+          >
+            {loadingMore ? "Loading..." : "Load more"}
+          </button>
+        </div>
+      )}
+
       {/* Empty State */}
       {!loading && !error && filteredOpportunities.length === 0 && (
         <div className="text-center py-5">
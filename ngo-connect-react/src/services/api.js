@@ -297,14 +297,14 @@ export const ngoAPI = {
 export const donationAPI = {
   create: (donationData) => api.post('/donations', donationData),
   getUserDonations: (userId) => api.get(`/donations/user/${userId}`),
-  getNGODonations(ngoId) {
-    return api.get(`/donations/ngo/${ngoId}`);
+  getNGODonations(ngoId, cursor) {
+    return api.get(`/donations/ngo/${ngoId}`, { params: cursor ? { cursor } : {} });
   }
 };
 
 // Volunteer API
 export const volunteerAPI = {
-  getOpportunities: () => api.get('/opportunities'),
+  getOpportunities: (page = 0) => api.get('/opportunities', { params: { page } }),
   getOpportunityById: (id) => api.get(`/opportunities/${id}`),
   searchOpportunities: (filters) => api.get('/opportunities/search', { params: filters }),
   applyForOpportunity: (opportunityId, applicationData) => 
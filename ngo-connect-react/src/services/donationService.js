@@ -66,13 +66,16 @@ export const getDonationById = async (id) => {
 };
 
 /**
- * Gets donation history for a specific user
+ * Gets one page of donation history for a specific user
  * @param {string|number} userId - The ID of the user
- * @returns {Promise<Array>} Array of donation objects
+ * @param {string} [cursor] - nextCursor from the previous page
+ * @returns {Promise<Object>} Page with content, nextCursor, hasNext and summary
  */
-export const getDonationHistory = async (userId) => {
+export const getDonationHistory = async (userId, cursor) => {
   try {
-    const response = await api.get(`${DONATION_BASE_URL}/user/${userId}`);
+    const response = await api.get(`${DONATION_BASE_URL}/user/${userId}`, {
+      params: cursor ? { cursor } : {}
+    });
     return response.data;
   } catch (error) {
     console.error('Error fetching donation history:', error);